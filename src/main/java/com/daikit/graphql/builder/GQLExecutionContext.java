@@ -3,8 +3,6 @@ package com.daikit.graphql.builder;
 import java.util.ArrayList;
 import java.util.List;
 
-import graphql.execution.ExecutionContext;
-
 /**
  * Context for building the GQL schema and for execution. This is useful when
  * the schema is depending on who is logged in for example.
@@ -33,13 +31,14 @@ public class GQLExecutionContext {
 
 	@Override
 	public boolean equals(Object obj) {
-		return obj instanceof ExecutionContext && ((GQLExecutionContext) obj).getRoles().containsAll(roles)
+		return obj instanceof GQLExecutionContext && ((GQLExecutionContext) obj).getRolesJunction() == rolesJunction
+				&& ((GQLExecutionContext) obj).getRoles().containsAll(roles)
 				&& roles.containsAll(((GQLExecutionContext) obj).getRoles());
 	}
 
 	@Override
 	public int hashCode() {
-		return roles.stream().map(Object::hashCode).reduce(0, Integer::sum);
+		return 31 * roles.stream().distinct().map(Object::hashCode).reduce(0, Integer::sum) + rolesJunction.hashCode();
 	}
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -0,0 +1,141 @@
+package com.daikit.graphql.builder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLInputFieldsContainer;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.visibility.GraphqlFieldVisibility;
+
+/**
+ * {@link GraphqlFieldVisibility} hiding the fields of a schema built for all
+ * roles depending on the {@link GQLExecutionContext} of the request being
+ * executed. Visibility rules are the ones registered in the
+ * {@link GQLSchemaBuilderCache} while building the schema, they are evaluated
+ * against the {@link GQLExecutionContext} bound to the current thread with
+ * {@link #callWithExecutionContext(GQLExecutionContext, Supplier)}. When no
+ * context is bound, rules are evaluated against
+ * {@link GQLExecutionContext#DEFAULT} so that role restricted fields are not
+ * exposed by mistake. Asynchronous data fetcher results are completed with the
+ * request context bound by the executor.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLExecutionContextFieldVisibility implements GraphqlFieldVisibility {
+
+	private final ThreadLocal<GQLExecutionContext> currentExecutionContext = new ThreadLocal<>();
+	private volatile Map<FieldCoordinates, Predicate<GQLExecutionContext>> rules = Collections.emptyMap();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Register visibility rules. This is done by the schema builder once the
+	 * schema types are built.
+	 *
+	 * @param fieldVisibilityRules
+	 *            the visibility rules by field coordinates
+	 */
+	public void registerRules(final Map<FieldCoordinates, Predicate<GQLExecutionContext>> fieldVisibilityRules) {
+		final Map<FieldCoordinates, Predicate<GQLExecutionContext>> newRules = new HashMap<>(rules);
+		newRules.putAll(fieldVisibilityRules);
+		rules = Collections.unmodifiableMap(newRules);
+	}
+
+	/**
+	 * Call given supplier with given {@link GQLExecutionContext} bound to the
+	 * current thread. The previously bound context is restored afterwards.
+	 *
+	 * @param executionContext
+	 *            the {@link GQLExecutionContext}
+	 * @param supplier
+	 *            the {@link Supplier} to be called
+	 * @param <T>
+	 *            the supplier result type
+	 * @return the supplier result
+	 */
+	public <T> T callWithExecutionContext(final GQLExecutionContext executionContext, final Supplier<T> supplier) {
+		final GQLExecutionContext previousExecutionContext = currentExecutionContext.get();
+		currentExecutionContext.set(executionContext);
+		try {
+			return supplier.get();
+		} finally {
+			if (previousExecutionContext == null) {
+				currentExecutionContext.remove();
+			} else {
+				currentExecutionContext.set(previousExecutionContext);
+			}
+		}
+	}
+
+	/**
+	 * Get whether given field is visible for the {@link GQLExecutionContext}
+	 * bound to the current thread, or for {@link GQLExecutionContext#DEFAULT}
+	 * if no context is bound.
+	 *
+	 * @param typeName
+	 *            the name of the type holding the field
+	 * @param fieldName
+	 *            the field name
+	 * @return true if the field is visible
+	 */
+	public boolean isVisible(final String typeName, final String fieldName) {
+		final Predicate<GQLExecutionContext> rule = rules.get(FieldCoordinates.coordinates(typeName, fieldName));
+		if (rule == null) {
+			return true;
+		}
+		final GQLExecutionContext executionContext = currentExecutionContext.get();
+		return rule.test(executionContext == null ? GQLExecutionContext.DEFAULT : executionContext);
+	}
+
+	@Override
+	public List<GraphQLFieldDefinition> getFieldDefinitions(final GraphQLFieldsContainer fieldsContainer) {
+		return fieldsContainer.getFieldDefinitions().stream()
+				.filter(fieldDefinition -> isVisible(fieldsContainer.getName(), fieldDefinition.getName()))
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public GraphQLFieldDefinition getFieldDefinition(final GraphQLFieldsContainer fieldsContainer,
+			final String fieldName) {
+		final GraphQLFieldDefinition fieldDefinition = fieldsContainer.getFieldDefinition(fieldName);
+		return fieldDefinition != null && isVisible(fieldsContainer.getName(), fieldName) ? fieldDefinition : null;
+	}
+
+	@Override
+	public List<GraphQLInputObjectField> getFieldDefinitions(final GraphQLInputFieldsContainer fieldsContainer) {
+		return fieldsContainer.getFieldDefinitions().stream()
+				.filter(fieldDefinition -> isVisible(fieldsContainer.getName(), fieldDefinition.getName()))
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public GraphQLInputObjectField getFieldDefinition(final GraphQLInputFieldsContainer fieldsContainer,
+			final String fieldName) {
+		final GraphQLInputObjectField fieldDefinition = fieldsContainer.getFieldDefinition(fieldName);
+		return fieldDefinition != null && isVisible(fieldsContainer.getName(), fieldName) ? fieldDefinition : null;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return an {@link Optional} of the {@link GQLExecutionContext} bound to
+	 *         the current thread
+	 */
+	public Optional<GQLExecutionContext> getCurrentExecutionContext() {
+		return Optional.ofNullable(currentExecutionContext.get());
+	}
+
+}
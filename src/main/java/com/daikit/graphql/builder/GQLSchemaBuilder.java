@@ -2,6 +2,7 @@ package com.daikit.graphql.builder;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -25,16 +26,16 @@ import com.daikit.graphql.builder.types.GQLQueryPagingOutputTypeBuilder;
 import com.daikit.graphql.builder.types.GQLQueryTypeBuilder;
 import com.daikit.graphql.builder.types.GQLReferencesBuilder;
 import com.daikit.graphql.config.GQLSchemaConfig;
-import com.daikit.graphql.data.output.GQLDeleteResult;
-import com.daikit.graphql.data.output.GQLListLoadResult;
+import com.daikit.graphql.datafetcher.GQLAbstractBaseDeleteDataFetcher;
+import com.daikit.graphql.datafetcher.GQLAbstractBaseSaveDataFetcher;
 import com.daikit.graphql.datafetcher.GQLAbstractDataFetcher;
-import com.daikit.graphql.datafetcher.GQLAbstractGetListDataFetcher;
-import com.daikit.graphql.datafetcher.GQLAbstractSaveDataFetcher;
+import com.daikit.graphql.datafetcher.GQLAbstractListLoadConfigDataFetcher;
 import com.daikit.graphql.datafetcher.GQLCustomMethodDataFetcher;
 import com.daikit.graphql.datafetcher.GQLDynamicAttributeRegistry;
 import com.daikit.graphql.datafetcher.GQLPropertyDataFetcher;
 import com.daikit.graphql.meta.GQLInternalMetaModel;
 import com.daikit.graphql.meta.GQLMetaModel;
+import com.daikit.graphql.utils.Message;
 
 import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLCodeRegistry;
@@ -55,7 +56,12 @@ public class GQLSchemaBuilder {
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
 	/**
-	 * Initialize GraphQL schema from given {@link GQLMetaModel}
+	 * Initialize data fetchers and build GraphQL schema from given {@link GQLMetaModel}. This method is not thread safe as it
+	 * initializes given data fetchers : for building several schemas in parallel with the same data fetchers, call
+	 * {@link #initDataFetchers(GQLSchemaConfig, GQLInternalMetaModel, DataFetcher, DataFetcher, DataFetcher, DataFetcher, DataFetcher, List)}
+	 * once and then
+	 * {@link #buildSchema(GQLExecutionContext, GQLSchemaConfig, GQLInternalMetaModel, DataFetcher, DataFetcher, DataFetcher, DataFetcher, DataFetcher, List)}
+	 * for each context.
 	 *
 	 * @param executionContext        the {@link GQLExecutionContext}
 	 * @param schemaConfig            the schema configuration {@link GQLSchemaConfig}
@@ -71,33 +77,55 @@ public class GQLSchemaBuilder {
 	 */
 	public GraphQLSchema build(final GQLExecutionContext executionContext, final GQLSchemaConfig schemaConfig,
 			final GQLInternalMetaModel internalMetaModel, final DataFetcher<?> getByIdDataFetcher,
-			final DataFetcher<GQLListLoadResult> listDataFetcher, final DataFetcher<?> saveDataFetcher,
-			final DataFetcher<GQLDeleteResult> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
+			final DataFetcher<?> listDataFetcher, final DataFetcher<?> saveDataFetcher,
+			final DataFetcher<?> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
 			final List<GQLPropertyDataFetcher<?>> propertyDataFetchers) {
+		initDataFetchers(schemaConfig, internalMetaModel, getByIdDataFetcher, listDataFetcher, saveDataFetcher,
+				deleteDataFetcher, customMethodDataFetcher, propertyDataFetchers);
+		return buildSchema(executionContext, schemaConfig, internalMetaModel, getByIdDataFetcher, listDataFetcher,
+				saveDataFetcher, deleteDataFetcher, customMethodDataFetcher, propertyDataFetchers);
+	}
 
-		logger.debug("START building schema...");
-		final GQLSchemaBuilderCache cache = new GQLSchemaBuilderCache(schemaConfig);
-		final GraphQLSchema.Builder builder = GraphQLSchema.newSchema();
-
-		cache.setCodeRegistryBuilder(GraphQLCodeRegistry.newCodeRegistry());
+	/**
+	 * Initialize given data fetchers with the meta model, the schema configuration, the dynamic attributes registry and the custom
+	 * methods. This is to be done once before building schemas with
+	 * {@link #buildSchema(GQLExecutionContext, GQLSchemaConfig, GQLInternalMetaModel, DataFetcher, DataFetcher, DataFetcher, DataFetcher, DataFetcher, List)}.
+	 *
+	 * @param schemaConfig            the schema configuration {@link GQLSchemaConfig}
+	 * @param internalMetaModel       the {@link GQLInternalMetaModel} meta model
+	 * @param getByIdDataFetcher      the {@link DataFetcher} for 'getById' methods
+	 * @param listDataFetcher         the {@link DataFetcher} for 'getAll' methods
+	 * @param saveDataFetcher         the {@link DataFetcher} for 'save' methods
+	 * @param deleteDataFetcher       the {@link DataFetcher} for 'delete' methods
+	 * @param customMethodDataFetcher the {@link DataFetcher} for custom methods
+	 * @param propertyDataFetchers    custom {@link GQLPropertyDataFetcher} list
+	 */
+	public void initDataFetchers(final GQLSchemaConfig schemaConfig, final GQLInternalMetaModel internalMetaModel,
+			final DataFetcher<?> getByIdDataFetcher, final DataFetcher<?> listDataFetcher,
+			final DataFetcher<?> saveDataFetcher, final DataFetcher<?> deleteDataFetcher,
+			final DataFetcher<?> customMethodDataFetcher, final List<GQLPropertyDataFetcher<?>> propertyDataFetchers) {
 
+		logger.debug("START initializing data fetchers...");
 		final List<GQLPropertyDataFetcher<?>> nullSafePropertyDataFetchers = propertyDataFetchers == null
 				? Collections.emptyList()
 				: propertyDataFetchers;
 
 		final List<DataFetcher<?>> allDataFetchers = Stream.concat(Stream.of(getByIdDataFetcher, listDataFetcher,
-				saveDataFetcher, deleteDataFetcher, customMethodDataFetcher), propertyDataFetchers.stream())
+				saveDataFetcher, deleteDataFetcher, customMethodDataFetcher), nullSafePropertyDataFetchers.stream())
 				.collect(Collectors.toList());
 
 		setContext(schemaConfig, internalMetaModel, allDataFetchers);
 
 		final GQLDynamicAttributeRegistry dynAttrRegistry = new GQLDynamicAttributeRegistry(internalMetaModel);
 
-		if (listDataFetcher instanceof GQLAbstractGetListDataFetcher) {
-			((GQLAbstractGetListDataFetcher) listDataFetcher).setDynamicAttributeRegistry(dynAttrRegistry);
+		if (listDataFetcher instanceof GQLAbstractListLoadConfigDataFetcher) {
+			((GQLAbstractListLoadConfigDataFetcher<?>) listDataFetcher).setDynamicAttributeRegistry(dynAttrRegistry);
 		}
-		if (saveDataFetcher instanceof GQLAbstractSaveDataFetcher) {
-			((GQLAbstractSaveDataFetcher<?>) saveDataFetcher).setDynamicAttributeRegistry(dynAttrRegistry);
+		if (deleteDataFetcher instanceof GQLAbstractBaseDeleteDataFetcher) {
+			((GQLAbstractBaseDeleteDataFetcher<?>) deleteDataFetcher).setDynamicAttributeRegistry(dynAttrRegistry);
+		}
+		if (saveDataFetcher instanceof GQLAbstractBaseSaveDataFetcher) {
+			((GQLAbstractBaseSaveDataFetcher<?>) saveDataFetcher).setDynamicAttributeRegistry(dynAttrRegistry);
 		}
 
 		if (customMethodDataFetcher instanceof GQLCustomMethodDataFetcher) {
@@ -107,20 +135,60 @@ public class GQLSchemaBuilder {
 					.getCustomMethods().stream().map(method -> method.getMethod()).collect(Collectors.toList()));
 			logger.debug("END registering custom methods");
 		}
-		logger.debug("START building output reference types...");
+		logger.debug("END initializing data fetchers");
+	}
+
+	/**
+	 * Build GraphQL schema from given {@link GQLMetaModel} for given {@link GQLExecutionContext}. Given data fetchers must have been
+	 * initialized with
+	 * {@link #initDataFetchers(GQLSchemaConfig, GQLInternalMetaModel, DataFetcher, DataFetcher, DataFetcher, DataFetcher, DataFetcher, List)}.
+	 * This method only reads given parameters and may be called in parallel for several contexts.
+	 *
+	 * @param executionContext        the {@link GQLExecutionContext}
+	 * @param schemaConfig            the schema configuration {@link GQLSchemaConfig}
+	 * @param internalMetaModel       the {@link GQLInternalMetaModel} meta model
+	 * @param getByIdDataFetcher      the {@link DataFetcher} for 'getById' methods
+	 * @param listDataFetcher         the {@link DataFetcher} for 'getAll' methods
+	 * @param saveDataFetcher         the {@link DataFetcher} for 'save' methods
+	 * @param deleteDataFetcher       the {@link DataFetcher} for 'delete' methods
+	 * @param customMethodDataFetcher the {@link DataFetcher} for custom methods
+	 * @param propertyDataFetchers    custom {@link GQLPropertyDataFetcher} list
+	 *
+	 * @return the generated {@link GraphQLSchema}
+	 */
+	public GraphQLSchema buildSchema(final GQLExecutionContext executionContext, final GQLSchemaConfig schemaConfig,
+			final GQLInternalMetaModel internalMetaModel, final DataFetcher<?> getByIdDataFetcher,
+			final DataFetcher<?> listDataFetcher, final DataFetcher<?> saveDataFetcher,
+			final DataFetcher<?> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
+			final List<GQLPropertyDataFetcher<?>> propertyDataFetchers) {
+		return buildSchema(executionContext, buildSharedTypes(schemaConfig, internalMetaModel), internalMetaModel,
+				getByIdDataFetcher, listDataFetcher, saveDataFetcher, deleteDataFetcher, customMethodDataFetcher,
+				propertyDataFetchers);
+	}
+
+	/**
+	 * Build the role independent types shared by all schemas built from given {@link GQLMetaModel} : type references, enum types,
+	 * delete result, paging, order by and filter operator types. The returned cache is not to be modified afterwards and may be
+	 * given to
+	 * {@link #buildSchema(GQLExecutionContext, GQLSchemaBuilderCache, GQLInternalMetaModel, DataFetcher, DataFetcher, DataFetcher, DataFetcher, DataFetcher, List)}
+	 * concurrently.
+	 *
+	 * @param schemaConfig      the schema configuration {@link GQLSchemaConfig}
+	 * @param internalMetaModel the {@link GQLInternalMetaModel} meta model
+	 * @return the {@link GQLSchemaBuilderCache} holding shared types
+	 */
+	public GQLSchemaBuilderCache buildSharedTypes(final GQLSchemaConfig schemaConfig,
+			final GQLInternalMetaModel internalMetaModel) {
+		logger.debug("START building shared types...");
+		final GQLSchemaBuilderCache cache = new GQLSchemaBuilderCache(schemaConfig);
 		new GQLReferencesBuilder(cache).buildTypeReferences(internalMetaModel);
 		new GQLEnumTypesBuilder(cache).buildEnumTypes(internalMetaModel);
-		new GQLInterfaceTypesBuilder(cache).buildInterfaceTypes(executionContext, internalMetaModel,
-				nullSafePropertyDataFetchers);
-		new GQLEntityTypesBuilder(cache).buildEntityTypes(executionContext, internalMetaModel,
-				nullSafePropertyDataFetchers);
-		logger.debug("END building output reference types");
 
-		logger.debug("END building mutations utility types...");
+		logger.debug("START building mutations utility types...");
 		new GQLMutationDeleteResultOutputTypeBuilder(cache).buildDeleteResultOutputType();
 		logger.debug("END building mutations utility types");
 
-		logger.debug("END building queries utility types...");
+		logger.debug("START building queries utility types...");
 		new GQLQueryPagingInputTypeBuilder(cache).buildPagingInputType();
 		new GQLQueryPagingOutputTypeBuilder(cache).buildPagingOutputType();
 		new GQLQueryOrderByDirectionTypeBuilder(cache).buildOrderByDirectionType();
@@ -128,6 +196,122 @@ public class GQLSchemaBuilder {
 		new GQLQueryOrderByOutputTypeBuilder(cache).buildOrderByOutputType();
 		new GQLQueryFilterOperatorsInputTypeBuilder(cache).buildFilterOperatorsInputTypes(internalMetaModel);
 		logger.debug("END building queries utility types");
+		logger.debug("END building shared types");
+		return cache;
+	}
+
+	/**
+	 * Build GraphQL schema from given {@link GQLMetaModel} for given {@link GQLExecutionContext}, reusing given shared types built
+	 * with {@link #buildSharedTypes(GQLSchemaConfig, GQLInternalMetaModel)}. Only role dependent types (entities, input entities,
+	 * queries and mutations) are built. Given data fetchers must have been initialized with
+	 * {@link #initDataFetchers(GQLSchemaConfig, GQLInternalMetaModel, DataFetcher, DataFetcher, DataFetcher, DataFetcher, DataFetcher, List)}.
+	 * This method only reads given parameters and may be called in parallel for several contexts.
+	 *
+	 * @param executionContext        the {@link GQLExecutionContext}
+	 * @param sharedTypes             the {@link GQLSchemaBuilderCache} holding shared types
+	 * @param internalMetaModel       the {@link GQLInternalMetaModel} meta model
+	 * @param getByIdDataFetcher      the {@link DataFetcher} for 'getById' methods
+	 * @param listDataFetcher         the {@link DataFetcher} for 'getAll' methods
+	 * @param saveDataFetcher         the {@link DataFetcher} for 'save' methods
+	 * @param deleteDataFetcher       the {@link DataFetcher} for 'delete' methods
+	 * @param customMethodDataFetcher the {@link DataFetcher} for custom methods
+	 * @param propertyDataFetchers    custom {@link GQLPropertyDataFetcher} list
+	 *
+	 * @return the generated {@link GraphQLSchema}
+	 */
+	public GraphQLSchema buildSchema(final GQLExecutionContext executionContext, final GQLSchemaBuilderCache sharedTypes,
+			final GQLInternalMetaModel internalMetaModel, final DataFetcher<?> getByIdDataFetcher,
+			final DataFetcher<?> listDataFetcher, final DataFetcher<?> saveDataFetcher,
+			final DataFetcher<?> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
+			final List<GQLPropertyDataFetcher<?>> propertyDataFetchers) {
+		return buildSchema(executionContext, sharedTypes, null, internalMetaModel, getByIdDataFetcher, listDataFetcher,
+				saveDataFetcher, deleteDataFetcher, customMethodDataFetcher, propertyDataFetchers);
+	}
+
+	/**
+	 * Build a single GraphQL schema from given {@link GQLMetaModel} holding
+	 * the entities, fields, queries and mutations available for at least one
+	 * role, reusing given shared types built with
+	 * {@link #buildSharedTypes(GQLSchemaConfig, GQLInternalMetaModel)}. The
+	 * visibility of each role dependent field is then decided at execution
+	 * time by given {@link GQLExecutionContextFieldVisibility}, which is
+	 * registered in the schema code registry. Given data fetchers must have
+	 * been initialized with
+	 * {@link #initDataFetchers(GQLSchemaConfig, GQLInternalMetaModel, DataFetcher, DataFetcher, DataFetcher, DataFetcher, DataFetcher, List)}.
+	 *
+	 * @param fieldVisibility         the {@link GQLExecutionContextFieldVisibility} to be registered with visibility rules
+	 * @param sharedTypes             the {@link GQLSchemaBuilderCache} holding shared types
+	 * @param internalMetaModel       the {@link GQLInternalMetaModel} meta model
+	 * @param getByIdDataFetcher      the {@link DataFetcher} for 'getById' methods
+	 * @param listDataFetcher         the {@link DataFetcher} for 'getAll' methods
+	 * @param saveDataFetcher         the {@link DataFetcher} for 'save' methods
+	 * @param deleteDataFetcher       the {@link DataFetcher} for 'delete' methods
+	 * @param customMethodDataFetcher the {@link DataFetcher} for custom methods
+	 * @param propertyDataFetchers    custom {@link GQLPropertyDataFetcher} list
+	 *
+	 * @return the generated {@link GraphQLSchema}
+	 */
+	public GraphQLSchema buildSingleSchema(final GQLExecutionContextFieldVisibility fieldVisibility,
+			final GQLSchemaBuilderCache sharedTypes, final GQLInternalMetaModel internalMetaModel,
+			final DataFetcher<?> getByIdDataFetcher, final DataFetcher<?> listDataFetcher,
+			final DataFetcher<?> saveDataFetcher, final DataFetcher<?> deleteDataFetcher,
+			final DataFetcher<?> customMethodDataFetcher, final List<GQLPropertyDataFetcher<?>> propertyDataFetchers) {
+		return buildSchema(buildAllRolesExecutionContext(internalMetaModel), sharedTypes, fieldVisibility,
+				internalMetaModel, getByIdDataFetcher, listDataFetcher, saveDataFetcher, deleteDataFetcher,
+				customMethodDataFetcher, propertyDataFetchers);
+	}
+
+	/**
+	 * Build a {@link GQLExecutionContext} with all roles found in given
+	 * {@link GQLInternalMetaModel} entity and attribute rights, with a
+	 * {@link GQLExecutionContext.GQLRolesJunctionEnum#OR} junction. An
+	 * entity or attribute is readable, saveable or deletable for this
+	 * context as soon as it is for one of the roles.
+	 *
+	 * @param internalMetaModel the {@link GQLInternalMetaModel} meta model
+	 * @return the created {@link GQLExecutionContext}
+	 */
+	public GQLExecutionContext buildAllRolesExecutionContext(final GQLInternalMetaModel internalMetaModel) {
+		final Set<Object> roles = new LinkedHashSet<>();
+		internalMetaModel.getAllEntities().forEach(infos -> {
+			infos.getEntity().getRights().forEach(rights -> roles.add(rights.getRole()));
+			infos.getEntity().getAttributes()
+					.forEach(attribute -> attribute.getRights().forEach(rights -> roles.add(rights.getRole())));
+		});
+		final GQLExecutionContext executionContext = new GQLExecutionContext();
+		executionContext.setRoles(
+				roles.stream().filter(String.class::isInstance).map(String.class::cast).collect(Collectors.toList()));
+		executionContext.setRolesJunction(GQLExecutionContext.GQLRolesJunctionEnum.OR);
+		return executionContext;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private GraphQLSchema buildSchema(final GQLExecutionContext executionContext,
+			final GQLSchemaBuilderCache sharedTypes, final GQLExecutionContextFieldVisibility fieldVisibility,
+			final GQLInternalMetaModel internalMetaModel, final DataFetcher<?> getByIdDataFetcher,
+			final DataFetcher<?> listDataFetcher, final DataFetcher<?> saveDataFetcher,
+			final DataFetcher<?> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
+			final List<GQLPropertyDataFetcher<?>> propertyDataFetchers) {
+
+		logger.debug(Message.format("START building schema for context [{}]...", executionContext));
+		final GQLSchemaBuilderCache cache = new GQLSchemaBuilderCache(sharedTypes);
+		final GraphQLSchema.Builder builder = GraphQLSchema.newSchema();
+
+		cache.setCodeRegistryBuilder(GraphQLCodeRegistry.newCodeRegistry());
+
+		final List<GQLPropertyDataFetcher<?>> nullSafePropertyDataFetchers = propertyDataFetchers == null
+				? Collections.emptyList()
+				: propertyDataFetchers;
+
+		logger.debug("START building output reference types...");
+		new GQLInterfaceTypesBuilder(cache).buildInterfaceTypes(executionContext, internalMetaModel,
+				nullSafePropertyDataFetchers);
+		new GQLEntityTypesBuilder(cache).buildEntityTypes(executionContext, internalMetaModel,
+				nullSafePropertyDataFetchers);
+		logger.debug("END building output reference types");
 
 		logger.debug("START building mutation entities input types...");
 		new GQLInputEntityTypesBuilder(cache).buildInputEntities(executionContext, internalMetaModel);
@@ -146,6 +330,12 @@ public class GQLSchemaBuilder {
 		// Dictionary needed for "only-referred" types.
 		builder.additionalTypes(getDictionnaryTypes(cache));
 
+		if (fieldVisibility != null) {
+			logger.debug("Register field visibility");
+			fieldVisibility.registerRules(cache.getFieldVisibilityRules());
+			cache.getCodeRegistryBuilder().fieldVisibility(fieldVisibility);
+		}
+
 		logger.debug("Register code registry");
 		builder.codeRegistry(cache.getCodeRegistryBuilder().build());
 		final GraphQLSchema schema = builder.build();
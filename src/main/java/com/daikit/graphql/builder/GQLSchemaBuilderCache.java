@@ -3,6 +3,7 @@ package com.daikit.graphql.builder;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import com.daikit.graphql.config.GQLSchemaConfig;
 import com.daikit.graphql.utils.Message;
 
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLEnumType;
 import graphql.schema.GraphQLInputObjectType;
@@ -36,9 +38,11 @@ public class GQLSchemaBuilderCache {
 	private final Map<Class<?>, GraphQLObjectType> objectTypes = new HashMap<>();
 	// Type references for inputs
 	private final Map<Class<?>, GraphQLInputObjectType> inputEntityTypes = new HashMap<>();
+	private final Map<Class<?>, GraphQLInputObjectType> filterInputObjectTypes = new HashMap<>();
 
 	// Mutations utility types
 	private GraphQLOutputType deleteResultOutputObjectType;
+	private GraphQLOutputType deleteAllResultOutputObjectType;
 
 	// Queries utility types
 	private GraphQLEnumType orderByDirectionEnumType;
@@ -53,6 +57,9 @@ public class GQLSchemaBuilderCache {
 	// Data fetcher code registry
 	private GraphQLCodeRegistry.Builder codeRegistryBuilder;
 
+	// Role dependent field visibility rules
+	private final Map<FieldCoordinates, Predicate<GQLExecutionContext>> fieldVisibilityRules = new HashMap<>();
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// CONSTRUCTORS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -67,10 +74,71 @@ public class GQLSchemaBuilderCache {
 		this.schemaConfig = schemaConfig;
 	}
 
+	/**
+	 * Constructor initializing this cache with the role independent types of
+	 * given shared types cache : type references, enum types, delete results,
+	 * paging, order by and filter operator types. These types are immutable
+	 * and are reused as is, so that all schemas built from the same shared
+	 * types cache hold the same instances.
+	 *
+	 * @param sharedTypesCache
+	 *            the {@link GQLSchemaBuilderCache} holding shared types
+	 */
+	public GQLSchemaBuilderCache(final GQLSchemaBuilderCache sharedTypesCache) {
+		this(sharedTypesCache.getConfig());
+		typeReferences.putAll(sharedTypesCache.getTypeReferences());
+		enumTypes.putAll(sharedTypesCache.getEnumTypes());
+		deleteResultOutputObjectType = sharedTypesCache.getDeleteResultOutputObjectType();
+		deleteAllResultOutputObjectType = sharedTypesCache.getDeleteAllResultOutputObjectType();
+		orderByDirectionEnumType = sharedTypesCache.getOrderByDirectionEnumType();
+		pagingInputObjectType = sharedTypesCache.getPagingInputObjectType();
+		orderByInputObjectType = sharedTypesCache.getOrderByInputObjectType();
+		inputScalarFilterOperators.putAll(sharedTypesCache.getInputScalarFilterOperators());
+		inputEnumFilterOperators.putAll(sharedTypesCache.getInputEnumFilterOperators());
+		inputEntityCollectionFilterOperator = sharedTypesCache.getInputEntityCollectionFilterOperator();
+		pagingOutputObjectType = sharedTypesCache.getPagingOutputObjectType();
+		orderByOutputObjectType = sharedTypesCache.getOrderByOutputObjectType();
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// METHODS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
+	/**
+	 * Register the rule telling whether given field is visible for a
+	 * {@link GQLExecutionContext}. Fields without registered rule are always
+	 * visible.
+	 *
+	 * @param typeName
+	 *            the name of the type holding the field
+	 * @param fieldName
+	 *            the field name
+	 * @param rule
+	 *            the {@link Predicate} returning true if the field is visible
+	 *            for given {@link GQLExecutionContext}
+	 */
+	public void registerFieldVisibilityRule(final String typeName, final String fieldName,
+			final Predicate<GQLExecutionContext> rule) {
+		fieldVisibilityRules.put(FieldCoordinates.coordinates(typeName, fieldName), rule);
+	}
+
+	/**
+	 * Register for given type the field visibility rules of the fields it
+	 * gets from given interface type. Rules already registered for the type
+	 * are kept.
+	 *
+	 * @param interfaceTypeName
+	 *            the name of the interface type
+	 * @param typeName
+	 *            the name of the type implementing the interface
+	 */
+	public void inheritFieldVisibilityRules(final String interfaceTypeName, final String typeName) {
+		new HashMap<>(fieldVisibilityRules).entrySet().stream()
+				.filter(entry -> interfaceTypeName.equals(entry.getKey().getTypeName()))
+				.forEach(entry -> fieldVisibilityRules.putIfAbsent(
+						FieldCoordinates.coordinates(typeName, entry.getKey().getFieldName()), entry.getValue()));
+	}
+
 	/**
 	 * Get cached {@link GraphQLEnumType} by its related enum class
 	 *
@@ -224,6 +292,13 @@ public class GQLSchemaBuilderCache {
 		return inputEntityTypes;
 	}
 
+	/**
+	 * @return the filterInputObjectTypes
+	 */
+	public Map<Class<?>, GraphQLInputObjectType> getFilterInputObjectTypes() {
+		return filterInputObjectTypes;
+	}
+
 	/**
 	 * @return the orderByDirectionEnumType
 	 */
@@ -351,6 +426,21 @@ public class GQLSchemaBuilderCache {
 		this.deleteResultOutputObjectType = deleteResultOutputObjectType;
 	}
 
+	/**
+	 * @return the deleteAllResultOutputObjectType
+	 */
+	public GraphQLOutputType getDeleteAllResultOutputObjectType() {
+		return deleteAllResultOutputObjectType;
+	}
+
+	/**
+	 * @param deleteAllResultOutputObjectType
+	 *            the deleteAllResultOutputObjectType to set
+	 */
+	public void setDeleteAllResultOutputObjectType(final GraphQLOutputType deleteAllResultOutputObjectType) {
+		this.deleteAllResultOutputObjectType = deleteAllResultOutputObjectType;
+	}
+
 	/**
 	 * @param orderByOutputObjectType
 	 *            the orderByOutputObjectType to set
@@ -359,6 +449,13 @@ public class GQLSchemaBuilderCache {
 		this.orderByOutputObjectType = orderByOutputObjectType;
 	}
 
+	/**
+	 * @return the fieldVisibilityRules
+	 */
+	public Map<FieldCoordinates, Predicate<GQLExecutionContext>> getFieldVisibilityRules() {
+		return fieldVisibilityRules;
+	}
+
 	/**
 	 * @return the schemaConfig
 	 */
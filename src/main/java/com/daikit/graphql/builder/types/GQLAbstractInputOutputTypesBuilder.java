@@ -1,18 +1,33 @@
 package com.daikit.graphql.builder.types;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 import org.apache.commons.lang3.StringUtils;
 
 import com.daikit.graphql.builder.GQLAbstractSchemaSubBuilder;
 import com.daikit.graphql.builder.GQLSchemaBuilderCache;
+import com.daikit.graphql.builder.GQLSchemaBuilderUtils;
 import com.daikit.graphql.enums.GQLScalarTypeEnum;
 import com.daikit.graphql.meta.attribute.GQLAbstractAttributeMetaData;
+import com.daikit.graphql.meta.attribute.GQLAttributeEntityMetaData;
+import com.daikit.graphql.meta.attribute.GQLAttributeEnumMetaData;
+import com.daikit.graphql.meta.attribute.GQLAttributeListEntityMetaData;
+import com.daikit.graphql.meta.attribute.GQLAttributeListEnumMetaData;
+import com.daikit.graphql.meta.attribute.GQLAttributeListScalarMetaData;
 import com.daikit.graphql.meta.attribute.GQLAttributeScalarMetaData;
+import com.daikit.graphql.meta.entity.GQLEntityMetaData;
 import com.daikit.graphql.meta.internal.GQLAbstractEntityMetaDataInfos;
 import com.daikit.graphql.utils.Message;
 
+import graphql.Scalars;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLInputType;
+import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLNonNull;
 
 /**
@@ -77,4 +92,97 @@ public class GQLAbstractInputOutputTypesBuilder extends GQLAbstractSchemaSubBuil
 		return builder.build();
 	}
 
+	/**
+	 * Get the filter input type of given entity, shared by its 'getAll' query
+	 * and its 'deleteWhere' mutation. It is built on first call and cached.
+	 *
+	 * @param infos
+	 *            the {@link GQLAbstractEntityMetaDataInfos}
+	 * @return the {@link GraphQLInputObjectType}
+	 */
+	protected GraphQLInputObjectType getQueryFilterObjectType(final GQLAbstractEntityMetaDataInfos infos) {
+		return getCache().getFilterInputObjectTypes().computeIfAbsent(infos.getEntity().getEntityClass(),
+				entityClass -> buildQueryFilterObjectType(infos));
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private GraphQLInputObjectType buildQueryFilterObjectType(final GQLAbstractEntityMetaDataInfos infos) {
+		final GraphQLInputObjectType.Builder builder = GraphQLInputObjectType.newInputObject();
+		builder.name("Filter" + infos.getEntity().getName());
+		builder.description("Query filter object type for entity [" + infos.getEntity().getName() + "]");
+
+		final GraphQLInputObjectType filterFieldsObjectType = buildQueryFilterFieldsObjectType(infos);
+
+		// TODO add AND and OR filters here
+
+		// final GraphQLInputObjectType.Builder andOrFilterBuilder =
+		// GraphQLInputObjectType.newInputObject();
+		// final GraphQLInputObjectType andOrFilter =
+		// andOrFilterBuilder.build();
+		// return builder.build();
+
+		return filterFieldsObjectType;
+	}
+
+	private GraphQLInputObjectType buildQueryFilterFieldsObjectType(final GQLAbstractEntityMetaDataInfos infos) {
+		final GraphQLInputObjectType.Builder builder = GraphQLInputObjectType.newInputObject();
+		builder.name(infos.getEntity().getName() + getConfig().getQueryGetListFilterEntityTypeNameSuffix());
+		builder.description("Query filter fields object type for entity [" + infos.getEntity().getName() + "]");
+		final List<GraphQLInputObjectField> objectFields = new ArrayList<>();
+		// Add fields
+		GQLSchemaBuilderUtils.addOrReplaceInputObjectFields(objectFields,
+				buildQueryFilterInputObjectFields(infos.getEntity()));
+		builder.fields(objectFields);
+		return builder.build();
+	}
+
+	private List<GraphQLInputObjectField> buildQueryFilterInputObjectFields(final GQLEntityMetaData entity) {
+		return entity.getAttributes().stream().filter(attribute -> attribute.isFilterable())
+				.map(attribute -> buildQueryFilterInputObjectField(attribute)).filter(Objects::nonNull)
+				.collect(Collectors.toList());
+	}
+
+	private GraphQLInputObjectField buildQueryFilterInputObjectField(final GQLAbstractAttributeMetaData attribute) {
+		logger.debug(Message.format("Build query filter input object field for attribute [{}]", attribute.getName()));
+		GraphQLInputObjectField field = null;
+		final String name = attribute.getName();
+		final String description = "Filter [" + attribute.getName() + "]";
+		// Set attribute type
+		if (attribute instanceof GQLAttributeScalarMetaData) {
+			final GraphQLInputObjectType scalarType = getCache().getInputScalarFilterOperators()
+					.get(((GQLAttributeScalarMetaData) attribute).getScalarType());
+			if (scalarType == null) {
+				// Not handled
+			} else {
+				field = buildInputField(name, description, scalarType);
+			}
+		} else if (attribute instanceof GQLAttributeEnumMetaData) {
+			field = buildInputField(name, description, getCache().getInputEnumFilterOperators()
+					.get(((GQLAttributeEnumMetaData) attribute).getEnumClass()));
+		} else if (attribute instanceof GQLAttributeEntityMetaData) {
+			if (((GQLAttributeEntityMetaData) attribute).isEmbedded()) {
+				// Not handled
+			} else {
+				field = buildInputField(name + getConfig().getAttributeIdSuffix(),
+						"Filter [id] of [" + attribute.getName() + "]", Scalars.GraphQLID);
+				// TODO add operator
+			}
+		} else if (attribute instanceof GQLAttributeListEnumMetaData) {
+			field = buildInputField(name, description,
+					new GraphQLList(getCache().getEnumType(((GQLAttributeListEnumMetaData) attribute).getEnumClass())));
+			// TODO add operator
+		} else if (attribute instanceof GQLAttributeListEntityMetaData) {
+			// Not handled
+		} else if (attribute instanceof GQLAttributeListScalarMetaData) {
+			// Not handled
+		} else {
+			throw new IllegalArgumentException(
+					Message.format("Attribute could not be mapped to GraphQL [{}]", attribute));
+		}
+		return field;
+	}
+
 }
@@ -13,6 +13,9 @@ import com.daikit.graphql.builder.GQLExecutionContext;
 import com.daikit.graphql.builder.GQLSchemaBuilderCache;
 import com.daikit.graphql.builder.GQLSchemaBuilderUtils;
 import com.daikit.graphql.datafetcher.GQLDynamicAttributeDataFetcher;
+import com.daikit.graphql.datafetcher.GQLEntityBatchDataFetcher;
+import com.daikit.graphql.datafetcher.GQLEntityListBatchDataFetcher;
+import com.daikit.graphql.datafetcher.GQLGetterDataFetcher;
 import com.daikit.graphql.datafetcher.GQLPropertyDataFetcher;
 import com.daikit.graphql.meta.attribute.GQLAbstractAttributeMetaData;
 import com.daikit.graphql.meta.attribute.GQLAttributeEntityMetaData;
@@ -73,7 +76,7 @@ public class GQLAbstractTypesBuilder extends GQLAbstractSchemaSubBuilder {
 		return builder.build();
 	}
 
-	protected void registerIdDataFetcher(final GraphQLFieldsContainer fieldsContainer,
+	protected void registerIdDataFetcher(final GraphQLFieldsContainer fieldsContainer, final GQLEntityMetaData entity,
 			final GraphQLFieldDefinition idFieldDefinition,
 			final List<GQLPropertyDataFetcher<?>> propertiesDataFetchers) {
 		if (idFieldDefinition != null) {
@@ -81,11 +84,14 @@ public class GQLAbstractTypesBuilder extends GQLAbstractSchemaSubBuilder {
 					.filter(df -> getConfig().getAttributeIdName().equals(df.getGraphQLPropertyName())).findFirst();
 			if (dataFetcher.isPresent()) {
 				getCache().getCodeRegistryBuilder().dataFetcher(fieldsContainer, idFieldDefinition, dataFetcher.get());
+			} else {
+				getCache().getCodeRegistryBuilder().dataFetcher(fieldsContainer, idFieldDefinition,
+						new GQLGetterDataFetcher(entity.getEntityClass(), getConfig().getAttributeIdName()));
 			}
 		}
 	}
 
-	protected void registerOtherDataFetchers(final GraphQLFieldsContainer fieldsContainer,
+	protected void registerOtherDataFetchers(final GraphQLFieldsContainer fieldsContainer, final GQLEntityMetaData entity,
 			final Map<GQLAbstractAttributeMetaData, GraphQLFieldDefinition> fieldDefinitions,
 			final List<GQLPropertyDataFetcher<?>> propertiesDataFetchers) {
 		fieldDefinitions.entrySet().stream().forEach(entry -> {
@@ -103,11 +109,34 @@ public class GQLAbstractTypesBuilder extends GQLAbstractSchemaSubBuilder {
 				if (dataFetcher.isPresent()) {
 					getCache().getCodeRegistryBuilder().dataFetcher(fieldsContainer, entry.getValue(),
 							dataFetcher.get());
+				} else if (getConfig().getEntityBatchLoader() != null
+						&& entry.getKey() instanceof GQLAttributeEntityMetaData
+						&& !((GQLAttributeEntityMetaData) entry.getKey()).isEmbedded()) {
+					getCache().getCodeRegistryBuilder().dataFetcher(fieldsContainer, entry.getValue(),
+							new GQLEntityBatchDataFetcher(entry.getKey().getName(),
+									((GQLAttributeEntityMetaData) entry.getKey()).getEntityClass(),
+									getConfig().getAttributeIdName()));
+				} else if (getConfig().getEntityListBatchLoader() != null && !entity.isEmbedded()
+						&& entry.getKey() instanceof GQLAttributeListEntityMetaData
+						&& !((GQLAttributeListEntityMetaData) entry.getKey()).isEmbedded()) {
+					getCache().getCodeRegistryBuilder().dataFetcher(fieldsContainer, entry.getValue(),
+							new GQLEntityListBatchDataFetcher(entity.getEntityClass(), entry.getKey().getName(),
+									getConfig().getAttributeIdName()));
+				} else {
+					getCache().getCodeRegistryBuilder().dataFetcher(fieldsContainer, entry.getValue(),
+							new GQLGetterDataFetcher(entity.getEntityClass(), entry.getKey().getName()));
 				}
 			}
 		});
 	}
 
+	protected void registerFieldVisibilityRules(final GraphQLFieldsContainer fieldsContainer,
+			final Map<GQLAbstractAttributeMetaData, GraphQLFieldDefinition> fieldDefinitions) {
+		fieldDefinitions.entrySet().stream()
+				.forEach(entry -> getCache().registerFieldVisibilityRule(fieldsContainer.getName(),
+						entry.getValue().getName(), entry.getKey()::isReadable));
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// PRIVATE UTILS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
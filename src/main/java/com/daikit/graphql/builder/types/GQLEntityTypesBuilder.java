@@ -113,6 +113,7 @@ public class GQLEntityTypesBuilder extends GQLAbstractTypesBuilder {
 						.get(superInterface.getEntity().getEntityClass());
 				// set interface
 				builder.withInterface(interfaceType);
+				getCache().inheritFieldVisibilityRules(interfaceType.getName(), infos.getEntity().getName());
 				// Add fields from interface
 				GQLSchemaBuilderUtils.addOrReplaceFieldDefinitions(fieldDefinitions,
 						interfaceType.getFieldDefinitions());
@@ -131,11 +132,12 @@ public class GQLEntityTypesBuilder extends GQLAbstractTypesBuilder {
 
 		// // Register data fetcher for id
 		if (fieldDefinitions.contains(idFieldDefinition)) {
-			registerIdDataFetcher(objectType, idFieldDefinition, entityPropertiesDataFetchers);
+			registerIdDataFetcher(objectType, infos.getEntity(), idFieldDefinition, entityPropertiesDataFetchers);
 		}
 
 		// Register data fetcher for each other field definition
-		registerOtherDataFetchers(objectType, entityFieldDefinitions, entityPropertiesDataFetchers);
+		registerOtherDataFetchers(objectType, infos.getEntity(), entityFieldDefinitions, entityPropertiesDataFetchers);
+		registerFieldVisibilityRules(objectType, entityFieldDefinitions);
 
 		return objectType;
 	}
@@ -160,10 +160,16 @@ public class GQLInputEntityTypesBuilder extends GQLAbstractInputOutputTypesBuild
 		private List<GraphQLInputObjectField> buildInputEntityFields(final GQLExecutionContext executionContext,
 				final GQLAbstractEntityMetaDataInfos infos) {
 			logger.debug(Message.format("Build input save entity fields for entity [{}]", infos.getEntity().getName()));
+			final String inputTypeName = infos.getEntity().getName() + getConfig().getInputTypeNameSuffix();
 			final List<GraphQLInputObjectField> inputFields = infos.getEntity().getAttributes().stream()
-					.filter(attribute -> attribute.isSaveable(executionContext))
-					.map(attribute -> buildInputEntityField(executionContext, infos, attribute))
-					.flatMap(list -> list.stream()).filter(Objects::nonNull).collect(Collectors.toList());
+					.filter(attribute -> attribute.isSaveable(executionContext)).map(attribute -> {
+						final List<GraphQLInputObjectField> attributeInputFields = buildInputEntityField(
+								executionContext, infos, attribute);
+						attributeInputFields.stream().filter(Objects::nonNull)
+								.forEach(inputField -> getCache().registerFieldVisibilityRule(inputTypeName,
+										inputField.getName(), attribute::isSaveable));
+						return attributeInputFields;
+					}).flatMap(list -> list.stream()).filter(Objects::nonNull).collect(Collectors.toList());
 			return inputFields;
 		}
 
@@ -106,11 +106,12 @@ public class GQLInterfaceTypesBuilder extends GQLAbstractTypesBuilder {
 
 		// // Register data fetcher for id
 		if (fieldDefinitions.contains(idFieldDefinition)) {
-			registerIdDataFetcher(objectType, idFieldDefinition, interfacePropertiesDataFetchers);
+			registerIdDataFetcher(objectType, infos.getEntity(), idFieldDefinition, interfacePropertiesDataFetchers);
 		}
 
 		// Register data fetcher for each other field definition
-		registerOtherDataFetchers(objectType, entityFieldDefinitions, interfacePropertiesDataFetchers);
+		registerOtherDataFetchers(objectType, infos.getEntity(), entityFieldDefinitions, interfacePropertiesDataFetchers);
+		registerFieldVisibilityRules(objectType, entityFieldDefinitions);
 
 		getCache().getCodeRegistryBuilder().typeResolver(objectType, buildTypeResolver(infos));
 
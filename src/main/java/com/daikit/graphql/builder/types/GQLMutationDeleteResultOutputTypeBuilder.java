@@ -4,6 +4,7 @@ import com.daikit.graphql.builder.GQLSchemaBuilderCache;
 
 import graphql.Scalars;
 import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLObjectType;
 
 /**
@@ -32,11 +33,13 @@ public class GQLMutationDeleteResultOutputTypeBuilder extends GQLAbstractTypesBu
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
 	/**
-	 * Build delete result output type and cache it
+	 * Build delete result and delete all result output types and cache them
 	 */
 	public void buildDeleteResultOutputType() {
 		logger.debug("Build deleteResult output type");
 		getCache().setDeleteResultOutputObjectType(buildDeleteResultOutputObjectType());
+		logger.debug("Build deleteAllResult output type");
+		getCache().setDeleteAllResultOutputObjectType(buildDeleteAllResultOutputObjectType());
 	}
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -63,4 +66,30 @@ public class GQLMutationDeleteResultOutputTypeBuilder extends GQLAbstractTypesBu
 		return builder.build();
 	}
 
+	private GraphQLObjectType buildDeleteAllResultOutputObjectType() {
+		final GraphQLObjectType.Builder builder = GraphQLObjectType.newObject();
+		builder.name(getConfig().getOutputDeleteAllResultTypeNamePrefix() + getConfig().getOutputTypeNameSuffix());
+		builder.description("Output type for deletion by id list or filter mutation for all entities.");
+
+		final GraphQLFieldDefinition.Builder idsFieldBuilder = GraphQLFieldDefinition.newFieldDefinition();
+		idsFieldBuilder.name(getConfig().getMutationDeleteAllResultAttributeIds());
+		idsFieldBuilder.description("The ids of the deleted entities.");
+		idsFieldBuilder.type(new GraphQLList(Scalars.GraphQLString));
+		builder.field(idsFieldBuilder.build());
+
+		final GraphQLFieldDefinition.Builder countFieldBuilder = GraphQLFieldDefinition.newFieldDefinition();
+		countFieldBuilder.name(getConfig().getMutationDeleteAllResultAttributeCount());
+		countFieldBuilder.description("The number of deleted entities.");
+		countFieldBuilder.type(Scalars.GraphQLInt);
+		builder.field(countFieldBuilder.build());
+
+		final GraphQLFieldDefinition.Builder typenameFieldBuilder = GraphQLFieldDefinition.newFieldDefinition();
+		typenameFieldBuilder.name(getConfig().getMutationDeleteResultAttributeTypename());
+		typenameFieldBuilder.description("The type name of the deleted entities.");
+		typenameFieldBuilder.type(Scalars.GraphQLString);
+		builder.field(typenameFieldBuilder.build());
+
+		return builder.build();
+	}
+
 }
@@ -8,15 +8,18 @@ import java.util.stream.Collectors;
 import com.daikit.graphql.builder.GQLExecutionContext;
 import com.daikit.graphql.builder.GQLSchemaBuilderCache;
 import com.daikit.graphql.builder.custommethod.GQLCustomMethodBuilder;
-import com.daikit.graphql.data.output.GQLDeleteResult;
+import com.daikit.graphql.datafetcher.GQLAbstractBaseDeleteDataFetcher;
+import com.daikit.graphql.datafetcher.GQLAbstractBaseSaveDataFetcher;
 import com.daikit.graphql.meta.GQLInternalMetaModel;
 import com.daikit.graphql.meta.custommethod.GQLAbstractMethodMetaData;
 import com.daikit.graphql.meta.internal.GQLAbstractEntityMetaDataInfos;
 import com.daikit.graphql.utils.Message;
 
+import graphql.Scalars;
 import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLNonNull;
 import graphql.schema.GraphQLObjectType;
 
@@ -53,16 +56,23 @@ public class GQLMutationTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 	 * @param metaModel
 	 *            the {@link GQLInternalMetaModel}
 	 * @param saveDataFetcher
-	 *            the {@link DataFetcher} for create/update
+	 *            the {@link DataFetcher} for create/update. For list of
+	 *            entities save mutations, the data fetcher given by
+	 *            {@link GQLAbstractBaseSaveDataFetcher#getSaveAllDataFetcher()}
+	 *            is used if it is a {@link GQLAbstractBaseSaveDataFetcher},
+	 *            otherwise it is used as is.
 	 * @param deleteDataFetcher
-	 *            the {@link DataFetcher} for delete
+	 *            the {@link DataFetcher} for delete by ID. For deletion by
+	 *            ID list and by filter mutations, the data fetchers given by
+	 *            a {@link GQLAbstractBaseDeleteDataFetcher} are used,
+	 *            otherwise it is used as is.
 	 * @param customMethodsDataFetcher
 	 *            the {@link DataFetcher} for custom methods
 	 * @return the created {@link GraphQLObjectType}
 	 */
 	public GraphQLObjectType buildMutationType(GQLExecutionContext executionContext,
 			final GQLInternalMetaModel metaModel, final DataFetcher<?> saveDataFetcher,
-			final DataFetcher<GQLDeleteResult> deleteDataFetcher, final DataFetcher<?> customMethodsDataFetcher) {
+			final DataFetcher<?> deleteDataFetcher, final DataFetcher<?> customMethodsDataFetcher) {
 		logger.debug("START building mutation types...");
 
 		final GraphQLObjectType.Builder builder = GraphQLObjectType.newObject();
@@ -74,10 +84,22 @@ public class GQLMutationTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 				.filter(infos -> infos.getEntity().isSaveable(executionContext))
 				.map(infos -> buildSaveMutationFieldDefinition(infos)).collect(Collectors.toList());
 		builder.fields(saveFieldDefinitions);
+		final List<GraphQLFieldDefinition> saveAllFieldDefinitions = metaModel.getNonEmbeddedConcretes().stream()
+				.filter(infos -> infos.getEntity().isSaveable(executionContext))
+				.map(infos -> buildSaveAllMutationFieldDefinition(infos)).collect(Collectors.toList());
+		builder.fields(saveAllFieldDefinitions);
 		final List<GraphQLFieldDefinition> deleteFieldDefinitions = metaModel.getNonEmbeddedConcretes().stream()
 				.filter(infos -> infos.getEntity().isDeletable(executionContext))
 				.map(infos -> buildDeleteMutationFieldDefinition(infos)).collect(Collectors.toList());
 		builder.fields(deleteFieldDefinitions);
+		final List<GraphQLFieldDefinition> deleteAllFieldDefinitions = metaModel.getNonEmbeddedConcretes().stream()
+				.filter(infos -> infos.getEntity().isDeletable(executionContext))
+				.map(infos -> buildDeleteAllMutationFieldDefinition(infos)).collect(Collectors.toList());
+		builder.fields(deleteAllFieldDefinitions);
+		final List<GraphQLFieldDefinition> deleteWhereFieldDefinitions = metaModel.getNonEmbeddedConcretes().stream()
+				.filter(infos -> infos.getEntity().isDeletable(executionContext))
+				.map(infos -> buildDeleteWhereMutationFieldDefinition(infos)).collect(Collectors.toList());
+		builder.fields(deleteWhereFieldDefinitions);
 
 		logger.debug("Build mutation types for custom methods...");
 		final Map<GQLAbstractMethodMetaData, GraphQLFieldDefinition> customMethodFieldDefinitions = new GQLCustomMethodBuilder(
@@ -89,11 +111,43 @@ public class GQLMutationTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 		// Build mutation type
 		final GraphQLObjectType mutationType = builder.build();
 
+		// Register visibility rules for each entity field definition
+		metaModel.getNonEmbeddedConcretes().forEach(infos -> {
+			getCache().registerFieldVisibilityRule(mutationType.getName(),
+					getConfig().getMutationSavePrefix() + infos.getEntity().getName(), infos.getEntity()::isSaveable);
+			getCache().registerFieldVisibilityRule(mutationType.getName(),
+					getConfig().getMutationSaveAllPrefix() + infos.getEntity().getName(), infos.getEntity()::isSaveable);
+			getCache().registerFieldVisibilityRule(mutationType.getName(),
+					getConfig().getMutationDeletePrefix() + infos.getEntity().getName(),
+					infos.getEntity()::isDeletable);
+			getCache().registerFieldVisibilityRule(mutationType.getName(),
+					getConfig().getMutationDeleteAllPrefix() + infos.getEntity().getName(),
+					infos.getEntity()::isDeletable);
+			getCache().registerFieldVisibilityRule(mutationType.getName(),
+					getConfig().getMutationDeleteWherePrefix() + infos.getEntity().getName(),
+					infos.getEntity()::isDeletable);
+		});
+
 		// Register data fetcher for each field definition
 		saveFieldDefinitions.forEach(fieldDefinition -> getCache().getCodeRegistryBuilder().dataFetcher(mutationType,
 				fieldDefinition, saveDataFetcher));
+		final DataFetcher<?> saveAllDataFetcher = saveDataFetcher instanceof GQLAbstractBaseSaveDataFetcher
+				? ((GQLAbstractBaseSaveDataFetcher<?>) saveDataFetcher).getSaveAllDataFetcher()
+				: saveDataFetcher;
+		saveAllFieldDefinitions.forEach(fieldDefinition -> getCache().getCodeRegistryBuilder().dataFetcher(mutationType,
+				fieldDefinition, saveAllDataFetcher));
 		deleteFieldDefinitions.forEach(fieldDefinition -> getCache().getCodeRegistryBuilder().dataFetcher(mutationType,
 				fieldDefinition, deleteDataFetcher));
+		final DataFetcher<?> deleteAllDataFetcher = deleteDataFetcher instanceof GQLAbstractBaseDeleteDataFetcher
+				? ((GQLAbstractBaseDeleteDataFetcher<?>) deleteDataFetcher).getDeleteAllDataFetcher()
+				: deleteDataFetcher;
+		final DataFetcher<?> deleteWhereDataFetcher = deleteDataFetcher instanceof GQLAbstractBaseDeleteDataFetcher
+				? ((GQLAbstractBaseDeleteDataFetcher<?>) deleteDataFetcher).getDeleteWhereDataFetcher()
+				: deleteDataFetcher;
+		deleteAllFieldDefinitions.forEach(fieldDefinition -> getCache().getCodeRegistryBuilder()
+				.dataFetcher(mutationType, fieldDefinition, deleteAllDataFetcher));
+		deleteWhereFieldDefinitions.forEach(fieldDefinition -> getCache().getCodeRegistryBuilder()
+				.dataFetcher(mutationType, fieldDefinition, deleteWhereDataFetcher));
 		customMethodFieldDefinitions.entrySet().forEach(entry -> getCache().getCodeRegistryBuilder()
 				.dataFetcher(mutationType, entry.getValue(), customMethodsDataFetcher));
 
@@ -124,6 +178,26 @@ public class GQLMutationTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 		return builder.build();
 	}
 
+	private GraphQLFieldDefinition buildSaveAllMutationFieldDefinition(final GQLAbstractEntityMetaDataInfos infos) {
+		logger.debug(Message.format("Build save all mutation for entity [{}]", infos.getEntity().getName()));
+		final GraphQLFieldDefinition.Builder builderSaveAll = GraphQLFieldDefinition.newFieldDefinition();
+		builderSaveAll.name(getConfig().getMutationSaveAllPrefix() + infos.getEntity().getName());
+		builderSaveAll.description("Entity list save mutation for [" + infos.getEntity().getName() + "].");
+		builderSaveAll.type(new GraphQLList(getCache().getEntityType(infos.getEntity().getEntityClass())));
+		builderSaveAll.argument(buildSaveAllMutationArgument(infos));
+		return builderSaveAll.build();
+	}
+
+	private GraphQLArgument buildSaveAllMutationArgument(final GQLAbstractEntityMetaDataInfos infos) {
+		logger.debug(Message.format("Build save all mutation argument for entity [{}]", infos.getEntity().getName()));
+		final GraphQLArgument.Builder builder = GraphQLArgument.newArgument();
+		builder.name(getConfig().getMutationAttributeInputDataName());
+		builder.description("Entity list save mutation argument for [" + infos.getEntity().getName() + "]");
+		builder.type(new GraphQLNonNull(
+				new GraphQLList(new GraphQLNonNull(getCache().getInputEntityType(infos.getEntity().getEntityClass())))));
+		return builder.build();
+	}
+
 	private GraphQLFieldDefinition buildDeleteMutationFieldDefinition(final GQLAbstractEntityMetaDataInfos infos) {
 		logger.debug(Message.format("Build delete mutation for entity [{}]", infos.getEntity().getName()));
 		final GraphQLFieldDefinition.Builder builderDelete = GraphQLFieldDefinition.newFieldDefinition();
@@ -134,4 +208,33 @@ public class GQLMutationTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 		return builderDelete.build();
 	}
 
+	private GraphQLFieldDefinition buildDeleteAllMutationFieldDefinition(final GQLAbstractEntityMetaDataInfos infos) {
+		logger.debug(Message.format("Build delete all mutation for entity [{}]", infos.getEntity().getName()));
+		final GraphQLFieldDefinition.Builder builderDeleteAll = GraphQLFieldDefinition.newFieldDefinition();
+		builderDeleteAll.name(getConfig().getMutationDeleteAllPrefix() + infos.getEntity().getName());
+		builderDeleteAll.description("Entity delete by ID list mutation for [" + infos.getEntity().getName() + "].");
+		builderDeleteAll.type(getCache().getDeleteAllResultOutputObjectType());
+		final GraphQLArgument.Builder argumentBuilder = GraphQLArgument.newArgument();
+		argumentBuilder.name(getConfig().getMutationDeleteAllAttributeIdsName());
+		argumentBuilder.description("IDs of the [" + infos.getEntity().getName() + "] entities to be deleted");
+		argumentBuilder.type(new GraphQLNonNull(new GraphQLList(new GraphQLNonNull(Scalars.GraphQLID))));
+		builderDeleteAll.argument(argumentBuilder.build());
+		return builderDeleteAll.build();
+	}
+
+	private GraphQLFieldDefinition buildDeleteWhereMutationFieldDefinition(final GQLAbstractEntityMetaDataInfos infos) {
+		logger.debug(Message.format("Build delete where mutation for entity [{}]", infos.getEntity().getName()));
+		final GraphQLFieldDefinition.Builder builderDeleteWhere = GraphQLFieldDefinition.newFieldDefinition();
+		builderDeleteWhere.name(getConfig().getMutationDeleteWherePrefix() + infos.getEntity().getName());
+		builderDeleteWhere.description("Entity delete by filter mutation for [" + infos.getEntity().getName() + "].");
+		builderDeleteWhere.type(getCache().getDeleteAllResultOutputObjectType());
+		final GraphQLArgument.Builder argumentBuilder = GraphQLArgument.newArgument();
+		argumentBuilder.name(getConfig().getQueryGetListFilterAttributeName());
+		argumentBuilder.description("Filter of the [" + infos.getEntity().getName() + "] entities to be deleted");
+		// Mandatory so that purging all entities is explicit
+		argumentBuilder.type(new GraphQLNonNull(getQueryFilterObjectType(infos)));
+		builderDeleteWhere.argument(argumentBuilder.build());
+		return builderDeleteWhere.build();
+	}
+
 }
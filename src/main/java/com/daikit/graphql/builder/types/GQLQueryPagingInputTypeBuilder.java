@@ -56,7 +56,10 @@ public class GQLQueryPagingInputTypeBuilder extends GQLAbstractTypesBuilder {
 						+ getConfig().getQueryGetListPagingAttributeName() + ": { "
 						+ getConfig().getQueryGetListPagingAttributeOffsetName() + ": 0, "
 						+ getConfig().getQueryGetListPagingAttributeLimitName() + ": "
-						+ getConfig().getQueryGetListPagingAttributeLimitDefaultValue() + " })");
+						+ getConfig().getQueryGetListPagingAttributeLimitDefaultValue() + " }). For cursor paging, specify the page size ["
+						+ getConfig().getQueryGetListPagingAttributeFirstName() + "] and, except for the first page, the ["
+						+ getConfig().getQueryGetListPagingAttributeAfterName() + "] cursor returned as ["
+						+ getConfig().getQueryGetListPagingAttributeNextCursorName() + "] with the previous page.");
 
 		final GraphQLInputObjectField.Builder offsetFieldBuilder = GraphQLInputObjectField.newInputObjectField();
 		offsetFieldBuilder.name(getConfig().getQueryGetListPagingAttributeOffsetName());
@@ -75,6 +78,22 @@ public class GQLQueryPagingInputTypeBuilder extends GQLAbstractTypesBuilder {
 		offsetFieldBuilder.defaultValue(getConfig().getQueryGetListPagingAttributeLimitDefaultValue());
 		builder.field(liitFieldBuilder.build());
 
+		final GraphQLInputObjectField.Builder firstFieldBuilder = GraphQLInputObjectField.newInputObjectField();
+		firstFieldBuilder.name(getConfig().getQueryGetListPagingAttributeFirstName());
+		firstFieldBuilder.description(
+				"How many results should the resulting load result contain for cursor paging. This is equivalent to the page size. Default value is ["
+						+ getConfig().getQueryGetListPagingAttributeLimitDefaultValue() + "]");
+		firstFieldBuilder.type(Scalars.GraphQLInt);
+		builder.field(firstFieldBuilder.build());
+
+		final GraphQLInputObjectField.Builder afterFieldBuilder = GraphQLInputObjectField.newInputObjectField();
+		afterFieldBuilder.name(getConfig().getQueryGetListPagingAttributeAfterName());
+		afterFieldBuilder.description(
+				"Cursor paging opaque cursor returned with the previous page. Results after the last result of the previous page are returned, in the same order. It cannot be used with ["
+						+ getConfig().getQueryGetListPagingAttributeOffsetName() + "] and the query order by must not change between pages.");
+		afterFieldBuilder.type(Scalars.GraphQLString);
+		builder.field(afterFieldBuilder.build());
+
 		return builder.build();
 	}
 
@@ -72,6 +72,20 @@ public class GQLQueryPagingOutputTypeBuilder extends GQLAbstractTypesBuilder {
 		totalLengthBuilder.description("Total number of results on the database for this query.");
 		totalLengthBuilder.type(Scalars.GraphQLLong);
 		builder.field(totalLengthBuilder.build());
+		// Paging next cursor field
+		final GraphQLFieldDefinition.Builder nextCursorBuilder = GraphQLFieldDefinition.newFieldDefinition();
+		nextCursorBuilder.name(getConfig().getQueryGetListPagingAttributeNextCursorName());
+		nextCursorBuilder.description(
+				"Cursor to be given as [" + getConfig().getQueryGetListPagingAttributeAfterName()
+						+ "] paging parameter to retrieve the next page. Null if there is no next page. Only meaningful for cursor paging requests.");
+		nextCursorBuilder.type(Scalars.GraphQLString);
+		builder.field(nextCursorBuilder.build());
+		// Paging has next field
+		final GraphQLFieldDefinition.Builder hasNextBuilder = GraphQLFieldDefinition.newFieldDefinition();
+		hasNextBuilder.name(getConfig().getQueryGetListPagingAttributeHasNextName());
+		hasNextBuilder.description("Whether there are results after this page. Only meaningful for cursor paging requests.");
+		hasNextBuilder.type(Scalars.GraphQLBoolean);
+		builder.field(hasNextBuilder.build());
 
 		return builder.build();
 	}
@@ -3,24 +3,13 @@ package com.daikit.graphql.builder.types;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.daikit.graphql.builder.GQLExecutionContext;
 import com.daikit.graphql.builder.GQLSchemaBuilderCache;
-import com.daikit.graphql.builder.GQLSchemaBuilderUtils;
 import com.daikit.graphql.builder.custommethod.GQLCustomMethodBuilder;
-import com.daikit.graphql.data.output.GQLListLoadResult;
 import com.daikit.graphql.meta.GQLInternalMetaModel;
-import com.daikit.graphql.meta.attribute.GQLAbstractAttributeMetaData;
-import com.daikit.graphql.meta.attribute.GQLAttributeEntityMetaData;
-import com.daikit.graphql.meta.attribute.GQLAttributeEnumMetaData;
-import com.daikit.graphql.meta.attribute.GQLAttributeListEntityMetaData;
-import com.daikit.graphql.meta.attribute.GQLAttributeListEnumMetaData;
-import com.daikit.graphql.meta.attribute.GQLAttributeListScalarMetaData;
-import com.daikit.graphql.meta.attribute.GQLAttributeScalarMetaData;
 import com.daikit.graphql.meta.custommethod.GQLAbstractMethodMetaData;
-import com.daikit.graphql.meta.entity.GQLEntityMetaData;
 import com.daikit.graphql.meta.internal.GQLAbstractEntityMetaDataInfos;
 import com.daikit.graphql.utils.Assert;
 import com.daikit.graphql.utils.Message;
@@ -29,9 +18,8 @@ import graphql.Scalars;
 import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLFieldDefinition;
-import graphql.schema.GraphQLInputObjectField;
-import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
 import graphql.schema.GraphQLObjectType;
 
 /**
@@ -75,7 +63,7 @@ public class GQLQueryTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 	 * @return the created {@link GraphQLObjectType}
 	 */
 	public GraphQLObjectType buildQueryType(GQLExecutionContext executionContext, final GQLInternalMetaModel metaModel,
-			final DataFetcher<?> getByIdDataFetcher, final DataFetcher<GQLListLoadResult> listDataFetcher,
+			final DataFetcher<?> getByIdDataFetcher, final DataFetcher<?> listDataFetcher,
 			final DataFetcher<?> customMethodsDataFetcher) {
 		logger.debug("START building query types...");
 
@@ -90,14 +78,18 @@ public class GQLQueryTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 		metaModel.getNonEmbeddedInterfaces().stream().filter(infos -> infos.getEntity().isReadable(executionContext))
 				.forEach(infos -> {
 					getByIdFieldDefinitions.add(buildGetSingleQueryFieldDefinitions(infos, true));
+					getByIdFieldDefinitions.add(buildGetByIdsQueryFieldDefinitions(infos, true));
 					getAllFieldDefinitions.add(buildGetAllQueryFieldDefinitions(infos, true));
+					registerFieldVisibilityRules(infos);
 				});
 
 		logger.debug("Build query types for entities...");
 		metaModel.getNonEmbeddedConcretes().stream().filter(infos -> infos.getEntity().isReadable(executionContext))
 				.forEach(infos -> {
 					getByIdFieldDefinitions.add(buildGetSingleQueryFieldDefinitions(infos, false));
+					getByIdFieldDefinitions.add(buildGetByIdsQueryFieldDefinitions(infos, false));
 					getAllFieldDefinitions.add(buildGetAllQueryFieldDefinitions(infos, false));
+					registerFieldVisibilityRules(infos);
 				});
 
 		builder.fields(getByIdFieldDefinitions);
@@ -137,6 +129,15 @@ public class GQLQueryTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 	// PRIVATE UTILS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
+	private void registerFieldVisibilityRules(final GQLAbstractEntityMetaDataInfos infos) {
+		getCache().registerFieldVisibilityRule(getConfig().getQueryTypeName(),
+				getConfig().getQueryGetByIdPrefix() + infos.getEntity().getName(), infos.getEntity()::isReadable);
+		getCache().registerFieldVisibilityRule(getConfig().getQueryTypeName(), getConfig().getQueryGetByIdPrefix()
+				+ infos.getEntity().getName() + getConfig().getQueryGetByIdsSuffix(), infos.getEntity()::isReadable);
+		getCache().registerFieldVisibilityRule(getConfig().getQueryTypeName(),
+				getConfig().getQueryGetListPrefix() + infos.getEntity().getName(), infos.getEntity()::isReadable);
+	}
+
 	private GraphQLFieldDefinition buildGetSingleQueryFieldDefinitions(final GQLAbstractEntityMetaDataInfos infos,
 			final boolean isInterface) {
 		logger.debug(
@@ -155,6 +156,30 @@ public class GQLQueryTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 		return builder.build();
 	}
 
+	private GraphQLFieldDefinition buildGetByIdsQueryFieldDefinitions(final GQLAbstractEntityMetaDataInfos infos,
+			final boolean isInterface) {
+		logger.debug(
+				Message.format("Build 'getByIds' query type for " + (isInterface ? "interface" : "entity") + " [{}]",
+						infos.getEntity().getName()));
+		// Query for entities by ID list
+		final GraphQLFieldDefinition.Builder builder = GraphQLFieldDefinition.newFieldDefinition();
+		builder.name(getConfig().getQueryGetByIdPrefix() + infos.getEntity().getName()
+				+ getConfig().getQueryGetByIdsSuffix());
+		builder.description((isInterface ? "Interface" : "Entity") + " multiple result query for ["
+				+ infos.getEntity().getName() + "]. This method only accepts the mandatory ["
+				+ getConfig().getQueryGetByIdsAttributeIdsName()
+				+ "] parameter and returns results in the same order, with null for IDs not found.");
+		builder.type(new GraphQLList(isInterface
+				? getCache().getInterfaceType(infos.getEntity().getEntityClass())
+				: getCache().getEntityType(infos.getEntity().getEntityClass())));
+		final GraphQLArgument.Builder argumentBuilder = GraphQLArgument.newArgument();
+		argumentBuilder.name(getConfig().getQueryGetByIdsAttributeIdsName());
+		argumentBuilder.description("IDs of the [" + infos.getEntity().getName() + "] entities to be retrieved");
+		argumentBuilder.type(new GraphQLNonNull(new GraphQLList(new GraphQLNonNull(Scalars.GraphQLID))));
+		builder.argument(argumentBuilder.build());
+		return builder.build();
+	}
+
 	private GraphQLFieldDefinition buildGetAllQueryFieldDefinitions(final GQLAbstractEntityMetaDataInfos infos,
 			final boolean isInterface) {
 		logger.debug("Build 'getAll' query type for " + (isInterface ? "interface" : "entity") + " [{}]",
@@ -192,7 +217,7 @@ public class GQLQueryTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 		final GraphQLArgument.Builder builder = GraphQLArgument.newArgument();
 		builder.name("filter");
 		builder.description("Query filter argument for [" + infos.getEntity().getName() + "]");
-		builder.type(buildQueryFilterObjectType(infos));
+		builder.type(getQueryFilterObjectType(infos));
 		final GraphQLArgument ret = builder.build();
 		return ret;
 	}
@@ -204,82 +229,6 @@ public class GQLQueryTypeBuilder extends GQLAbstractInputOutputTypesBuilder {
 		return builder.build();
 	}
 
-	private GraphQLInputObjectType buildQueryFilterObjectType(final GQLAbstractEntityMetaDataInfos infos) {
-		final GraphQLInputObjectType.Builder builder = GraphQLInputObjectType.newInputObject();
-		builder.name("Filter" + infos.getEntity().getName());
-		builder.description("Query filter object type for entity [" + infos.getEntity().getName() + "]");
-
-		final GraphQLInputObjectType filterFieldsObjectType = buildQueryFilterFieldsObjectType(infos);
-
-		// TODO add AND and OR filters here
-
-		// final GraphQLInputObjectType.Builder andOrFilterBuilder =
-		// GraphQLInputObjectType.newInputObject();
-		// final GraphQLInputObjectType andOrFilter =
-		// andOrFilterBuilder.build();
-		// return builder.build();
-
-		return filterFieldsObjectType;
-	}
-
-	private GraphQLInputObjectType buildQueryFilterFieldsObjectType(final GQLAbstractEntityMetaDataInfos infos) {
-		final GraphQLInputObjectType.Builder builder = GraphQLInputObjectType.newInputObject();
-		builder.name(infos.getEntity().getName() + getConfig().getQueryGetListFilterEntityTypeNameSuffix());
-		builder.description("Query filter fields object type for entity [" + infos.getEntity().getName() + "]");
-		final List<GraphQLInputObjectField> objectFields = new ArrayList<>();
-		// Add fields
-		GQLSchemaBuilderUtils.addOrReplaceInputObjectFields(objectFields,
-				buildQueryFilterInputObjectFields(infos.getEntity()));
-		builder.fields(objectFields);
-		return builder.build();
-	}
-
-	private List<GraphQLInputObjectField> buildQueryFilterInputObjectFields(final GQLEntityMetaData entity) {
-		return entity.getAttributes().stream().filter(attribute -> attribute.isFilterable())
-				.map(attribute -> buildQueryFilterInputObjectField(attribute)).filter(Objects::nonNull)
-				.collect(Collectors.toList());
-	}
-
-	private GraphQLInputObjectField buildQueryFilterInputObjectField(final GQLAbstractAttributeMetaData attribute) {
-		logger.debug(Message.format("Build query filter input object field for attribute [{}]", attribute.getName()));
-		GraphQLInputObjectField field = null;
-		final String name = attribute.getName();
-		final String description = "Filter [" + attribute.getName() + "]";
-		// Set attribute type
-		if (attribute instanceof GQLAttributeScalarMetaData) {
-			final GraphQLInputObjectType scalarType = getCache().getInputScalarFilterOperators()
-					.get(((GQLAttributeScalarMetaData) attribute).getScalarType());
-			if (scalarType == null) {
-				// Not handled
-			} else {
-				field = buildInputField(name, description, scalarType);
-			}
-		} else if (attribute instanceof GQLAttributeEnumMetaData) {
-			field = buildInputField(name, description, getCache().getInputEnumFilterOperators()
-					.get(((GQLAttributeEnumMetaData) attribute).getEnumClass()));
-		} else if (attribute instanceof GQLAttributeEntityMetaData) {
-			if (((GQLAttributeEntityMetaData) attribute).isEmbedded()) {
-				// Not handled
-			} else {
-				field = buildInputField(name + getConfig().getAttributeIdSuffix(),
-						"Filter [id] of [" + attribute.getName() + "]", Scalars.GraphQLID);
-				// TODO add operator
-			}
-		} else if (attribute instanceof GQLAttributeListEnumMetaData) {
-			field = buildInputField(name, description,
-					new GraphQLList(getCache().getEnumType(((GQLAttributeListEnumMetaData) attribute).getEnumClass())));
-			// TODO add operator
-		} else if (attribute instanceof GQLAttributeListEntityMetaData) {
-			// Not handled
-		} else if (attribute instanceof GQLAttributeListScalarMetaData) {
-			// Not handled
-		} else {
-			throw new IllegalArgumentException(
-					Message.format("Attribute could not be mapped to GraphQL [{}]", attribute));
-		}
-		return field;
-	}
-
 	private GraphQLObjectType buildListResultWrapperType(final GQLAbstractEntityMetaDataInfos infos,
 			final boolean isInterface) {
 		final GraphQLObjectType.Builder builder = GraphQLObjectType.newObject();
@@ -16,8 +16,12 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.daikit.graphql.datafetcher.IGQLEntityBatchLoader;
+import com.daikit.graphql.datafetcher.IGQLEntityListBatchLoader;
 import com.daikit.graphql.enums.GQLOrderByDirectionEnum;
 import com.daikit.graphql.enums.GQLScalarTypeEnum;
+import com.daikit.graphql.execution.GQLInMemoryPersistedQueryStore;
+import com.daikit.graphql.execution.IGQLPersistedQueryStore;
 
 import graphql.Scalars;
 import graphql.schema.GraphQLScalarType;
@@ -58,11 +62,16 @@ public class GQLSchemaConfig {
 
 	private String queryGetListOutputTypeNameSuffix = "LoadResult";
 	private String outputDeleteResultTypeNamePrefix = "DeleteResult";
+	private String outputDeleteAllResultTypeNamePrefix = "DeleteAllResult";
 
 	private String queryGetListPrefix = "getAll";
 	private String queryGetByIdPrefix = "get";
+	private String queryGetByIdsSuffix = "ByIds";
 	private String mutationSavePrefix = "save";
+	private String mutationSaveAllPrefix = "saveAll";
 	private String mutationDeletePrefix = "delete";
+	private String mutationDeleteAllPrefix = "deleteAll";
+	private String mutationDeleteWherePrefix = "deleteWhere";
 
 	private String attributeIdSuffix = "Id";
 	private String attributePluralSuffix = "s";
@@ -75,6 +84,10 @@ public class GQLSchemaConfig {
 
 	private String mutationDeleteResultAttributeId = "id";
 	private String mutationDeleteResultAttributeTypename = "typename";
+	private String mutationDeleteAllAttributeIdsName = "ids";
+	private String mutationDeleteAllResultAttributeIds = "ids";
+	private String mutationDeleteAllResultAttributeCount = "count";
+	private String queryGetByIdsAttributeIdsName = "ids";
 
 	private String queryGetListFilterAttributeName = "filter";
 	private String queryGetListFilterAttributeOperatorTypeNamePrefix = "FilterOperator";
@@ -87,6 +100,10 @@ public class GQLSchemaConfig {
 	private String queryGetListPagingAttributeTotalLengthName = "totalLength";
 	private String queryGetListPagingAttributeOffsetName = "offset";
 	private String queryGetListPagingAttributeLimitName = "limit";
+	private String queryGetListPagingAttributeFirstName = "first";
+	private String queryGetListPagingAttributeAfterName = "after";
+	private String queryGetListPagingAttributeNextCursorName = "nextCursor";
+	private String queryGetListPagingAttributeHasNextName = "hasNext";
 	private int queryGetListPagingAttributeLimitDefaultValue = 25;
 
 	private String queryGetListFilterEntityTypeNameSuffix = "Filter";
@@ -95,6 +112,28 @@ public class GQLSchemaConfig {
 
 	private String attributeIdName = "id";
 
+	private int preparsedDocumentCacheMaxSize = 1000;
+	private long preparsedDocumentCacheTtlMillis = 60 * 60 * 1000;
+
+	private IGQLPersistedQueryStore persistedQueryStore = new GQLInMemoryPersistedQueryStore();
+	private boolean persistedQueryRegistrationEnabled = false;
+
+	private boolean lazySchemaBuildEnabled = false;
+	private int lazySchemaCacheMaxSize = 100;
+	private int schemaBuildParallelism = 1;
+	private boolean singleSchemaEnabled = false;
+
+	private long queryTimeoutMillis = 0;
+	private long mutationTimeoutMillis = 0;
+
+	private long maxQueryCost = 0;
+	private int maxQueryDepth = 0;
+	private int queryCostListAttributeSize = 10;
+	private int queryCostCustomMethod = 1;
+
+	private IGQLEntityBatchLoader entityBatchLoader = null;
+	private IGQLEntityListBatchLoader entityListBatchLoader = null;
+
 	private final Map<String, GraphQLScalarType> scalars = new HashMap<>();
 	private final Map<Class<?>, String> scalarTypeMappings = new HashMap<>();
 
@@ -322,6 +361,21 @@ public class GQLSchemaConfig {
 		this.outputDeleteResultTypeNamePrefix = outputDeleteResultTypeNamePrefix;
 	}
 
+	/**
+	 * @return the outputDeleteAllResultTypeNamePrefix
+	 */
+	public String getOutputDeleteAllResultTypeNamePrefix() {
+		return outputDeleteAllResultTypeNamePrefix;
+	}
+
+	/**
+	 * @param outputDeleteAllResultTypeNamePrefix
+	 *            the outputDeleteAllResultTypeNamePrefix to set
+	 */
+	public void setOutputDeleteAllResultTypeNamePrefix(final String outputDeleteAllResultTypeNamePrefix) {
+		this.outputDeleteAllResultTypeNamePrefix = outputDeleteAllResultTypeNamePrefix;
+	}
+
 	/**
 	 * @return the queryGetListPrefix
 	 */
@@ -352,6 +406,21 @@ public class GQLSchemaConfig {
 		this.queryGetByIdPrefix = queryGetByIdPrefix;
 	}
 
+	/**
+	 * @return the queryGetByIdsSuffix
+	 */
+	public String getQueryGetByIdsSuffix() {
+		return queryGetByIdsSuffix;
+	}
+
+	/**
+	 * @param queryGetByIdsSuffix
+	 *            the queryGetByIdsSuffix to set
+	 */
+	public void setQueryGetByIdsSuffix(final String queryGetByIdsSuffix) {
+		this.queryGetByIdsSuffix = queryGetByIdsSuffix;
+	}
+
 	/**
 	 * @return the mutationSavePrefix
 	 */
@@ -367,6 +436,21 @@ public class GQLSchemaConfig {
 		this.mutationSavePrefix = mutationSavePrefix;
 	}
 
+	/**
+	 * @return the mutationSaveAllPrefix
+	 */
+	public String getMutationSaveAllPrefix() {
+		return mutationSaveAllPrefix;
+	}
+
+	/**
+	 * @param mutationSaveAllPrefix
+	 *            the mutationSaveAllPrefix to set
+	 */
+	public void setMutationSaveAllPrefix(final String mutationSaveAllPrefix) {
+		this.mutationSaveAllPrefix = mutationSaveAllPrefix;
+	}
+
 	/**
 	 * @return the mutationDeletePrefix
 	 */
@@ -382,6 +466,36 @@ public class GQLSchemaConfig {
 		this.mutationDeletePrefix = mutationDeletePrefix;
 	}
 
+	/**
+	 * @return the mutationDeleteAllPrefix
+	 */
+	public String getMutationDeleteAllPrefix() {
+		return mutationDeleteAllPrefix;
+	}
+
+	/**
+	 * @param mutationDeleteAllPrefix
+	 *            the mutationDeleteAllPrefix to set
+	 */
+	public void setMutationDeleteAllPrefix(final String mutationDeleteAllPrefix) {
+		this.mutationDeleteAllPrefix = mutationDeleteAllPrefix;
+	}
+
+	/**
+	 * @return the mutationDeleteWherePrefix
+	 */
+	public String getMutationDeleteWherePrefix() {
+		return mutationDeleteWherePrefix;
+	}
+
+	/**
+	 * @param mutationDeleteWherePrefix
+	 *            the mutationDeleteWherePrefix to set
+	 */
+	public void setMutationDeleteWherePrefix(final String mutationDeleteWherePrefix) {
+		this.mutationDeleteWherePrefix = mutationDeleteWherePrefix;
+	}
+
 	/**
 	 * @return the attributeIdSuffix
 	 */
@@ -504,6 +618,66 @@ public class GQLSchemaConfig {
 		this.mutationDeleteResultAttributeTypename = mutationDeleteResultAttributeTypename;
 	}
 
+	/**
+	 * @return the mutationDeleteAllAttributeIdsName
+	 */
+	public String getMutationDeleteAllAttributeIdsName() {
+		return mutationDeleteAllAttributeIdsName;
+	}
+
+	/**
+	 * @param mutationDeleteAllAttributeIdsName
+	 *            the mutationDeleteAllAttributeIdsName to set
+	 */
+	public void setMutationDeleteAllAttributeIdsName(final String mutationDeleteAllAttributeIdsName) {
+		this.mutationDeleteAllAttributeIdsName = mutationDeleteAllAttributeIdsName;
+	}
+
+	/**
+	 * @return the mutationDeleteAllResultAttributeIds
+	 */
+	public String getMutationDeleteAllResultAttributeIds() {
+		return mutationDeleteAllResultAttributeIds;
+	}
+
+	/**
+	 * @param mutationDeleteAllResultAttributeIds
+	 *            the mutationDeleteAllResultAttributeIds to set
+	 */
+	public void setMutationDeleteAllResultAttributeIds(final String mutationDeleteAllResultAttributeIds) {
+		this.mutationDeleteAllResultAttributeIds = mutationDeleteAllResultAttributeIds;
+	}
+
+	/**
+	 * @return the mutationDeleteAllResultAttributeCount
+	 */
+	public String getMutationDeleteAllResultAttributeCount() {
+		return mutationDeleteAllResultAttributeCount;
+	}
+
+	/**
+	 * @param mutationDeleteAllResultAttributeCount
+	 *            the mutationDeleteAllResultAttributeCount to set
+	 */
+	public void setMutationDeleteAllResultAttributeCount(final String mutationDeleteAllResultAttributeCount) {
+		this.mutationDeleteAllResultAttributeCount = mutationDeleteAllResultAttributeCount;
+	}
+
+	/**
+	 * @return the queryGetByIdsAttributeIdsName
+	 */
+	public String getQueryGetByIdsAttributeIdsName() {
+		return queryGetByIdsAttributeIdsName;
+	}
+
+	/**
+	 * @param queryGetByIdsAttributeIdsName
+	 *            the queryGetByIdsAttributeIdsName to set
+	 */
+	public void setQueryGetByIdsAttributeIdsName(final String queryGetByIdsAttributeIdsName) {
+		this.queryGetByIdsAttributeIdsName = queryGetByIdsAttributeIdsName;
+	}
+
 	/**
 	 * @return the queryGetListFilterAttributeName
 	 */
@@ -672,6 +846,66 @@ public class GQLSchemaConfig {
 		this.queryGetListPagingAttributeLimitName = queryGetListPagingAttributeLimitName;
 	}
 
+	/**
+	 * @return the queryGetListPagingAttributeFirstName
+	 */
+	public String getQueryGetListPagingAttributeFirstName() {
+		return queryGetListPagingAttributeFirstName;
+	}
+
+	/**
+	 * @param queryGetListPagingAttributeFirstName
+	 *            the queryGetListPagingAttributeFirstName to set
+	 */
+	public void setQueryGetListPagingAttributeFirstName(final String queryGetListPagingAttributeFirstName) {
+		this.queryGetListPagingAttributeFirstName = queryGetListPagingAttributeFirstName;
+	}
+
+	/**
+	 * @return the queryGetListPagingAttributeAfterName
+	 */
+	public String getQueryGetListPagingAttributeAfterName() {
+		return queryGetListPagingAttributeAfterName;
+	}
+
+	/**
+	 * @param queryGetListPagingAttributeAfterName
+	 *            the queryGetListPagingAttributeAfterName to set
+	 */
+	public void setQueryGetListPagingAttributeAfterName(final String queryGetListPagingAttributeAfterName) {
+		this.queryGetListPagingAttributeAfterName = queryGetListPagingAttributeAfterName;
+	}
+
+	/**
+	 * @return the queryGetListPagingAttributeNextCursorName
+	 */
+	public String getQueryGetListPagingAttributeNextCursorName() {
+		return queryGetListPagingAttributeNextCursorName;
+	}
+
+	/**
+	 * @param queryGetListPagingAttributeNextCursorName
+	 *            the queryGetListPagingAttributeNextCursorName to set
+	 */
+	public void setQueryGetListPagingAttributeNextCursorName(final String queryGetListPagingAttributeNextCursorName) {
+		this.queryGetListPagingAttributeNextCursorName = queryGetListPagingAttributeNextCursorName;
+	}
+
+	/**
+	 * @return the queryGetListPagingAttributeHasNextName
+	 */
+	public String getQueryGetListPagingAttributeHasNextName() {
+		return queryGetListPagingAttributeHasNextName;
+	}
+
+	/**
+	 * @param queryGetListPagingAttributeHasNextName
+	 *            the queryGetListPagingAttributeHasNextName to set
+	 */
+	public void setQueryGetListPagingAttributeHasNextName(final String queryGetListPagingAttributeHasNextName) {
+		this.queryGetListPagingAttributeHasNextName = queryGetListPagingAttributeHasNextName;
+	}
+
 	/**
 	 * @return the queryGetListPagingAttributeLimitDefaultValue
 	 */
@@ -733,4 +967,392 @@ public class GQLSchemaConfig {
 		this.attributeIdName = attributeIdName;
 	}
 
+	/**
+	 * Get the maximum number of parsed and validated documents kept in
+	 * cache by the executor. Zero or negative disables the cache. Default
+	 * is 1000.
+	 *
+	 * @return the preparsedDocumentCacheMaxSize
+	 */
+	public int getPreparsedDocumentCacheMaxSize() {
+		return preparsedDocumentCacheMaxSize;
+	}
+
+	/**
+	 * Set the maximum number of parsed and validated documents kept in
+	 * cache by the executor. Zero or negative disables the cache. Default
+	 * is 1000.
+	 *
+	 * @param preparsedDocumentCacheMaxSize
+	 *            the preparsedDocumentCacheMaxSize to set
+	 */
+	public void setPreparsedDocumentCacheMaxSize(final int preparsedDocumentCacheMaxSize) {
+		this.preparsedDocumentCacheMaxSize = preparsedDocumentCacheMaxSize;
+	}
+
+	/**
+	 * Get the time to live in milliseconds of a cached parsed and validated
+	 * document. Zero or negative means no expiration. Default is one hour.
+	 *
+	 * @return the preparsedDocumentCacheTtlMillis
+	 */
+	public long getPreparsedDocumentCacheTtlMillis() {
+		return preparsedDocumentCacheTtlMillis;
+	}
+
+	/**
+	 * Set the time to live in milliseconds of a cached parsed and validated
+	 * document. Zero or negative means no expiration. Default is one hour.
+	 *
+	 * @param preparsedDocumentCacheTtlMillis
+	 *            the preparsedDocumentCacheTtlMillis to set
+	 */
+	public void setPreparsedDocumentCacheTtlMillis(final long preparsedDocumentCacheTtlMillis) {
+		this.preparsedDocumentCacheTtlMillis = preparsedDocumentCacheTtlMillis;
+	}
+
+	/**
+	 * Get the {@link IGQLPersistedQueryStore} used by the executor to
+	 * resolve persisted queries from their hash. Default is an in memory
+	 * {@link GQLInMemoryPersistedQueryStore}.
+	 *
+	 * @return the persistedQueryStore
+	 */
+	public IGQLPersistedQueryStore getPersistedQueryStore() {
+		return persistedQueryStore;
+	}
+
+	/**
+	 * Set the {@link IGQLPersistedQueryStore} used by the executor to
+	 * resolve persisted queries from their hash. Default is an in memory
+	 * {@link GQLInMemoryPersistedQueryStore}.
+	 *
+	 * @param persistedQueryStore
+	 *            the persistedQueryStore to set
+	 */
+	public void setPersistedQueryStore(final IGQLPersistedQueryStore persistedQueryStore) {
+		this.persistedQueryStore = persistedQueryStore;
+	}
+
+	/**
+	 * Get whether clients may register unknown persisted queries by sending
+	 * the query text along with its hash (automatic persisted queries).
+	 * When disabled, only queries already in the
+	 * {@link IGQLPersistedQueryStore} can be executed by hash. Default is
+	 * false : registered queries are kept by the store, which is unbounded
+	 * for the default {@link GQLInMemoryPersistedQueryStore}, so enabling
+	 * registration for untrusted clients requires a bounded store.
+	 *
+	 * @return the persistedQueryRegistrationEnabled
+	 */
+	public boolean isPersistedQueryRegistrationEnabled() {
+		return persistedQueryRegistrationEnabled;
+	}
+
+	/**
+	 * Set whether clients may register unknown persisted queries by sending
+	 * the query text along with its hash (automatic persisted queries).
+	 * When disabled, only queries already in the
+	 * {@link IGQLPersistedQueryStore} can be executed by hash. Default is
+	 * false : registered queries are kept by the store, which is unbounded
+	 * for the default {@link GQLInMemoryPersistedQueryStore}, so enabling
+	 * registration for untrusted clients requires a bounded store.
+	 *
+	 * @param persistedQueryRegistrationEnabled
+	 *            the persistedQueryRegistrationEnabled to set
+	 */
+	public void setPersistedQueryRegistrationEnabled(final boolean persistedQueryRegistrationEnabled) {
+		this.persistedQueryRegistrationEnabled = persistedQueryRegistrationEnabled;
+	}
+
+	/**
+	 * Get whether the executor builds the schema of an execution context on
+	 * first use instead of building all possible execution context schemas
+	 * at startup. Default is false.
+	 *
+	 * @return the lazySchemaBuildEnabled
+	 */
+	public boolean isLazySchemaBuildEnabled() {
+		return lazySchemaBuildEnabled;
+	}
+
+	/**
+	 * Set whether the executor builds the schema of an execution context on
+	 * first use instead of building all possible execution context schemas
+	 * at startup. Default is false.
+	 *
+	 * @param lazySchemaBuildEnabled
+	 *            the lazySchemaBuildEnabled to set
+	 */
+	public void setLazySchemaBuildEnabled(final boolean lazySchemaBuildEnabled) {
+		this.lazySchemaBuildEnabled = lazySchemaBuildEnabled;
+	}
+
+	/**
+	 * Get the maximum number of execution context schemas kept when lazy
+	 * schema build is enabled. Least recently used schemas are evicted
+	 * first. Default is 100.
+	 *
+	 * @return the lazySchemaCacheMaxSize
+	 */
+	public int getLazySchemaCacheMaxSize() {
+		return lazySchemaCacheMaxSize;
+	}
+
+	/**
+	 * Set the maximum number of execution context schemas kept when lazy
+	 * schema build is enabled. Least recently used schemas are evicted
+	 * first. Default is 100.
+	 *
+	 * @param lazySchemaCacheMaxSize
+	 *            the lazySchemaCacheMaxSize to set
+	 */
+	public void setLazySchemaCacheMaxSize(final int lazySchemaCacheMaxSize) {
+		this.lazySchemaCacheMaxSize = lazySchemaCacheMaxSize;
+	}
+
+	/**
+	 * Get the number of threads of the ForkJoinPool used by the executor to
+	 * build all execution context schemas at startup. 1 or less means
+	 * schemas are built sequentially in the calling thread. Not used when
+	 * lazy schema build is enabled. Default is 1.
+	 *
+	 * @return the schemaBuildParallelism
+	 */
+	public int getSchemaBuildParallelism() {
+		return schemaBuildParallelism;
+	}
+
+	/**
+	 * Set the number of threads of the ForkJoinPool used by the executor to
+	 * build all execution context schemas at startup. 1 or less means
+	 * schemas are built sequentially in the calling thread. Not used when
+	 * lazy schema build is enabled. Default is 1.
+	 *
+	 * @param schemaBuildParallelism
+	 *            the schemaBuildParallelism to set
+	 */
+	public void setSchemaBuildParallelism(final int schemaBuildParallelism) {
+		this.schemaBuildParallelism = schemaBuildParallelism;
+	}
+
+	/**
+	 * Get whether the executor builds one single schema for all roles
+	 * instead of one schema per execution context. Role dependent fields are
+	 * then hidden at execution time depending on the request execution
+	 * context, and any execution context is accepted. Lazy schema build and
+	 * schema build parallelism are not used in this mode. Default is false.
+	 *
+	 * @return the singleSchemaEnabled
+	 */
+	public boolean isSingleSchemaEnabled() {
+		return singleSchemaEnabled;
+	}
+
+	/**
+	 * Set whether the executor builds one single schema for all roles
+	 * instead of one schema per execution context. Role dependent fields are
+	 * then hidden at execution time depending on the request execution
+	 * context, and any execution context is accepted. Lazy schema build and
+	 * schema build parallelism are not used in this mode. Default is false.
+	 *
+	 * @param singleSchemaEnabled
+	 *            the singleSchemaEnabled to set
+	 */
+	public void setSingleSchemaEnabled(final boolean singleSchemaEnabled) {
+		this.singleSchemaEnabled = singleSchemaEnabled;
+	}
+
+	/**
+	 * Get the execution timeout of query operations in milliseconds. Once
+	 * expired, remaining data fetchers are not called and the request fails
+	 * with a timeout error. Zero or negative means no timeout. Default is 0.
+	 *
+	 * @return the queryTimeoutMillis
+	 */
+	public long getQueryTimeoutMillis() {
+		return queryTimeoutMillis;
+	}
+
+	/**
+	 * Set the execution timeout of query operations in milliseconds. Once
+	 * expired, remaining data fetchers are not called and the request fails
+	 * with a timeout error. Zero or negative means no timeout. Default is 0.
+	 *
+	 * @param queryTimeoutMillis
+	 *            the queryTimeoutMillis to set
+	 */
+	public void setQueryTimeoutMillis(final long queryTimeoutMillis) {
+		this.queryTimeoutMillis = queryTimeoutMillis;
+	}
+
+	/**
+	 * Get the execution timeout of mutation operations in milliseconds.
+	 * Once expired, remaining data fetchers are not called and the request
+	 * fails with a timeout error. Zero or negative means no timeout. Default
+	 * is 0.
+	 *
+	 * @return the mutationTimeoutMillis
+	 */
+	public long getMutationTimeoutMillis() {
+		return mutationTimeoutMillis;
+	}
+
+	/**
+	 * Set the execution timeout of mutation operations in milliseconds.
+	 * Once expired, remaining data fetchers are not called and the request
+	 * fails with a timeout error. Zero or negative means no timeout. Default
+	 * is 0.
+	 *
+	 * @param mutationTimeoutMillis
+	 *            the mutationTimeoutMillis to set
+	 */
+	public void setMutationTimeoutMillis(final long mutationTimeoutMillis) {
+		this.mutationTimeoutMillis = mutationTimeoutMillis;
+	}
+
+	/**
+	 * Get the maximum cost of an operation. Operations with a higher
+	 * estimated cost are rejected before execution. Zero or negative means
+	 * no limit. Default is 0.
+	 *
+	 * @return the maxQueryCost
+	 */
+	public long getMaxQueryCost() {
+		return maxQueryCost;
+	}
+
+	/**
+	 * Set the maximum cost of an operation. Operations with a higher
+	 * estimated cost are rejected before execution. Zero or negative means
+	 * no limit. Default is 0.
+	 *
+	 * @param maxQueryCost
+	 *            the maxQueryCost to set
+	 */
+	public void setMaxQueryCost(final long maxQueryCost) {
+		this.maxQueryCost = maxQueryCost;
+	}
+
+	/**
+	 * Get the maximum field nesting depth of an operation.
+	 * Deeper operations are rejected before execution. Zero or negative
+	 * means no limit. Default is 0.
+	 *
+	 * @return the maxQueryDepth
+	 */
+	public int getMaxQueryDepth() {
+		return maxQueryDepth;
+	}
+
+	/**
+	 * Set the maximum field nesting depth of an operation.
+	 * Deeper operations are rejected before execution. Zero or negative
+	 * means no limit. Default is 0.
+	 *
+	 * @param maxQueryDepth
+	 *            the maxQueryDepth to set
+	 */
+	public void setMaxQueryDepth(final int maxQueryDepth) {
+		this.maxQueryDepth = maxQueryDepth;
+	}
+
+	/**
+	 * Get the estimated number of entities held by a list entity
+	 * attribute, used as multiplier of the cost of its selection by the
+	 * query cost analysis. Default is 10.
+	 *
+	 * @return the queryCostListAttributeSize
+	 */
+	public int getQueryCostListAttributeSize() {
+		return queryCostListAttributeSize;
+	}
+
+	/**
+	 * Set the estimated number of entities held by a list entity
+	 * attribute, used as multiplier of the cost of its selection by the
+	 * query cost analysis. Default is 10.
+	 *
+	 * @param queryCostListAttributeSize
+	 *            the queryCostListAttributeSize to set
+	 */
+	public void setQueryCostListAttributeSize(final int queryCostListAttributeSize) {
+		this.queryCostListAttributeSize = queryCostListAttributeSize;
+	}
+
+	/**
+	 * Get the cost of a custom method call, added to the cost of
+	 * its selection by the query cost analysis. Default is 1.
+	 *
+	 * @return the queryCostCustomMethod
+	 */
+	public int getQueryCostCustomMethod() {
+		return queryCostCustomMethod;
+	}
+
+	/**
+	 * Set the cost of a custom method call, added to the cost of
+	 * its selection by the query cost analysis. Default is 1.
+	 *
+	 * @param queryCostCustomMethod
+	 *            the queryCostCustomMethod to set
+	 */
+	public void setQueryCostCustomMethod(final int queryCostCustomMethod) {
+		this.queryCostCustomMethod = queryCostCustomMethod;
+	}
+
+	/**
+	 * Get the {@link IGQLEntityBatchLoader} used to load entity reference
+	 * attributes by batch. When set, references are resolved through a
+	 * request scoped data loader collecting the IDs requested within one
+	 * execution level. Null means references are read as plain properties.
+	 * Default is null.
+	 *
+	 * @return the entityBatchLoader
+	 */
+	public IGQLEntityBatchLoader getEntityBatchLoader() {
+		return entityBatchLoader;
+	}
+
+	/**
+	 * Set the {@link IGQLEntityBatchLoader} used to load entity reference
+	 * attributes by batch. When set, references are resolved through a
+	 * request scoped data loader collecting the IDs requested within one
+	 * execution level. Null means references are read as plain properties.
+	 * Default is null.
+	 *
+	 * @param entityBatchLoader
+	 *            the entityBatchLoader to set
+	 */
+	public void setEntityBatchLoader(final IGQLEntityBatchLoader entityBatchLoader) {
+		this.entityBatchLoader = entityBatchLoader;
+	}
+
+	/**
+	 * Get the {@link IGQLEntityListBatchLoader} used to load list entity
+	 * attributes by batch. When set, children are resolved through a
+	 * request scoped data loader collecting the parent IDs requested within
+	 * one execution level. Null means list entity attributes are read as
+	 * plain properties. Default is null.
+	 *
+	 * @return the entityListBatchLoader
+	 */
+	public IGQLEntityListBatchLoader getEntityListBatchLoader() {
+		return entityListBatchLoader;
+	}
+
+	/**
+	 * Set the {@link IGQLEntityListBatchLoader} used to load list entity
+	 * attributes by batch. When set, children are resolved through a
+	 * request scoped data loader collecting the parent IDs requested within
+	 * one execution level. Null means list entity attributes are read as
+	 * plain properties. Default is null.
+	 *
+	 * @param entityListBatchLoader
+	 *            the entityListBatchLoader to set
+	 */
+	public void setEntityListBatchLoader(final IGQLEntityListBatchLoader entityListBatchLoader) {
+		this.entityListBatchLoader = entityListBatchLoader;
+	}
+
 }
@@ -0,0 +1,55 @@
+package com.daikit.graphql.data.input;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Load configuration for "getById" method
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLGetByIdLoadConfig {
+
+	private final Set<String> attributePaths = new LinkedHashSet<>();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Add requested attribute paths
+	 *
+	 * @param paths
+	 *            the attribute paths, relation attributes being separated by
+	 *            dots like "entity2.entity1s.id"
+	 */
+	public void addAttributePaths(final Set<String> paths) {
+		attributePaths.addAll(paths);
+	}
+
+	/**
+	 * Get whether given attribute path is selected by the client. A relation
+	 * path is requested if any of its attributes is requested.
+	 *
+	 * @param path
+	 *            the attribute path, like "entity2.entity1s"
+	 * @return a boolean
+	 */
+	public boolean isAttributeRequested(final String path) {
+		return attributePaths.contains(path);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the paths of all attributes selected by the client, relation
+	 *         attributes included and separated by dots like
+	 *         "entity2.entity1s.id"
+	 */
+	public Set<String> getAttributePaths() {
+		return attributePaths;
+	}
+
+}
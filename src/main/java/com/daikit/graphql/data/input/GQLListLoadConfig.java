@@ -2,15 +2,19 @@ package com.daikit.graphql.data.input;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 
 import com.daikit.graphql.data.output.GQLOrderByEntry;
 import com.daikit.graphql.dynamicattribute.IGQLDynamicAttributeGetter;
 import com.daikit.graphql.enums.GQLFilterOperatorEnum;
 import com.daikit.graphql.enums.GQLOrderByDirectionEnum;
+import com.daikit.graphql.execution.GQLRootContext;
 
 /**
  * List load schemaConfig for "get list" method
@@ -21,8 +25,13 @@ public class GQLListLoadConfig {
 
 	private final List<GQLOrderByEntry> orderBy = new ArrayList<>();
 	private final List<GQLFilterEntry> filters = new ArrayList<>();
+	private final Set<String> attributePaths = new LinkedHashSet<>();
 	private int limit = 0;
 	private int offset = 0;
+	private boolean cursorPaged = false;
+	private final Map<String, Object> after = new LinkedHashMap<>();
+	private boolean totalLengthRequested = true;
+	private GQLRootContext rootContext;
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// PUBLIC METHODS
@@ -41,6 +50,23 @@ public class GQLListLoadConfig {
 		setOffset(offset);
 	}
 
+	/**
+	 * Set cursor (keyset) paging limit and the keyset of the last entity of
+	 * the previous page. Offset is reset to 0.
+	 *
+	 * @param limit
+	 *            the paging limit
+	 * @param after
+	 *            the keyset of the last entity of the previous page, see
+	 *            {@link #getAfter()}. Empty for the first page.
+	 */
+	public void setCursorPaging(final int limit, final Map<String, Object> after) {
+		setPaging(limit, 0);
+		this.cursorPaged = true;
+		this.after.clear();
+		this.after.putAll(after);
+	}
+
 	/**
 	 * Add order by from given map
 	 *
@@ -96,13 +122,36 @@ public class GQLListLoadConfig {
 		filters.add(new GQLFilterEntry(field, operator, value, dynamicAttributeGetter));
 	}
 
+	/**
+	 * Add requested attribute paths
+	 *
+	 * @param paths
+	 *            the attribute paths, relation attributes being separated by
+	 *            dots like "entity2.entity1s.id"
+	 */
+	public void addAttributePaths(final Set<String> paths) {
+		attributePaths.addAll(paths);
+	}
+
+	/**
+	 * Get whether given attribute path is selected by the client. A relation
+	 * path is requested if any of its attributes is requested.
+	 *
+	 * @param path
+	 *            the attribute path, like "entity2.entity1s"
+	 * @return a boolean
+	 */
+	public boolean isAttributeRequested(final String path) {
+		return attributePaths.contains(path);
+	}
+
 	/**
 	 * Get whether this configuration contains paging configuration
 	 *
 	 * @return a boolean
 	 */
 	public boolean isPaged() {
-		return getLimit() > 0 || getOffset() > 0;
+		return getLimit() > 0 || getOffset() > 0 || isCursorPaged();
 	}
 
 	/**
@@ -158,6 +207,15 @@ public class GQLListLoadConfig {
 		return filters;
 	}
 
+	/**
+	 * @return the paths of all entity attributes selected by the client,
+	 *         relation attributes included and separated by dots like
+	 *         "entity2.entity1s.id"
+	 */
+	public Set<String> getAttributePaths() {
+		return attributePaths;
+	}
+
 	/**
 	 * @param limit
 	 *            the limit to set
@@ -187,4 +245,66 @@ public class GQLListLoadConfig {
 	public void setOffset(final int offset) {
 		this.offset = offset;
 	}
+
+	/**
+	 * @return whether this configuration is for a cursor (keyset) paging
+	 *         request. In this case the order by always ends with the ID
+	 *         attribute so that entities are totally ordered, and the limit
+	 *         is one more than the page size requested by the client, so that
+	 *         whether there is a next page is known without counting. The
+	 *         extra entity is not returned to the client.
+	 */
+	public boolean isCursorPaged() {
+		return cursorPaged;
+	}
+
+	/**
+	 * @return the keyset of the last entity of the previous page for cursor
+	 *         paging requests : the value of each order by field on this
+	 *         entity, in order by order, the ID being last. Backends are
+	 *         expected to return the entities strictly after this keyset in
+	 *         order by order, for example with
+	 *         <code>WHERE (sortKey, id) &gt; (?, ?)</code> for ascending
+	 *         orders, so that loading a deep page is as fast as loading the
+	 *         first one. Empty for the first page.
+	 */
+	public Map<String, Object> getAfter() {
+		return after;
+	}
+
+	/**
+	 * @return whether the client selected the paging total length. When
+	 *         false, the total length given to
+	 *         {@link com.daikit.graphql.data.output.GQLListLoadResult#setPaging(int, int, int)}
+	 *         is not returned and backends may skip counting entities.
+	 *         Default is true.
+	 */
+	public boolean isTotalLengthRequested() {
+		return totalLengthRequested;
+	}
+
+	/**
+	 * @param totalLengthRequested
+	 *            the totalLengthRequested to set
+	 */
+	public void setTotalLengthRequested(final boolean totalLengthRequested) {
+		this.totalLengthRequested = totalLengthRequested;
+	}
+
+	/**
+	 * @return the {@link GQLRootContext} of the request, or null. Long
+	 *         running loads may check its deadline with
+	 *         {@link GQLRootContext#checkNotExpired()} to abort early.
+	 */
+	public GQLRootContext getRootContext() {
+		return rootContext;
+	}
+
+	/**
+	 * @param rootContext
+	 *            the rootContext to set
+	 */
+	public void setRootContext(final GQLRootContext rootContext) {
+		this.rootContext = rootContext;
+	}
 }
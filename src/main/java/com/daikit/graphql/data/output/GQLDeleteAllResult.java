@@ -0,0 +1,91 @@
+package com.daikit.graphql.data.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result for delete all and delete where methods
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLDeleteAllResult {
+
+	private List<String> ids = new ArrayList<>();
+	private int count;
+	private String typename;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Default constructor
+	 */
+	public GQLDeleteAllResult() {
+		// Nothing done
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param ids
+	 *            the ids of the deleted entities
+	 * @param typename
+	 *            the type name
+	 */
+	public GQLDeleteAllResult(final List<String> ids, final String typename) {
+		this.ids = ids;
+		this.count = ids.size();
+		this.typename = typename;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the ids
+	 */
+	public List<String> getIds() {
+		return ids;
+	}
+
+	/**
+	 * @param ids
+	 *            the ids to set
+	 */
+	public void setIds(final List<String> ids) {
+		this.ids = ids;
+	}
+
+	/**
+	 * @return the count
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * @param count
+	 *            the count to set
+	 */
+	public void setCount(final int count) {
+		this.count = count;
+	}
+
+	/**
+	 * @return the typename
+	 */
+	public String getTypename() {
+		return typename;
+	}
+
+	/**
+	 * @param typename
+	 *            the typename to set
+	 */
+	public void setTypename(final String typename) {
+		this.typename = typename;
+	}
+
+}
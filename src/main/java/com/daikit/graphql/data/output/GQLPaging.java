@@ -10,6 +10,8 @@ public class GQLPaging {
 	private int totalLength = -1;
 	private int offset = 0;
 	private int limit = 0;
+	private String nextCursor;
+	private boolean hasNext = false;
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// CONSTRUCTORS
@@ -87,4 +89,37 @@ public class GQLPaging {
 		this.limit = limit;
 	}
 
+	/**
+	 * @return the cursor to give as paging "after" argument to load the next
+	 *         page, or null if there is no next page. Only set for cursor
+	 *         paging requests.
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * @param nextCursor
+	 *            the nextCursor to set
+	 */
+	public void setNextCursor(final String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	/**
+	 * @return whether there are entities after this page. Only set for
+	 *         cursor paging requests.
+	 */
+	public boolean isHasNext() {
+		return hasNext;
+	}
+
+	/**
+	 * @param hasNext
+	 *            the hasNext to set
+	 */
+	public void setHasNext(final boolean hasNext) {
+		this.hasNext = hasNext;
+	}
+
 }
@@ -0,0 +1,122 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import com.daikit.graphql.builder.GQLSchemaBuilder;
+import com.daikit.graphql.data.input.GQLListLoadConfig;
+import com.daikit.graphql.data.output.GQLDeleteAllResult;
+import com.daikit.graphql.data.output.GQLDeleteResult;
+import com.daikit.graphql.exception.GQLException;
+import com.daikit.graphql.utils.Message;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Asynchronous counterpart of {@link GQLAbstractDeleteDataFetcher}. The
+ * deletion is started on the calling thread and its {@link CompletableFuture}
+ * is given to graphql-java. This class is typically to be extended and used in
+ * {@link GQLSchemaBuilder} for buildSchema delete method data fetcher argument
+ *
+ * @author Thibaut Caselli
+ */
+public abstract class GQLAbstractAsyncDeleteDataFetcher extends GQLAbstractBaseDeleteDataFetcher<CompletableFuture<GQLDeleteResult>> {
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// ABSTRACT METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Start deleting the entity with given ID
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param id
+	 *            the entity ID
+	 * @return a {@link CompletableFuture} completed once the entity is deleted
+	 */
+	protected abstract CompletableFuture<Void> deleteAsync(Class<?> entityClass, String id);
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Start deleting all entities matching the filters of given
+	 * {@link GQLListLoadConfig}, as one set based operation. It is only
+	 * called with at least one filter. Default implementation throws a
+	 * {@link GQLException}, override it to support 'deleteWhere' mutations.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param listLoadConfig
+	 *            the {@link GQLListLoadConfig} holding the filters
+	 * @return a {@link CompletableFuture} of the IDs of the deleted entities
+	 */
+	protected CompletableFuture<Collection<String>> deleteWhereAsync(final Class<?> entityClass,
+			final GQLListLoadConfig listLoadConfig) {
+		throw new GQLException(Message.format("'deleteWhere' mutations are not supported by [{}]", getClass().getName()));
+	}
+
+	/**
+	 * Start deleting all entities with given IDs. Default implementation
+	 * starts all deletions with {@link #deleteAsync(Class, String)}, override
+	 * it to delete them as one set based operation.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the IDs of the entities to be deleted
+	 * @return a {@link CompletableFuture} of the IDs of the deleted entities
+	 */
+	protected CompletableFuture<Collection<String>> deleteAllAsync(final Class<?> entityClass, final Collection<String> ids) {
+		return CompletableFuture.allOf(ids.stream().map(id -> deleteAsync(entityClass, id)).toArray(CompletableFuture<?>[]::new))
+				.thenApply(deleted -> ids);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public CompletableFuture<GQLDeleteResult> get(final DataFetchingEnvironment environment) {
+		final Class<?> entityClass = getEntityClass(environment, getConfig().getMutationDeletePrefix());
+		final String id = getDeleteId(environment);
+		return deleteAsync(entityClass, id).thenApply(deleted -> {
+			evictFromRequestScope(environment, entityClass, Collections.singletonList(id));
+			return buildDeleteResult(environment, id);
+		});
+	}
+
+	@Override
+	public DataFetcher<CompletableFuture<GQLDeleteAllResult>> getDeleteAllDataFetcher() {
+		return environment -> {
+			final Class<?> entityClass = getEntityClass(environment, getConfig().getMutationDeleteAllPrefix());
+			return deleteAllAsync(entityClass, getDeleteAllIds(environment)).thenApply(deletedIds -> buildDeleteAllResult(environment,
+					getConfig().getMutationDeleteAllPrefix(), entityClass, deletedIds));
+		};
+	}
+
+	@Override
+	public DataFetcher<CompletableFuture<GQLDeleteAllResult>> getDeleteWhereDataFetcher() {
+		return environment -> {
+			final Class<?> entityClass = getEntityClass(environment, getConfig().getMutationDeleteWherePrefix());
+			return deleteWhereAsync(entityClass, buildDeleteWhereListLoadConfig(environment)).thenApply(deletedIds -> buildDeleteAllResult(
+					environment, getConfig().getMutationDeleteWherePrefix(), entityClass, deletedIds));
+		};
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private GQLDeleteAllResult buildDeleteAllResult(final DataFetchingEnvironment environment, final String prefix,
+			final Class<?> entityClass, final Collection<String> deletedIds) {
+		evictFromRequestScope(environment, entityClass, deletedIds);
+		return new GQLDeleteAllResult(new ArrayList<>(deletedIds), getEntityName(prefix, environment.getField().getName()));
+	}
+
+}
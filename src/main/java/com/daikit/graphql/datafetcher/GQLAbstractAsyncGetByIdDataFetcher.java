@@ -0,0 +1,172 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.daikit.graphql.builder.GQLSchemaBuilder;
+import com.daikit.graphql.data.input.GQLGetByIdLoadConfig;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Asynchronous counterpart of {@link GQLAbstractGetByIdDataFetcher}. The load
+ * is started on the calling thread and its {@link CompletableFuture} is given
+ * to graphql-java, so that sibling fields are resolved concurrently without
+ * blocking a thread per field. This class is typically to be extended and used
+ * in {@link GQLSchemaBuilder} for buildSchema "getById" method data fetcher
+ * argument
+ *
+ * @author Thibaut Caselli
+ */
+public abstract class GQLAbstractAsyncGetByIdDataFetcher extends GQLAbstractBaseGetByIdDataFetcher<CompletableFuture<Object>> {
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// ABSTRACT METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Start loading the entity with given ID
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param id
+	 *            the entity ID
+	 * @return a {@link CompletableFuture} of the entity, completed with null
+	 *         if not found
+	 */
+	protected abstract CompletableFuture<Object> getByIdAsync(Class<?> entityClass, String id);
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Override to load only the attributes selected by the client, which are
+	 * given in the {@link GQLGetByIdLoadConfig}. Default implementation calls
+	 * {@link #getByIdAsync(Class, String)}.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param id
+	 *            the entity ID
+	 * @param loadConfig
+	 *            the {@link GQLGetByIdLoadConfig}
+	 * @return a {@link CompletableFuture} of the entity
+	 */
+	protected CompletableFuture<Object> getByIdAsync(final Class<?> entityClass, final String id,
+			final GQLGetByIdLoadConfig loadConfig) {
+		return getByIdAsync(entityClass, id);
+	}
+
+	/**
+	 * Override to start loading several entities at once for "getByIds"
+	 * queries. Default implementation calls
+	 * {@link #getByIdAsync(Class, String)} for each ID.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the entity IDs
+	 * @return a {@link CompletableFuture} of the entities, in the same order
+	 *         than given IDs and with null for IDs not found
+	 */
+	protected CompletableFuture<List<Object>> getByIdsAsync(final Class<?> entityClass, final List<String> ids) {
+		return joinAll(ids.stream().map(id -> getByIdAsync(entityClass, id)).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Override to load only the attributes selected by the client, which are
+	 * given in the {@link GQLGetByIdLoadConfig}. Default implementation calls
+	 * {@link #getByIdsAsync(Class, List)}.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the entity IDs
+	 * @param loadConfig
+	 *            the {@link GQLGetByIdLoadConfig}
+	 * @return a {@link CompletableFuture} of the entities, in the same order
+	 *         than given IDs and with null for IDs not found
+	 */
+	protected CompletableFuture<List<Object>> getByIdsAsync(final Class<?> entityClass, final List<String> ids,
+			final GQLGetByIdLoadConfig loadConfig) {
+		return getByIdsAsync(entityClass, ids);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	protected CompletableFuture<Object> fetchById(final DataFetchingEnvironment environment, final Class<?> entityClass,
+			final String id, final GQLGetByIdLoadConfig loadConfig) {
+		// The future itself is cached so that concurrent operations share the same load
+		return toFuture(getInRequestScope(environment, entityClass, id, loadConfig,
+				() -> getByIdAsync(entityClass, id, loadConfig)));
+	}
+
+	@Override
+	protected CompletableFuture<Object> fetchByIds(final DataFetchingEnvironment environment, final Class<?> entityClass,
+			final List<String> ids, final GQLGetByIdLoadConfig loadConfig) {
+		final List<CompletableFuture<Object>> entities = getAllInRequestScope(environment, entityClass, ids, loadConfig,
+				missingIds -> {
+					final CompletableFuture<List<Object>> loading = getByIdsAsync(entityClass, missingIds, loadConfig);
+					return IntStream.range(0, missingIds.size())
+							.<Object>mapToObj(index -> loading.thenApply(loaded -> loaded.get(index)))
+							.collect(Collectors.toList());
+				}).stream().map(this::toFuture).collect(Collectors.toList());
+		return joinAll(entities).thenApply(loaded -> loaded);
+	}
+
+	/**
+	 * Cache the future of the entity with given ID, see
+	 * {@link GQLAbstractDataFetcher#computeInRequestCache(Map, Class, String, Set, Supplier)}.
+	 * A future completing exceptionally is removed from the request level
+	 * cache so that operations executed afterwards within the same request
+	 * load the entity again instead of failing as well.
+	 *
+	 * @param requestCache
+	 *            the request level cache
+	 * @param entityClass
+	 *            the entity class
+	 * @param id
+	 *            the entity ID
+	 * @param attributePaths
+	 *            the paths of the attributes that need to be loaded
+	 * @param loader
+	 *            the loader of the entity future
+	 * @return the entity future
+	 */
+	@Override
+	protected Object computeInRequestCache(final Map<Object, Object> requestCache, final Class<?> entityClass,
+			final String id, final Set<String> attributePaths, final Supplier<Object> loader) {
+		final CompletableFuture<Object> entity = toFuture(
+				super.computeInRequestCache(requestCache, entityClass, id, attributePaths, loader));
+		entity.whenComplete((loaded, error) -> {
+			if (error != null) {
+				removeFromRequestCache(requestCache, entityClass, id, entity);
+			}
+		});
+		return entity;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@SuppressWarnings("unchecked")
+	private CompletableFuture<Object> toFuture(final Object entity) {
+		return (CompletableFuture<Object>) entity;
+	}
+
+	private CompletableFuture<List<Object>> joinAll(final List<CompletableFuture<Object>> futures) {
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+				.thenApply(nothing -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.daikit.graphql.builder.GQLSchemaBuilder;
+import com.daikit.graphql.data.input.GQLListLoadConfig;
+import com.daikit.graphql.data.output.GQLListLoadResult;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Asynchronous counterpart of {@link GQLAbstractGetListDataFetcher}. The load
+ * is started on the calling thread and its {@link CompletableFuture} is given
+ * to graphql-java, so that sibling fields are resolved concurrently without
+ * blocking a thread per field. This class is typically to be extended and used
+ * in {@link GQLSchemaBuilder} for buildSchema "get list" method data fetcher
+ * argument
+ *
+ * @author Thibaut Caselli
+ */
+public abstract class GQLAbstractAsyncGetListDataFetcher
+		extends GQLAbstractBaseGetListDataFetcher<CompletableFuture<GQLListLoadResult>> {
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// ABSTRACT METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Start loading entities matching given configuration
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param listLoadConfig
+	 *            the {@link GQLListLoadConfig}
+	 * @return a {@link CompletableFuture} of the {@link GQLListLoadResult}
+	 */
+	protected abstract CompletableFuture<GQLListLoadResult> getAllAsync(Class<?> entityClass,
+			GQLListLoadConfig listLoadConfig);
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public CompletableFuture<GQLListLoadResult> get(final DataFetchingEnvironment environment) {
+		final Class<?> entityClass = getEntityClass(environment);
+		final GQLListLoadConfig listLoadConfig = buildListLoadConfig(environment);
+		return getAllAsync(entityClass, listLoadConfig)
+				.thenApply(result -> completeCursorPaging(entityClass, listLoadConfig, result));
+	}
+
+}
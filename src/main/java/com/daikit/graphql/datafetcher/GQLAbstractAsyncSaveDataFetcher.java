@@ -0,0 +1,108 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.daikit.graphql.builder.GQLSchemaBuilder;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Asynchronous counterpart of {@link GQLAbstractSaveDataFetcher}. The save is started on the calling thread and its
+ * {@link CompletableFuture} is given to graphql-java. This class is typically to be extended and used in {@link GQLSchemaBuilder}
+ * for buildSchema method "save entity" data fetcher argument. 'save all' mutations, handled by {@link #getSaveAllDataFetcher()},
+ * are completed with the {@link List} of saved entities.
+ *
+ * @author Thibaut Caselli
+ * @param <SUPER_ENTITY_TYPE> the super type for all saveable entities
+ */
+public abstract class GQLAbstractAsyncSaveDataFetcher<SUPER_ENTITY_TYPE> extends GQLAbstractBaseSaveDataFetcher<CompletableFuture<SUPER_ENTITY_TYPE>> {
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// ABSTRACT METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Start saving the entity in persistence layer.
+	 *
+	 * @param entity the entity to be saved
+	 * @return a {@link CompletableFuture} completed once the entity is saved
+	 */
+	protected abstract CompletableFuture<Void> saveAsync(SUPER_ENTITY_TYPE entity);
+
+	/**
+	 * Start finding or creating entity and setting its field values from given field map.
+	 *
+	 * @param entityClass              the entity class
+	 * @param dynamicAttributeRegistry the {@link GQLDynamicAttributeRegistry}
+	 * @param fieldValueMap            the {@link Map} of fields values to set in entity
+	 * @return a {@link CompletableFuture} of the found/created entity
+	 */
+	protected abstract CompletableFuture<SUPER_ENTITY_TYPE> getOrCreateAndSetPropertiesAsync(final Class<?> entityClass,
+			final GQLDynamicAttributeRegistry dynamicAttributeRegistry, final Map<String, Object> fieldValueMap);
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Start saving the entities of a 'save all' mutation in persistence layer. Default implementation starts all saves with
+	 * {@link #saveAsync(Object)}, override it to save them in batch or within a single transaction.
+	 *
+	 * @param entities the {@link List} of entities to be saved, in mutation argument order
+	 * @return a {@link CompletableFuture} completed once all entities are saved
+	 */
+	protected CompletableFuture<Void> saveAllAsync(final List<SUPER_ENTITY_TYPE> entities) {
+		return CompletableFuture.allOf(entities.stream().map(this::saveAsync).toArray(CompletableFuture<?>[]::new));
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	protected CompletableFuture<SUPER_ENTITY_TYPE> saveAsync(final Class<?> entityClass, final GQLDynamicAttributeRegistry dynamicAttributeRegistry,
+			final Map<String, Object> fieldValueMap) {
+		return getOrCreateAndSetPropertiesAsync(entityClass, dynamicAttributeRegistry, fieldValueMap)
+				.thenCompose(model -> saveAsync(model).thenApply(saved -> model));
+	}
+
+	protected CompletableFuture<List<SUPER_ENTITY_TYPE>> saveAllAsync(final Class<?> entityClass,
+			final GQLDynamicAttributeRegistry dynamicAttributeRegistry, final List<Map<String, Object>> fieldValueMaps) {
+		final List<CompletableFuture<SUPER_ENTITY_TYPE>> futures = fieldValueMaps.stream()
+				.map(fieldValueMap -> getOrCreateAndSetPropertiesAsync(entityClass, dynamicAttributeRegistry, fieldValueMap))
+				.collect(Collectors.toList());
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+				.thenApply(done -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+				.thenCompose(models -> saveAllAsync(models).thenApply(saved -> models));
+	}
+
+	@Override
+	public CompletableFuture<SUPER_ENTITY_TYPE> get(final DataFetchingEnvironment environment) {
+		final Class<?> entityClass = getEntityClass(environment, false);
+		final Map<String, Object> fieldValueMap = getFieldValueMap(environment, entityClass);
+		// Entities loaded before within the same request are stale once saved, even partially
+		return saveAsync(entityClass, getDynamicAttributeRegistry(), fieldValueMap).whenComplete(
+				(result, error) -> evictSavedFromRequestScope(environment, entityClass, Collections.singletonList(fieldValueMap)));
+	}
+
+	@Override
+	public DataFetcher<CompletableFuture<List<SUPER_ENTITY_TYPE>>> getSaveAllDataFetcher() {
+		return this::getSaveAll;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private CompletableFuture<List<SUPER_ENTITY_TYPE>> getSaveAll(final DataFetchingEnvironment environment) {
+		final Class<?> entityClass = getEntityClass(environment, true);
+		final List<Map<String, Object>> fieldValueMaps = getFieldValueMaps(environment, entityClass);
+		return saveAllAsync(entityClass, getDynamicAttributeRegistry(), fieldValueMaps)
+				.whenComplete((result, error) -> evictSavedFromRequestScope(environment, entityClass, fieldValueMaps));
+	}
+
+}
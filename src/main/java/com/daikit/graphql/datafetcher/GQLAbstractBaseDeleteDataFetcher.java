@@ -0,0 +1,219 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.List;
+
+import com.daikit.graphql.config.GQLSchemaConfig;
+import com.daikit.graphql.data.input.GQLListLoadConfig;
+import com.daikit.graphql.data.output.GQLDeleteResult;
+import com.daikit.graphql.exception.GQLException;
+import com.daikit.graphql.meta.GQLInternalMetaModel;
+import com.daikit.graphql.utils.Message;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Abstract super class of "delete entity" data fetchers, extracting the entities to be deleted from the mutation arguments. See
+ * {@link GQLAbstractDeleteDataFetcher} and {@link GQLAbstractAsyncDeleteDataFetcher}. This data fetcher handles 'delete' mutations
+ * by ID, 'deleteAll' mutations by ID list and 'deleteWhere' mutations by filter being handled by the data fetchers it provides.
+ *
+ * @author Thibaut Caselli
+ * @param <FETCHED_DATA_TYPE> the fetched data type
+ */
+public abstract class GQLAbstractBaseDeleteDataFetcher<FETCHED_DATA_TYPE> extends GQLAbstractDataFetcher<FETCHED_DATA_TYPE> {
+
+	private volatile GQLDynamicAttributeRegistry dynamicAttributeRegistry;
+	private volatile FilterListLoadConfigBuilder filterListLoadConfigBuilder;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// ABSTRACT METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get the {@link DataFetcher} to be registered for 'deleteAll' mutation fields. It runs on the state of this data fetcher.
+	 *
+	 * @return the 'deleteAll' {@link DataFetcher}
+	 */
+	public abstract DataFetcher<?> getDeleteAllDataFetcher();
+
+	/**
+	 * Get the {@link DataFetcher} to be registered for 'deleteWhere' mutation fields. It runs on the state of this data fetcher.
+	 *
+	 * @return the 'deleteWhere' {@link DataFetcher}
+	 */
+	public abstract DataFetcher<?> getDeleteWhereDataFetcher();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get entity by ID. This is used to resolve 'deleteWhere' filters on entity attributes and must be overridden for these filters
+	 * to be supported. Default implementation throws a {@link GQLException}.
+	 *
+	 * @param entityClass the entity class
+	 * @param id          the entity ID
+	 * @return the entity
+	 */
+	protected Object getById(final Class<?> entityClass, final String id) {
+		throw new GQLException(Message.format("Filtering [{}] entities by entity attribute is not supported by [{}]",
+				entityClass.getSimpleName(), getClass().getName()));
+	}
+
+	/**
+	 * Override to provide custom {@link GQLListLoadConfig} extension for 'deleteWhere' mutations
+	 *
+	 * @return a {@link GQLListLoadConfig}
+	 */
+	protected GQLListLoadConfig createGQLListLoadConfig() {
+		return new GQLListLoadConfig();
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public GQLAbstractBaseDeleteDataFetcher<FETCHED_DATA_TYPE> copy() {
+		final GQLAbstractBaseDeleteDataFetcher<FETCHED_DATA_TYPE> copy = (GQLAbstractBaseDeleteDataFetcher<FETCHED_DATA_TYPE>) super.copy();
+		// The filter builder is created again for the meta model of the copy
+		copy.filterListLoadConfigBuilder = null;
+		return copy;
+	}
+
+	@Override
+	public void setMetaModel(final GQLInternalMetaModel metaModel) {
+		super.setMetaModel(metaModel);
+		filterListLoadConfigBuilder = null;
+	}
+
+	@Override
+	public void setSchemaConfig(final GQLSchemaConfig schemaConfig) {
+		super.setSchemaConfig(schemaConfig);
+		filterListLoadConfigBuilder = null;
+	}
+
+	/**
+	 * Get the class of the entities deleted by the mutation field of given environment
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @param prefix      the mutation field name prefix, followed by the entity name
+	 * @return the entity class
+	 */
+	protected Class<?> getEntityClass(final DataFetchingEnvironment environment, final String prefix) {
+		return getEntityClassByEntityName(getEntityName(prefix, environment.getField().getName()));
+	}
+
+	/**
+	 * Get the ID of the entity deleted by the 'delete' mutation field of given environment
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @return the entity ID
+	 */
+	protected String getDeleteId(final DataFetchingEnvironment environment) {
+		return (String) getArgumentValue(environment.getField(), getConfig().getAttributeIdName(), environment.getArguments());
+	}
+
+	/**
+	 * Get the IDs of the entities deleted by the 'deleteAll' mutation field of given environment
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @return the entity IDs
+	 */
+	protected List<String> getDeleteAllIds(final DataFetchingEnvironment environment) {
+		return environment.getArgument(getConfig().getMutationDeleteAllAttributeIdsName());
+	}
+
+	/**
+	 * Build the {@link GQLListLoadConfig} holding the filters of the 'deleteWhere' mutation field of given environment
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @return the {@link GQLListLoadConfig}
+	 * @throws GQLException if the filter is empty, as it would delete all entities
+	 */
+	protected GQLListLoadConfig buildDeleteWhereListLoadConfig(final DataFetchingEnvironment environment) {
+		FilterListLoadConfigBuilder builder = filterListLoadConfigBuilder;
+		if (builder == null) {
+			builder = new FilterListLoadConfigBuilder(this);
+			filterListLoadConfigBuilder = builder;
+		}
+		final GQLListLoadConfig listLoadConfig = builder.buildListLoadConfig(environment);
+		if (!listLoadConfig.isFiltered()) {
+			throw new GQLException("'deleteWhere' mutations require at least one filter");
+		}
+		return listLoadConfig;
+	}
+
+	/**
+	 * Build the result of a 'delete' mutation
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @param id          the deleted entity ID
+	 * @return the {@link GQLDeleteResult}
+	 */
+	protected GQLDeleteResult buildDeleteResult(final DataFetchingEnvironment environment, final String id) {
+		final GQLDeleteResult result = new GQLDeleteResult();
+		result.setId(id);
+		result.setTypename(getEntityName(getConfig().getMutationDeletePrefix(), environment.getField().getName()));
+		return result;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// INNER CLASSES
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Builder of 'deleteWhere' filters, sharing the filter argument extraction of "get list" data fetchers
+	 */
+	private static class FilterListLoadConfigBuilder extends GQLAbstractListLoadConfigDataFetcher<Void> {
+
+		private final GQLAbstractBaseDeleteDataFetcher<?> deleteDataFetcher;
+
+		FilterListLoadConfigBuilder(final GQLAbstractBaseDeleteDataFetcher<?> deleteDataFetcher) {
+			this.deleteDataFetcher = deleteDataFetcher;
+			setSchemaConfig(deleteDataFetcher.getConfig());
+			setMetaModel(deleteDataFetcher.getMetaModel());
+			setDynamicAttributeRegistry(deleteDataFetcher.getDynamicAttributeRegistry());
+		}
+
+		@Override
+		protected String getFieldNamePrefix(final DataFetchingEnvironment environment) {
+			return getConfig().getMutationDeleteWherePrefix();
+		}
+
+		@Override
+		protected Object getById(final Class<?> entityClass, final String id) {
+			return deleteDataFetcher.getById(entityClass, id);
+		}
+
+		@Override
+		protected GQLListLoadConfig createGQLListLoadConfig() {
+			return deleteDataFetcher.createGQLListLoadConfig();
+		}
+
+		@Override
+		public Void get(final DataFetchingEnvironment environment) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the dynamicAttributeRegistry
+	 */
+	public GQLDynamicAttributeRegistry getDynamicAttributeRegistry() {
+		return dynamicAttributeRegistry;
+	}
+
+	/**
+	 * @param dynamicAttributeRegistry the dynamicAttributeRegistry to set
+	 */
+	public void setDynamicAttributeRegistry(final GQLDynamicAttributeRegistry dynamicAttributeRegistry) {
+		this.dynamicAttributeRegistry = dynamicAttributeRegistry;
+		filterListLoadConfigBuilder = null;
+	}
+}
@@ -0,0 +1,189 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.daikit.graphql.data.input.GQLGetByIdLoadConfig;
+
+import graphql.language.Field;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Abstract super class of "getById" data fetchers, extracting the entity
+ * class, the IDs and the {@link GQLGetByIdLoadConfig} from the query field
+ * and sharing entities loaded within the request through the request level
+ * cache. See {@link GQLAbstractGetByIdDataFetcher} and
+ * {@link GQLAbstractAsyncGetByIdDataFetcher}.
+ *
+ * @author Thibaut Caselli
+ * @param <FETCHED_DATA_TYPE>
+ *            the fetched data type
+ */
+public abstract class GQLAbstractBaseGetByIdDataFetcher<FETCHED_DATA_TYPE> extends GQLAbstractDataFetcher<FETCHED_DATA_TYPE> {
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// ABSTRACT METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Fetch the entity with given ID for a "getById" query
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @param entityClass
+	 *            the entity class
+	 * @param id
+	 *            the entity ID
+	 * @param loadConfig
+	 *            the {@link GQLGetByIdLoadConfig}
+	 * @return the fetched data
+	 */
+	protected abstract FETCHED_DATA_TYPE fetchById(DataFetchingEnvironment environment, Class<?> entityClass, String id,
+			GQLGetByIdLoadConfig loadConfig);
+
+	/**
+	 * Fetch the entities with given IDs for a "getByIds" query
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the entity IDs
+	 * @param loadConfig
+	 *            the {@link GQLGetByIdLoadConfig}
+	 * @return the fetched data
+	 */
+	protected abstract FETCHED_DATA_TYPE fetchByIds(DataFetchingEnvironment environment, Class<?> entityClass,
+			List<String> ids, GQLGetByIdLoadConfig loadConfig);
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Override to provide custom {@link GQLGetByIdLoadConfig} extension
+	 *
+	 * @return a {@link GQLGetByIdLoadConfig}
+	 */
+	protected GQLGetByIdLoadConfig createGQLGetByIdLoadConfig() {
+		return new GQLGetByIdLoadConfig();
+	}
+
+	/**
+	 * Get whether the query field of given environment loads entities by ID
+	 * list
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @return true for a "getByIds" query
+	 */
+	protected boolean isGetByIds(final DataFetchingEnvironment environment) {
+		return environment.getFieldDefinition().getArgument(getConfig().getQueryGetByIdsAttributeIdsName()) != null;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public FETCHED_DATA_TYPE get(final DataFetchingEnvironment environment) {
+		final Field queryField = environment.getField();
+		final GQLGetByIdLoadConfig loadConfig = createGQLGetByIdLoadConfig();
+		loadConfig.addAttributePaths(getRequestedAttributePaths(environment, null));
+		if (isGetByIds(environment)) {
+			final String queryName = queryField.getName();
+			final String entityName = getEntityName(getConfig().getQueryGetByIdPrefix(),
+					queryName.substring(0, queryName.length() - getConfig().getQueryGetByIdsSuffix().length()));
+			final List<String> ids = environment.getArgument(getConfig().getQueryGetByIdsAttributeIdsName());
+			return fetchByIds(environment, getEntityClassByEntityName(entityName), ids, loadConfig);
+		}
+		final String entityName = getEntityName(getConfig().getQueryGetByIdPrefix(), queryField.getName());
+		final String id = (String) getArgumentValue(queryField, getConfig().getAttributeIdName(),
+				environment.getArguments());
+		return fetchById(environment, getEntityClassByEntityName(entityName), id, loadConfig);
+	}
+
+	/**
+	 * Get the entity with given ID from the request level cache, or load it
+	 * with given loader and cache it, see
+	 * {@link #computeInRequestCache(Map, Class, String, java.util.Set, Supplier)}.
+	 * The entity is loaded without caching if there is no request level
+	 * cache.
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @param entityClass
+	 *            the entity class
+	 * @param id
+	 *            the entity ID
+	 * @param loadConfig
+	 *            the {@link GQLGetByIdLoadConfig}
+	 * @param loader
+	 *            the loader of the entity
+	 * @return the entity
+	 */
+	protected Object getInRequestScope(final DataFetchingEnvironment environment, final Class<?> entityClass,
+			final String id, final GQLGetByIdLoadConfig loadConfig, final Supplier<Object> loader) {
+		final Optional<Map<Object, Object>> requestCache = getRequestCache(environment);
+		return requestCache.isPresent()
+				? computeInRequestCache(requestCache.get(), entityClass, id, loadConfig.getAttributePaths(), loader)
+				: loader.get();
+	}
+
+	/**
+	 * Get the entities with given IDs from the request level cache. Only
+	 * entities not already loaded within the request, for a projection
+	 * covering the requested one, are loaded with a single call to given
+	 * loader and cached. All entities are loaded if there is no request
+	 * level cache.
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the entity IDs
+	 * @param loadConfig
+	 *            the {@link GQLGetByIdLoadConfig}
+	 * @param loader
+	 *            the loader of the entities with IDs it is given, in the
+	 *            same order than these IDs
+	 * @return the entities, in the same order than given IDs
+	 */
+	protected List<Object> getAllInRequestScope(final DataFetchingEnvironment environment, final Class<?> entityClass,
+			final List<String> ids, final GQLGetByIdLoadConfig loadConfig,
+			final Function<List<String>, List<Object>> loader) {
+		final Optional<Map<Object, Object>> requestCache = getRequestCache(environment);
+		if (!requestCache.isPresent()) {
+			return loader.apply(ids);
+		}
+		final Map<String, Object> found = new HashMap<>();
+		final List<String> missingIds = new ArrayList<>();
+		ids.stream().distinct().forEach(id -> {
+			final Optional<Object> cached = getFromRequestCache(requestCache.get(), entityClass, id,
+					loadConfig.getAttributePaths());
+			if (cached.isPresent()) {
+				found.put(id, cached.get());
+			} else {
+				missingIds.add(id);
+			}
+		});
+		if (!missingIds.isEmpty()) {
+			final List<Object> entities = loader.apply(missingIds);
+			for (int i = 0; i < missingIds.size(); i++) {
+				final Object entity = entities.get(i);
+				found.put(missingIds.get(i), computeInRequestCache(requestCache.get(), entityClass, missingIds.get(i),
+						loadConfig.getAttributePaths(), () -> entity));
+			}
+		}
+		return ids.stream().map(found::get).collect(Collectors.toList());
+	}
+
+}
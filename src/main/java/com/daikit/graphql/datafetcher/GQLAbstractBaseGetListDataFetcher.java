@@ -0,0 +1,140 @@
+package com.daikit.graphql.datafetcher;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.beanutils.PropertyUtils;
+
+import com.daikit.graphql.data.input.GQLListLoadConfig;
+import com.daikit.graphql.data.output.GQLListLoadResult;
+import com.daikit.graphql.data.output.GQLPaging;
+import com.daikit.graphql.dynamicattribute.IGQLDynamicAttributeGetter;
+import com.daikit.graphql.exception.GQLException;
+import com.daikit.graphql.utils.Message;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Abstract super class of "get list" data fetchers, building the
+ * {@link GQLListLoadConfig} from the query arguments. See
+ * {@link GQLAbstractGetListDataFetcher} and
+ * {@link GQLAbstractAsyncGetListDataFetcher}.
+ *
+ * @author Thibaut Caselli
+ * @param <FETCHED_DATA_TYPE>
+ *            the fetched data type
+ */
+public abstract class GQLAbstractBaseGetListDataFetcher<FETCHED_DATA_TYPE> extends GQLAbstractListLoadConfigDataFetcher<FETCHED_DATA_TYPE> {
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get whether the backend of this data fetcher supports cursor paging,
+	 * that is whether its "get list" method only loads the entities after
+	 * the keyset given by {@link GQLListLoadConfig#getAfter()}, in
+	 * {@link GQLListLoadConfig#getOrderBy()} order. Cursor paging requests
+	 * are rejected otherwise, as a backend ignoring the keyset would return
+	 * the first page again and again. Default is false, override it to
+	 * enable cursor paging.
+	 *
+	 * @return true if cursor paging is supported
+	 */
+	protected boolean supportsCursorPaging() {
+		return false;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	protected String getFieldNamePrefix(final DataFetchingEnvironment environment) {
+		return getConfig().getQueryGetListPrefix();
+	}
+
+	/**
+	 * Build the {@link GQLListLoadConfig} from the arguments and the
+	 * selection set of the query field of given environment
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @return the {@link GQLListLoadConfig}
+	 */
+	@Override
+	protected GQLListLoadConfig buildListLoadConfig(final DataFetchingEnvironment environment) {
+		final GQLListLoadConfig listLoadConfig = super.buildListLoadConfig(environment);
+		if (listLoadConfig.isCursorPaged() && !supportsCursorPaging()) {
+			throw new GQLException(Message.format("Cursor paging is not supported by [{}]", getClass().getName()));
+		}
+		// Attributes selected by the client, so that backends may only load them
+		listLoadConfig.addAttributePaths(
+				getRequestedAttributePaths(environment, getConfig().getQueryGetListAttributeOutputDataName()));
+		listLoadConfig.setTotalLengthRequested(getSelectedFieldNames(environment).contains(
+				getConfig().getQueryGetListPagingAttributeName() + "/" + getConfig().getQueryGetListPagingAttributeTotalLengthName()));
+		return listLoadConfig;
+	}
+
+	/**
+	 * Complete the {@link GQLListLoadResult} of a cursor paging request :
+	 * remove the extra entity loaded to know whether there is a next page and
+	 * set the paging next cursor, built from the last returned entity. Results
+	 * of other requests are returned unchanged.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param listLoadConfig
+	 *            the {@link GQLListLoadConfig} the result was loaded with
+	 * @param result
+	 *            the {@link GQLListLoadResult}
+	 * @return the completed {@link GQLListLoadResult}
+	 */
+	protected GQLListLoadResult completeCursorPaging(final Class<?> entityClass, final GQLListLoadConfig listLoadConfig,
+			final GQLListLoadResult result) {
+		if (result == null || !listLoadConfig.isCursorPaged()) {
+			return result;
+		}
+		final int pageSize = listLoadConfig.getLimit() - 1;
+		final List<?> data = result.getData() == null ? Collections.emptyList() : result.getData();
+		final boolean hasNext = data.size() > pageSize;
+		final List<?> page = hasNext ? new ArrayList<>(data.subList(0, pageSize)) : data;
+		final GQLPaging paging = new GQLPaging(0, pageSize,
+				result.getPaging() == null ? -1 : result.getPaging().getTotalLength());
+		paging.setHasNext(hasNext);
+		if (hasNext) {
+			final Object last = page.get(page.size() - 1);
+			final Map<String, Object> keyset = new LinkedHashMap<>();
+			listLoadConfig.getOrderBy()
+					.forEach(orderBy -> keyset.put(orderBy.getField(), getOrderByValue(entityClass, last, orderBy.getField())));
+			paging.setNextCursor(getCursorCodec().encode(keyset));
+		}
+		result.setData(page);
+		result.setPaging(paging);
+		return result;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private Object getOrderByValue(final Class<?> entityClass, final Object entity, final String field) {
+		final Optional<IGQLDynamicAttributeGetter<Object, Object>> dynamicAttributeGetter = getDynamicAttributeRegistry() == null
+				? Optional.empty()
+				: getDynamicAttributeRegistry().getGetter(entityClass, field);
+		if (dynamicAttributeGetter.isPresent()) {
+			return dynamicAttributeGetter.get().getValue(entity);
+		}
+		try {
+			return PropertyUtils.getNestedProperty(entity, field);
+		} catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+			throw new IllegalArgumentException(Message.format("Unable to read property [{}] on [{}]", field, entity), e);
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+package com.daikit.graphql.datafetcher;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.daikit.generics.utils.GenericsUtils;
+import com.daikit.graphql.dynamicattribute.IGQLDynamicAttributeSetter;
+import com.daikit.graphql.exception.GQLException;
+import com.daikit.graphql.utils.Message;
+
+import graphql.language.ArrayValue;
+import graphql.language.Field;
+import graphql.language.ObjectValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Abstract super class of "save entity" data fetchers, extracting the field values to be saved from the mutation arguments. See
+ * {@link GQLAbstractSaveDataFetcher} and {@link GQLAbstractAsyncSaveDataFetcher}.
+ *
+ * @author Thibaut Caselli
+ * @param <FETCHED_DATA_TYPE> the fetched data type
+ */
+public abstract class GQLAbstractBaseSaveDataFetcher<FETCHED_DATA_TYPE> extends GQLAbstractDataFetcher<FETCHED_DATA_TYPE> {
+
+	private volatile GQLDynamicAttributeRegistry dynamicAttributeRegistry;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// ABSTRACT METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get the {@link DataFetcher} to be registered for 'save all' mutation fields, this data fetcher being registered for 'save'
+	 * mutation fields. It runs on the state of this data fetcher.
+	 *
+	 * @return the 'save all' {@link DataFetcher}
+	 */
+	public abstract DataFetcher<?> getSaveAllDataFetcher();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get the class of the entity saved by the mutation field of given environment
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @param saveAll     whether the mutation field is a 'save all' one
+	 * @return the entity class
+	 */
+	protected Class<?> getEntityClass(final DataFetchingEnvironment environment, final boolean saveAll) {
+		return getEntityClassByEntityName(getEntityName(saveAll ? getConfig().getMutationSaveAllPrefix() : getConfig().getMutationSavePrefix(),
+				environment.getField().getName()));
+	}
+
+	/**
+	 * Get the field values to be set in the saved entity from the mutation field of given environment
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @param entityClass the entity class
+	 * @return the {@link Map} of field values
+	 */
+	protected Map<String, Object> getFieldValueMap(final DataFetchingEnvironment environment, final Class<?> entityClass) {
+		final Field mutationField = environment.getField();
+		final Object dataValue = mutationField.getArguments().stream()
+				.filter(argument -> getConfig().getMutationAttributeInputDataName().equals(argument.getName())).findFirst().get().getValue();
+		final Map<String, Object> arguments = getArgumentsForContext(environment.getArguments(), getConfig().getMutationAttributeInputDataName());
+		Map<String, Object> fieldValueMap;
+		if (dataValue instanceof ObjectValue) {
+			fieldValueMap = convertObjectValue((ObjectValue) dataValue, arguments);
+		} else if (dataValue instanceof VariableReference) {
+			fieldValueMap = new HashMap<>(arguments);
+			mapDynamicAttributeSettersValues(entityClass, fieldValueMap);
+		} else {
+			throw new GQLException(Message.format("Unsupported save data type : [{}]", dataValue.getClass().getName()));
+		}
+		return fieldValueMap;
+	}
+
+	/**
+	 * Get the field values to be set in each saved entity from the 'save all' mutation field of given environment
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @param entityClass the entity class
+	 * @return the {@link List} of field values {@link Map}, one for each entity, in argument order
+	 */
+	protected List<Map<String, Object>> getFieldValueMaps(final DataFetchingEnvironment environment, final Class<?> entityClass) {
+		final Field mutationField = environment.getField();
+		final Object dataValue = mutationField.getArguments().stream()
+				.filter(argument -> getConfig().getMutationAttributeInputDataName().equals(argument.getName())).findFirst().get().getValue();
+		final List<Map<String, Object>> arguments = getArgumentsForContextAsList(environment.getArguments(),
+				getConfig().getMutationAttributeInputDataName());
+		final List<Map<String, Object>> fieldValueMaps = new ArrayList<>(arguments.size());
+		if (dataValue instanceof ArrayValue) {
+			int index = 0;
+			for (final Value<?> value : ((ArrayValue) dataValue).getValues()) {
+				final Map<String, Object> argument = arguments.get(index++);
+				if (value instanceof ObjectValue) {
+					fieldValueMaps.add(convertObjectValue((ObjectValue) value, argument));
+				} else if (value instanceof VariableReference) {
+					final Map<String, Object> fieldValueMap = new HashMap<>(argument);
+					mapDynamicAttributeSettersValues(entityClass, fieldValueMap);
+					fieldValueMaps.add(fieldValueMap);
+				} else {
+					throw new GQLException(Message.format("Unsupported save data type : [{}]", value.getClass().getName()));
+				}
+			}
+		} else if (dataValue instanceof VariableReference) {
+			for (final Map<String, Object> argument : arguments) {
+				final Map<String, Object> fieldValueMap = new HashMap<>(argument);
+				mapDynamicAttributeSettersValues(entityClass, fieldValueMap);
+				fieldValueMaps.add(fieldValueMap);
+			}
+		} else {
+			throw new GQLException(Message.format("Unsupported save data type : [{}]", dataValue.getClass().getName()));
+		}
+		return fieldValueMaps;
+	}
+
+	/**
+	 * Evict the entities saved with given field values from the request scope, see
+	 * {@link #evictFromRequestScope(DataFetchingEnvironment, Class, java.util.Collection)}. Created entities, having no ID within
+	 * their field values, are not cached yet.
+	 *
+	 * @param environment    the {@link DataFetchingEnvironment}
+	 * @param entityClass    the entity class
+	 * @param fieldValueMaps the {@link List} of field values {@link Map}, one for each saved entity
+	 */
+	protected void evictSavedFromRequestScope(final DataFetchingEnvironment environment, final Class<?> entityClass,
+			final List<Map<String, Object>> fieldValueMaps) {
+		evictFromRequestScope(environment, entityClass,
+				fieldValueMaps.stream().map(fieldValueMap -> fieldValueMap.get(getConfig().getAttributeIdName())).filter(Objects::nonNull)
+						.map(Object::toString).collect(Collectors.toList()));
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void mapDynamicAttributeSettersValues(final Class<?> entityClass, final Map<String, Object> fieldValueMap) {
+		fieldValueMap.entrySet().forEach(entry -> {
+			if (entry.getValue() instanceof Map) {
+				final Optional<IGQLDynamicAttributeSetter<Object, Object>> setter = dynamicAttributeRegistry.getSetter(entityClass, entry.getKey());
+				if (setter.isPresent()) {
+					entry.setValue(convertValue((Map<String, Object>) entry.getValue(), setter.get()));
+				}
+			}
+		});
+	}
+
+	protected Object convertValue(final Map<String, Object> dynamicAttributeValuePropertyValues,
+			final IGQLDynamicAttributeSetter<?, ?> dynamicAttributeSetter) {
+		final Type type = GenericsUtils.getTypeArguments(dynamicAttributeSetter.getClass(), IGQLDynamicAttributeSetter.class).get(1);
+		final Object converted = createAndSetPropertyValues(dynamicAttributeValuePropertyValues, GenericsUtils.getTypeClass(type));
+		return converted;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the dynamicAttributeRegistry
+	 */
+	public GQLDynamicAttributeRegistry getDynamicAttributeRegistry() {
+		return dynamicAttributeRegistry;
+	}
+
+	/**
+	 * @param dynamicAttributeRegistry the dynamicAttributeRegistry to set
+	 */
+	public void setDynamicAttributeRegistry(final GQLDynamicAttributeRegistry dynamicAttributeRegistry) {
+		this.dynamicAttributeRegistry = dynamicAttributeRegistry;
+	}
+}
@@ -1,19 +1,23 @@
 package com.daikit.graphql.datafetcher;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import org.apache.commons.beanutils.PropertyUtils;
+import org.dataloader.DataLoader;
 
 import com.daikit.graphql.config.GQLSchemaConfig;
 import com.daikit.graphql.dynamicattribute.IGQLDynamicAttributeSetter;
+import com.daikit.graphql.execution.GQLRootContext;
 import com.daikit.graphql.meta.GQLInternalMetaModel;
 import com.daikit.graphql.utils.Message;
 
@@ -30,6 +34,8 @@ import graphql.language.StringValue;
 import graphql.language.Value;
 import graphql.language.VariableReference;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.SelectedField;
 
 /**
  * Abstract super class for all data fetchers
@@ -37,15 +43,32 @@ import graphql.schema.DataFetcher;
  * @author Thibaut Caselli
  * @param <FETCHED_DATA_TYPE> the fetched data type
  */
-public abstract class GQLAbstractDataFetcher<FETCHED_DATA_TYPE> implements DataFetcher<FETCHED_DATA_TYPE> {
+public abstract class GQLAbstractDataFetcher<FETCHED_DATA_TYPE> implements DataFetcher<FETCHED_DATA_TYPE>, Cloneable {
 
-	private GQLInternalMetaModel metaModel;
-	private GQLSchemaConfig schemaConfig;
+	private volatile GQLInternalMetaModel metaModel;
+	private volatile GQLSchemaConfig schemaConfig;
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// PUBLIC METHODS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
+	/**
+	 * Create a copy of this data fetcher to be initialized with another meta model, so that requests running on schemas built from
+	 * this data fetcher are not affected, see {@link com.daikit.graphql.execution.GQLExecutor#reload}. The copy is shallow : fields
+	 * of sub classes are shared with this data fetcher. Sub classes holding state computed from the meta model override this method
+	 * to reset it.
+	 *
+	 * @return the copy
+	 */
+	@SuppressWarnings("unchecked")
+	public GQLAbstractDataFetcher<FETCHED_DATA_TYPE> copy() {
+		try {
+			return (GQLAbstractDataFetcher<FETCHED_DATA_TYPE>) clone();
+		} catch (final CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	/**
 	 * Get provided variable names for the request
 	 *
@@ -190,35 +213,190 @@ public abstract class GQLAbstractDataFetcher<FETCHED_DATA_TYPE> implements DataF
 	 * @return the argument value
 	 */
 	protected Object getArgumentValue(final Field queryField, final String name, final Map<String, Object> arguments) {
-		final Optional<Argument> argumentOpt = queryField.getArguments().stream().filter(argument -> name.equals(argument.getName())).findFirst();
-		Object ret;
-		if (argumentOpt.isPresent()) {
-			ret = mapValue(argumentOpt.get(), arguments);
-		} else {
-			throw new IllegalArgumentException(Message.format("Argument not found with name [{}]", name));
+		for (final Argument argument : queryField.getArguments()) {
+			if (name.equals(argument.getName())) {
+				return mapValue(argument, arguments);
+			}
 		}
-		return ret;
+		throw new IllegalArgumentException(Message.format("Argument not found with name [{}]", name));
 	}
 
 	protected <T> T createAndSetPropertyValues(final Map<String, Object> propertyValues, final Class<T> targetClass) {
-		try {
-			final T target = targetClass.newInstance();
-			setPropertyValues(propertyValues, target);
-			return target;
-		} catch (InstantiationException | IllegalAccessException e) {
-			throw new IllegalArgumentException(Message.format("Unable to create target class [{}]", targetClass), e);
-		}
+		final GQLPropertyAccessors accessors = GQLPropertyAccessors.forClass(targetClass);
+		final T target = accessors.newInstance();
+		propertyValues.entrySet().forEach(entry -> accessors.setProperty(target, entry.getKey(), entry.getValue()));
+		return target;
 	}
 
 	protected void setPropertyValues(final Map<String, Object> propertyValues, final Object target) {
-		propertyValues.entrySet().forEach(entry -> {
-			try {
-				PropertyUtils.setSimpleProperty(target, entry.getKey(), entry.getValue());
-			} catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-				throw new IllegalArgumentException(
-						Message.format("Unsupported property value [{}] for key [{}] on [{}]", entry.getValue(), entry.getKey(), target), e);
+		final GQLPropertyAccessors accessors = GQLPropertyAccessors.forClass(target.getClass());
+		propertyValues.entrySet().forEach(entry -> accessors.setProperty(target, entry.getKey(), entry.getValue()));
+	}
+
+	/**
+	 * Get the request level cache from the environment {@link GQLRootContext}, if any. It is available when several operations are
+	 * executed in a single request scope, see {@link com.daikit.graphql.execution.GQLExecutor#executeBatch}.
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @return the {@link Optional} request level cache
+	 */
+	protected Optional<Map<Object, Object>> getRequestCache(final DataFetchingEnvironment environment) {
+		final Object context = environment.getContext();
+		return context instanceof GQLRootContext ? Optional.ofNullable(((GQLRootContext) context).getRequestCache()) : Optional.empty();
+	}
+
+	/**
+	 * Get the {@link GQLRootContext} from the environment, if any. It gives access to the request execution deadline.
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @return the {@link Optional} {@link GQLRootContext}
+	 */
+	protected Optional<GQLRootContext> getRootContext(final DataFetchingEnvironment environment) {
+		final Object context = environment.getContext();
+		return context instanceof GQLRootContext ? Optional.of((GQLRootContext) context) : Optional.empty();
+	}
+
+	/**
+	 * Get the paths of the entity attributes selected by the client below given field of the selection set. Paths are made of
+	 * attribute names separated by dots, relation paths included : selecting <code>entity2 { id }</code> gives "entity2" and
+	 * "entity2.id". Introspection fields are ignored.
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @param prefix      the name of the field holding the entity within the selection set, or null if the selection set is the
+	 *                    entity one
+	 * @return the {@link Set} of attribute paths
+	 */
+	protected Set<String> getRequestedAttributePaths(final DataFetchingEnvironment environment, final String prefix) {
+		final Set<String> paths = new LinkedHashSet<>();
+		final String qualifiedPrefix = prefix == null ? "" : prefix + "/";
+		for (final String qualifiedName : getSelectedFieldNames(environment)) {
+			if (qualifiedName.startsWith(qualifiedPrefix)
+					&& !qualifiedName.substring(qualifiedName.lastIndexOf('/') + 1).startsWith("__")) {
+				paths.add(qualifiedName.substring(qualifiedPrefix.length()).replace('/', '.'));
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * Get the qualified names of all the fields of the selection set, made of field names separated by slashes like in
+	 * {@link graphql.schema.DataFetchingFieldSelectionSet#contains(String)}. Unlike {@link SelectedField#getQualifiedName()}, they
+	 * are built with field names and not with aliases : selecting <code>count: totalLength</code> in <code>paging</code> gives
+	 * "paging/totalLength".
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @return the {@link Set} of qualified field names
+	 */
+	protected Set<String> getSelectedFieldNames(final DataFetchingEnvironment environment) {
+		final List<SelectedField> selectedFields = environment.getSelectionSet().getFields();
+		final Map<String, String> namesByResultKeyPath = new HashMap<>();
+		selectedFields.forEach(selectedField -> namesByResultKeyPath.put(selectedField.getQualifiedName(), selectedField.getName()));
+		final Set<String> qualifiedNames = new LinkedHashSet<>();
+		for (final SelectedField selectedField : selectedFields) {
+			final String resultKeyPath = selectedField.getQualifiedName();
+			final StringBuilder qualifiedName = new StringBuilder();
+			int separatorIndex = resultKeyPath.indexOf('/');
+			while (separatorIndex >= 0) {
+				qualifiedName.append(namesByResultKeyPath.get(resultKeyPath.substring(0, separatorIndex))).append('/');
+				separatorIndex = resultKeyPath.indexOf('/', separatorIndex + 1);
 			}
-		});
+			qualifiedNames.add(qualifiedName.append(selectedField.getName()).toString());
+		}
+		return qualifiedNames;
+	}
+
+	/**
+	 * Evict given entities from the request scope once they have been saved or deleted, so that operations executed afterwards within
+	 * the same request load them again : they are removed from the request level cache and from the entity batch loading
+	 * {@link DataLoader}. All entity lists batch loaded by parent are cleared as well, as saved or deleted entities may belong to any
+	 * of them.
+	 *
+	 * @param environment the {@link DataFetchingEnvironment}
+	 * @param entityClass the entity class
+	 * @param ids         the IDs of the saved or deleted entities
+	 */
+	protected void evictFromRequestScope(final DataFetchingEnvironment environment, final Class<?> entityClass,
+			final Collection<String> ids) {
+		getRequestCache(environment).ifPresent(requestCache -> ids.forEach(id -> requestCache.remove(getRequestCacheKey(entityClass, id))));
+		final DataLoader<List<Object>, Object> entityDataLoader = environment.getDataLoader(GQLEntityBatchDataFetcher.DATA_LOADER_NAME);
+		if (entityDataLoader != null) {
+			ids.forEach(id -> entityDataLoader.clear(Arrays.asList(entityClass, id)));
+		}
+		final DataLoader<List<Object>, List<Object>> entityListDataLoader = environment
+				.getDataLoader(GQLEntityListBatchDataFetcher.DATA_LOADER_NAME);
+		if (entityListDataLoader != null) {
+			entityListDataLoader.clearAll();
+		}
+	}
+
+	/**
+	 * Get the entity with given ID from the request level cache. An entity loaded with a projection is only reused when the attribute
+	 * paths it was loaded for cover all given ones.
+	 *
+	 * @param requestCache   the request level cache
+	 * @param entityClass    the entity class
+	 * @param id             the entity ID
+	 * @param attributePaths the paths of the attributes that need to be loaded
+	 * @return the {@link Optional} cached entity, empty if not cached or cached for a projection not covering given attribute paths
+	 */
+	protected Optional<Object> getFromRequestCache(final Map<Object, Object> requestCache, final Class<?> entityClass,
+			final String id, final Set<String> attributePaths) {
+		final Object cached = requestCache.get(getRequestCacheKey(entityClass, id));
+		return isCovering(cached, attributePaths) ? Optional.of(((RequestCacheEntry) cached).value) : Optional.empty();
+	}
+
+	/**
+	 * Get the entity with given ID from the request level cache, see {@link #getFromRequestCache(Map, Class, String, Set)}. If it is
+	 * not available, it is loaded with given loader and cached in place of any entity cached for a narrower projection. The loader
+	 * is run outside of any cache lock so that it may use the request cache itself. If another operation cached a covering entity
+	 * meanwhile, this entity is kept and returned. Null entities are not cached.
+	 *
+	 * @param requestCache   the request level cache
+	 * @param entityClass    the entity class
+	 * @param id             the entity ID
+	 * @param attributePaths the paths of the attributes that need to be loaded
+	 * @param loader         the loader of the entity, loading at least given attribute paths
+	 * @return the entity
+	 */
+	protected Object computeInRequestCache(final Map<Object, Object> requestCache, final Class<?> entityClass, final String id,
+			final Set<String> attributePaths, final Supplier<Object> loader) {
+		final Optional<Object> cached = getFromRequestCache(requestCache, entityClass, id, attributePaths);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		final Object entity = loader.get();
+		if (entity == null) {
+			return null;
+		}
+		final Object kept = requestCache.merge(getRequestCacheKey(entityClass, id), new RequestCacheEntry(attributePaths, entity),
+				(existing, loaded) -> isCovering(existing, attributePaths) ? existing : loaded);
+		return ((RequestCacheEntry) kept).value;
+	}
+
+	/**
+	 * Remove the entity with given ID from the request level cache, only if it is still cached with given value. This is used to
+	 * drop entities which loading failed without removing a value cached meanwhile by another operation.
+	 *
+	 * @param requestCache the request level cache
+	 * @param entityClass  the entity class
+	 * @param id           the entity ID
+	 * @param value        the cached value to be removed
+	 */
+	protected void removeFromRequestCache(final Map<Object, Object> requestCache, final Class<?> entityClass, final String id,
+			final Object value) {
+		requestCache.computeIfPresent(getRequestCacheKey(entityClass, id),
+				(key, cached) -> cached instanceof RequestCacheEntry && ((RequestCacheEntry) cached).value == value ? null : cached);
+	}
+
+	/**
+	 * Build the request level cache key for given entity
+	 *
+	 * @param entityClass the entity class
+	 * @param id          the entity ID
+	 * @return the cache key
+	 */
+	protected Object getRequestCacheKey(final Class<?> entityClass, final String id) {
+		return Arrays.asList(entityClass, id);
 	}
 
 	/**
@@ -263,6 +441,10 @@ public abstract class GQLAbstractDataFetcher<FETCHED_DATA_TYPE> implements DataF
 		return (X) mappedValue;
 	}
 
+	private boolean isCovering(final Object cached, final Set<String> attributePaths) {
+		return cached instanceof RequestCacheEntry && ((RequestCacheEntry) cached).attributePaths.containsAll(attributePaths);
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// GETTERS / SETTERS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -281,4 +463,20 @@ public abstract class GQLAbstractDataFetcher<FETCHED_DATA_TYPE> implements DataF
 		this.schemaConfig = schemaConfig;
 	}
 
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// INNER CLASSES
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private static class RequestCacheEntry {
+
+		private final Set<String> attributePaths;
+		private final Object value;
+
+		RequestCacheEntry(final Set<String> attributePaths, final Object value) {
+			this.attributePaths = new HashSet<>(attributePaths);
+			this.value = value;
+		}
+
+	}
+
 }
@@ -1,21 +1,32 @@
 package com.daikit.graphql.datafetcher;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
 import com.daikit.graphql.builder.GQLSchemaBuilder;
+import com.daikit.graphql.data.input.GQLListLoadConfig;
+import com.daikit.graphql.data.output.GQLDeleteAllResult;
 import com.daikit.graphql.data.output.GQLDeleteResult;
+import com.daikit.graphql.exception.GQLException;
+import com.daikit.graphql.utils.Message;
 
-import graphql.language.Field;
+import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 
 /**
  * Abstract super class that may be overridden to provide "delete entity" data
  * fetcher by ID to the schema building. This class is typically to be extended
  * and used in {@link GQLSchemaBuilder} for buildSchema delete method data
- * fetcher argument
+ * fetcher argument. It handles 'delete' mutations by ID returning a
+ * {@link GQLDeleteResult}, and provides the data fetchers of 'deleteAll'
+ * mutations by ID list and 'deleteWhere' mutations by filter returning a
+ * {@link GQLDeleteAllResult}.
  *
  * @author Thibaut Caselli
  *
  */
-public abstract class GQLAbstractDeleteDataFetcher extends GQLAbstractDataFetcher<GQLDeleteResult> {
+public abstract class GQLAbstractDeleteDataFetcher extends GQLAbstractBaseDeleteDataFetcher<GQLDeleteResult> {
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// ABSTRACT METHODS
@@ -23,21 +34,82 @@ public abstract class GQLAbstractDeleteDataFetcher extends GQLAbstractDataFetche
 
 	protected abstract void delete(Class<?> entityClass, String id);
 
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Delete all entities matching the filters of given
+	 * {@link GQLListLoadConfig}, as one set based operation. It is only
+	 * called with at least one filter. Default implementation throws a
+	 * {@link GQLException}, override it to support 'deleteWhere' mutations.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param listLoadConfig
+	 *            the {@link GQLListLoadConfig} holding the filters
+	 * @return the IDs of the deleted entities
+	 */
+	protected Collection<String> deleteWhere(final Class<?> entityClass, final GQLListLoadConfig listLoadConfig) {
+		throw new GQLException(Message.format("'deleteWhere' mutations are not supported by [{}]", getClass().getName()));
+	}
+
+	/**
+	 * Delete all entities with given IDs. Default implementation deletes
+	 * entities one by one with {@link #delete(Class, String)}, override it
+	 * to delete them as one set based operation.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the IDs of the entities to be deleted
+	 * @return the IDs of the deleted entities
+	 */
+	protected Collection<String> deleteAll(final Class<?> entityClass, final Collection<String> ids) {
+		for (final String id : ids) {
+			delete(entityClass, id);
+		}
+		return ids;
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// METHODS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
 	@Override
 	public GQLDeleteResult get(final DataFetchingEnvironment environment) {
-		final Field queryField = environment.getField();
-		final String entityName = getEntityName(getConfig().getMutationDeletePrefix(), queryField.getName());
-		final String id = (String) getArgumentValue(queryField, getConfig().getAttributeIdName(),
-				environment.getArguments());
-		delete(getEntityClassByEntityName(entityName), id);
-		final GQLDeleteResult result = new GQLDeleteResult();
-		result.setId(id);
-		result.setTypename(entityName);
-		return result;
+		final Class<?> entityClass = getEntityClass(environment, getConfig().getMutationDeletePrefix());
+		final String id = getDeleteId(environment);
+		delete(entityClass, id);
+		evictFromRequestScope(environment, entityClass, Collections.singletonList(id));
+		return buildDeleteResult(environment, id);
+	}
+
+	@Override
+	public DataFetcher<GQLDeleteAllResult> getDeleteAllDataFetcher() {
+		return environment -> {
+			final Class<?> entityClass = getEntityClass(environment, getConfig().getMutationDeleteAllPrefix());
+			return buildDeleteAllResult(environment, getConfig().getMutationDeleteAllPrefix(), entityClass, deleteAll(entityClass, getDeleteAllIds(environment)));
+		};
+	}
+
+	@Override
+	public DataFetcher<GQLDeleteAllResult> getDeleteWhereDataFetcher() {
+		return environment -> {
+			final Class<?> entityClass = getEntityClass(environment, getConfig().getMutationDeleteWherePrefix());
+			return buildDeleteAllResult(environment, getConfig().getMutationDeleteWherePrefix(), entityClass,
+					deleteWhere(entityClass, buildDeleteWhereListLoadConfig(environment)));
+		};
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private GQLDeleteAllResult buildDeleteAllResult(final DataFetchingEnvironment environment, final String prefix,
+			final Class<?> entityClass, final Collection<String> deletedIds) {
+		evictFromRequestScope(environment, entityClass, deletedIds);
+		return new GQLDeleteAllResult(new ArrayList<>(deletedIds), getEntityName(prefix, environment.getField().getName()));
 	}
 
 }
@@ -1,8 +1,11 @@
 package com.daikit.graphql.datafetcher;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import com.daikit.graphql.builder.GQLSchemaBuilder;
+import com.daikit.graphql.data.input.GQLGetByIdLoadConfig;
 
-import graphql.language.Field;
 import graphql.schema.DataFetchingEnvironment;
 
 /**
@@ -14,7 +17,7 @@ import graphql.schema.DataFetchingEnvironment;
  * @author Thibaut Caselli
  *
  */
-public abstract class GQLAbstractGetByIdDataFetcher extends GQLAbstractDataFetcher<Object> {
+public abstract class GQLAbstractGetByIdDataFetcher extends GQLAbstractBaseGetByIdDataFetcher<Object> {
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// ABSTRACT METHODS
@@ -22,18 +25,76 @@ public abstract class GQLAbstractGetByIdDataFetcher extends GQLAbstractDataFetch
 
 	protected abstract Object getById(Class<?> entityClass, String id);
 
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Override to load only the attributes selected by the client, which are
+	 * given in the {@link GQLGetByIdLoadConfig}. Default implementation calls
+	 * {@link #getById(Class, String)}.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param id
+	 *            the entity ID
+	 * @param loadConfig
+	 *            the {@link GQLGetByIdLoadConfig}
+	 * @return the entity
+	 */
+	protected Object getById(final Class<?> entityClass, final String id, final GQLGetByIdLoadConfig loadConfig) {
+		return getById(entityClass, id);
+	}
+
+	/**
+	 * Override to load several entities at once for "getByIds" queries.
+	 * Default implementation calls {@link #getById(Class, String)} for each ID.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the entity IDs
+	 * @return the entities, in the same order than given IDs and with null
+	 *         for IDs not found
+	 */
+	protected List<Object> getByIds(final Class<?> entityClass, final List<String> ids) {
+		return ids.stream().map(id -> getById(entityClass, id)).collect(Collectors.toList());
+	}
+
+	/**
+	 * Override to load only the attributes selected by the client, which are
+	 * given in the {@link GQLGetByIdLoadConfig}. Default implementation calls
+	 * {@link #getByIds(Class, List)}.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the entity IDs
+	 * @param loadConfig
+	 *            the {@link GQLGetByIdLoadConfig}
+	 * @return the entities, in the same order than given IDs and with null
+	 *         for IDs not found
+	 */
+	protected List<Object> getByIds(final Class<?> entityClass, final List<String> ids,
+			final GQLGetByIdLoadConfig loadConfig) {
+		return getByIds(entityClass, ids);
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// METHODS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
 	@Override
-	public Object get(final DataFetchingEnvironment environment) {
-		final Field queryField = environment.getField();
-		final String entityName = getEntityName(getConfig().getQueryGetByIdPrefix(), queryField.getName());
-		final String id = mapValue(queryField.getArguments().stream()
-				.filter(argument -> getConfig().getAttributeIdName().equals(argument.getName())).findFirst().get(),
-				environment.getArguments());
-		return getById(getEntityClassByEntityName(entityName), id);
+	protected Object fetchById(final DataFetchingEnvironment environment, final Class<?> entityClass, final String id,
+			final GQLGetByIdLoadConfig loadConfig) {
+		return getInRequestScope(environment, entityClass, id, loadConfig, () -> getById(entityClass, id, loadConfig));
+	}
+
+	@Override
+	protected Object fetchByIds(final DataFetchingEnvironment environment, final Class<?> entityClass,
+			final List<String> ids, final GQLGetByIdLoadConfig loadConfig) {
+		return getAllInRequestScope(environment, entityClass, ids, loadConfig,
+				missingIds -> getByIds(entityClass, missingIds, loadConfig));
 	}
 
 }
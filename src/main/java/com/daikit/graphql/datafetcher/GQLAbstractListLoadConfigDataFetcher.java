@@ -0,0 +1,419 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.daikit.graphql.data.input.GQLListLoadConfig;
+import com.daikit.graphql.data.output.GQLOrderByEntry;
+import com.daikit.graphql.dynamicattribute.IGQLDynamicAttributeGetter;
+import com.daikit.graphql.enums.GQLFilterOperatorEnum;
+import com.daikit.graphql.enums.GQLOrderByDirectionEnum;
+import com.daikit.graphql.exception.GQLException;
+import com.daikit.graphql.execution.GQLRootContext;
+import com.daikit.graphql.meta.GQLInternalMetaModel;
+import com.daikit.graphql.utils.Message;
+
+import graphql.language.Argument;
+import graphql.language.ArrayValue;
+import graphql.language.Field;
+import graphql.language.Node;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Abstract super class of data fetchers building a
+ * {@link GQLListLoadConfig} from the paging, order by and filter arguments
+ * of their field : "get list" data fetchers (see
+ * {@link GQLAbstractBaseGetListDataFetcher}). It is also used by "delete
+ * entity" data fetchers to build the filters of deletions by filter (see
+ * {@link GQLAbstractBaseDeleteDataFetcher}).
+ *
+ * @author Thibaut Caselli
+ * @param <FETCHED_DATA_TYPE>
+ *            the fetched data type
+ */
+public abstract class GQLAbstractListLoadConfigDataFetcher<FETCHED_DATA_TYPE> extends GQLAbstractDataFetcher<FETCHED_DATA_TYPE> {
+
+	private static final int ARGUMENTS_PLANS_MAX_SIZE = 10000;
+
+	private volatile GQLDynamicAttributeRegistry dynamicAttributeRegistry;
+	private volatile GQLCursorCodec cursorCodec;
+	// Plans are looked up by query field identity, query fields being shared by executions of a cached parsed document. They are
+	// compiled against the meta model of this data fetcher, each schema state having its own data fetchers. All plans are dropped
+	// once the maximum size is reached, so that fields of documents not cached (or not cached anymore) are not retained.
+	private volatile Map<Field, ArgumentsPlan> argumentsPlans = new ConcurrentHashMap<>();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// ABSTRACT METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get the prefix of the name of the field of given environment,
+	 * followed by the entity name
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @return the field name prefix
+	 */
+	protected abstract String getFieldNamePrefix(DataFetchingEnvironment environment);
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get entity by ID. This is used to resolve filters on entity
+	 * attributes and must be overridden for these filters to be supported.
+	 * Default implementation throws a {@link GQLException}.
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param id
+	 *            the entity ID
+	 * @return the entity
+	 */
+	protected Object getById(final Class<?> entityClass, final String id) {
+		throw new GQLException(Message.format("Filtering [{}] entities by entity attribute is not supported by [{}]",
+				entityClass.getSimpleName(), getClass().getName()));
+	}
+
+	/**
+	 * Override to provide custom {@link GQLListLoadConfig} extension
+	 *
+	 * @return a {@link GQLListLoadConfig}
+	 */
+	protected GQLListLoadConfig createGQLListLoadConfig() {
+		return new GQLListLoadConfig();
+	}
+
+	/**
+	 * Get the {@link GQLCursorCodec} used for cursor paging. It is created
+	 * again if this data fetcher is initialized with another meta model.
+	 *
+	 * @return the {@link GQLCursorCodec}
+	 */
+	protected GQLCursorCodec getCursorCodec() {
+		GQLCursorCodec codec = cursorCodec;
+		if (codec == null) {
+			codec = new GQLCursorCodec(getMetaModel());
+			cursorCodec = codec;
+		}
+		return codec;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public GQLAbstractListLoadConfigDataFetcher<FETCHED_DATA_TYPE> copy() {
+		final GQLAbstractListLoadConfigDataFetcher<FETCHED_DATA_TYPE> copy = (GQLAbstractListLoadConfigDataFetcher<FETCHED_DATA_TYPE>) super
+				.copy();
+		// Plans and cursor codec are compiled again against the meta model of the copy
+		copy.resetCompiledState();
+		return copy;
+	}
+
+	@Override
+	public void setMetaModel(final GQLInternalMetaModel metaModel) {
+		super.setMetaModel(metaModel);
+		resetCompiledState();
+	}
+
+	/**
+	 * Get the class of the entities handled by the field of given
+	 * environment
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @return the entity class
+	 */
+	protected Class<?> getEntityClass(final DataFetchingEnvironment environment) {
+		return getArgumentsPlan(environment).entityClass;
+	}
+
+	/**
+	 * Build the {@link GQLListLoadConfig} from the paging, order by and
+	 * filter arguments of the field of given environment
+	 *
+	 * @param environment
+	 *            the {@link DataFetchingEnvironment}
+	 * @return the {@link GQLListLoadConfig}
+	 */
+	protected GQLListLoadConfig buildListLoadConfig(final DataFetchingEnvironment environment) {
+		// The load configuration that will be used to run the query against
+		// database using the service layer
+		final GQLListLoadConfig listLoadConfig = createGQLListLoadConfig();
+		final Map<String, Object> arguments = environment.getArguments();
+
+		// Argument extraction plan compiled once per query field
+		final ArgumentsPlan plan = getArgumentsPlan(environment);
+
+		// Handle paging if needed
+		if (plan.paging != null) {
+			final Map<String, Object> contextArguments = getArgumentsForContext(arguments, plan.paging.getName());
+			final int limit = plan.limitField != null ? mapValue(plan.limitField, contextArguments)
+					: getConfig().getQueryGetListPagingAttributeLimitDefaultValue();
+			final int offset = plan.offsetField != null ? mapValue(plan.offsetField, contextArguments) : 0;
+			listLoadConfig.setPaging(limit, offset);
+		}
+
+		// Handle sorting if needed
+		if (plan.orderBy != null) {
+			final List<Map<String, Object>> subArgumentsList = getArgumentsForContextAsList(arguments,
+					plan.orderBy.getName());
+			for (final OrderByPlan orderByPlan : plan.orderBys) {
+				for (final Map<String, Object> subArguments : subArgumentsList) {
+					// Field always non null
+					final String field = mapValue(orderByPlan.fieldField, subArguments);
+					GQLOrderByDirectionEnum direction = getConfig()
+							.getQueryGetListFilterAttributeOrderByDirectionDefaultValue();
+					if (orderByPlan.directionField != null) {
+						final Object directionObj = mapValue(orderByPlan.directionField, subArguments);
+						direction = directionObj instanceof String ? GQLOrderByDirectionEnum.valueOf((String) directionObj)
+								: (GQLOrderByDirectionEnum) directionObj;
+					}
+					listLoadConfig.addOrderBy(field, direction);
+				}
+			}
+		}
+
+		// Handle cursor paging if needed, once order by is known as cursors hold order by values
+		if (plan.firstField != null || plan.afterField != null) {
+			buildCursorPaging(listLoadConfig, plan, getArgumentsForContext(arguments, plan.paging.getName()));
+		}
+
+		// Handle filtering if needed
+		if (plan.filter != null) {
+			final Map<String, Object> contextArguments = getArgumentsForContext(arguments, plan.filter.getName());
+			for (final FilterPlan filterPlan : plan.filters) {
+				GQLFilterOperatorEnum operator;
+				Object value;
+				if (filterPlan.operatorField != null) {
+					final Map<String, Object> filterArguments = getArgumentsForContext(contextArguments,
+							filterPlan.filterField.getName());
+					// Operator always non null
+					final Object operatorObject = mapValue(filterPlan.operatorField, filterArguments);
+					operator = operatorObject instanceof GQLFilterOperatorEnum ? (GQLFilterOperatorEnum) operatorObject
+							: GQLFilterOperatorEnum.forCode((String) operatorObject);
+					value = filterPlan.valueField != null ? mapValue(filterPlan.valueField, filterArguments) : null;
+				} else {
+					operator = GQLFilterOperatorEnum.EQUAL;
+					final String id = mapValue(filterPlan.filterField, contextArguments);
+					value = id == null ? null : getById(plan.entityClass, id);
+				}
+				listLoadConfig.addFilter(filterPlan.queryPath, operator, value, filterPlan.dynamicAttributeGetter);
+			}
+		}
+
+		final Optional<GQLRootContext> rootContext = getRootContext(environment);
+		if (rootContext.isPresent()) {
+			// Do not start loading if the deadline already passed while parsing arguments
+			rootContext.get().checkNotExpired();
+			listLoadConfig.setRootContext(rootContext.get());
+		}
+
+		return listLoadConfig;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private void resetCompiledState() {
+		argumentsPlans = new ConcurrentHashMap<>();
+		cursorCodec = null;
+	}
+
+	private ArgumentsPlan getArgumentsPlan(final DataFetchingEnvironment environment) {
+		final Field queryField = environment.getField();
+		final Map<Field, ArgumentsPlan> plans = argumentsPlans;
+		ArgumentsPlan plan = plans.get(queryField);
+		if (plan == null) {
+			// Compiling twice concurrently is harmless, plans being equivalent
+			plan = compileArgumentsPlan(queryField, getFieldNamePrefix(environment));
+			if (plans.size() >= ARGUMENTS_PLANS_MAX_SIZE) {
+				plans.clear();
+			}
+			plans.put(queryField, plan);
+		}
+		return plan;
+	}
+
+	private ArgumentsPlan compileArgumentsPlan(final Field queryField, final String fieldNamePrefix) {
+		final String entityName = getEntityName(fieldNamePrefix, queryField.getName());
+		final ArgumentsPlan plan = new ArgumentsPlan(getEntityClassByEntityName(entityName));
+		for (final Argument argument : queryField.getArguments()) {
+			if (plan.paging == null && getConfig().getQueryGetListPagingAttributeName().equals(argument.getName())) {
+				plan.paging = argument;
+				plan.limitField = findObjectField((ObjectValue) argument.getValue(),
+						getConfig().getQueryGetListPagingAttributeLimitName());
+				plan.offsetField = findObjectField((ObjectValue) argument.getValue(),
+						getConfig().getQueryGetListPagingAttributeOffsetName());
+				plan.firstField = findObjectField((ObjectValue) argument.getValue(),
+						getConfig().getQueryGetListPagingAttributeFirstName());
+				plan.afterField = findObjectField((ObjectValue) argument.getValue(),
+						getConfig().getQueryGetListPagingAttributeAfterName());
+			} else if (plan.orderBy == null
+					&& getConfig().getQueryGetListFilterAttributeOrderByName().equals(argument.getName())) {
+				plan.orderBy = argument;
+				for (final Node<?> sortInfoNode : ((ArrayValue) argument.getValue()).getChildren()) {
+					plan.orderBys.add(new OrderByPlan(
+							findObjectField((ObjectValue) sortInfoNode,
+									getConfig().getQueryGetListFilterAttributeOrderByFieldName()),
+							findObjectField((ObjectValue) sortInfoNode,
+									getConfig().getQueryGetListFilterAttributeOrderByDirectionName())));
+				}
+			} else if (plan.filter == null && getConfig().getQueryGetListFilterAttributeName().equals(argument.getName())) {
+				plan.filter = argument;
+				for (final ObjectField filterField : ((ObjectValue) argument.getValue()).getObjectFields()) {
+					plan.filters.add(compileFilterPlan(plan.entityClass, filterField));
+				}
+			}
+		}
+		return plan;
+	}
+
+	private void buildCursorPaging(final GQLListLoadConfig listLoadConfig, final ArgumentsPlan plan,
+			final Map<String, Object> pagingArguments) {
+		if (listLoadConfig.getOffset() > 0) {
+			throw new IllegalArgumentException(Message.format("Paging [{}] cannot be used with cursor paging",
+					getConfig().getQueryGetListPagingAttributeOffsetName()));
+		}
+		final Integer first = plan.firstField != null ? mapValue(plan.firstField, pagingArguments) : null;
+		final String after = plan.afterField != null ? mapValue(plan.afterField, pagingArguments) : null;
+		// The ID is the last order by so that entities are totally ordered and keysets are unique
+		final String idName = getConfig().getAttributeIdName();
+		if (listLoadConfig.getOrderBy().stream().noneMatch(orderBy -> idName.equals(orderBy.getField()))) {
+			listLoadConfig.addOrderBy(idName, GQLOrderByDirectionEnum.ASC);
+		}
+		final Map<String, Object> keyset = after == null ? Collections.emptyMap() : getCursorCodec().decode(after);
+		if (after != null && !new ArrayList<>(keyset.keySet()).equals(listLoadConfig.getOrderBy().stream()
+				.map(GQLOrderByEntry::getField).collect(Collectors.toList()))) {
+			throw new IllegalArgumentException(
+					Message.format("Paging cursor [{}] was not created for this query order by", after));
+		}
+		final int pageSize = first != null && first.intValue() > 0 ? first.intValue()
+				: listLoadConfig.getLimit() > 0 ? listLoadConfig.getLimit()
+						: getConfig().getQueryGetListPagingAttributeLimitDefaultValue();
+		// One more entity is loaded to know whether there is a next page without counting
+		listLoadConfig.setCursorPaging(pageSize + 1, keyset);
+	}
+
+	private FilterPlan compileFilterPlan(final Class<?> entityClass, final ObjectField filterField) {
+		final String fieldName = getConfig().removePropertyIdSuffix(filterField.getName());
+		final Optional<IGQLDynamicAttributeGetter<Object, Object>> dynAttr = dynamicAttributeRegistry
+				.getGetter(entityClass, fieldName);
+		final String queryPath = dynAttr.isPresent() && StringUtils.isNoneEmpty(dynAttr.get().getFilterQueryPath())
+				? dynAttr.get().getFilterQueryPath()
+				: fieldName;
+		ObjectField operatorField = null;
+		ObjectField valueField = null;
+		if (filterField.getValue() instanceof ObjectValue) {
+			operatorField = findObjectField((ObjectValue) filterField.getValue(),
+					getConfig().getQueryGetListFilterAttributeOperatorName());
+			valueField = findObjectField((ObjectValue) filterField.getValue(),
+					getConfig().getQueryGetListFilterAttributeValueName());
+			if (operatorField == null) {
+				throw new IllegalArgumentException(
+						Message.format("Missing filter operator for field [{}]", filterField.getName()));
+			}
+		}
+		return new FilterPlan(filterField, operatorField, valueField, queryPath, dynAttr.orElse(null));
+	}
+
+	private ObjectField findObjectField(final ObjectValue objectValue, final String name) {
+		for (final ObjectField objectField : objectValue.getObjectFields()) {
+			if (name.equals(objectField.getName())) {
+				return objectField;
+			}
+		}
+		return null;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// INNER CLASSES
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Arguments of a query field resolved against the schema configuration and meta model. Values are still read from the request
+	 * arguments as they may come from variables.
+	 */
+	private static class ArgumentsPlan {
+
+		private final Class<?> entityClass;
+		private Argument paging;
+		private ObjectField limitField;
+		private ObjectField offsetField;
+		private ObjectField firstField;
+		private ObjectField afterField;
+		private Argument orderBy;
+		private final List<OrderByPlan> orderBys = new ArrayList<>();
+		private Argument filter;
+		private final List<FilterPlan> filters = new ArrayList<>();
+
+		ArgumentsPlan(final Class<?> entityClass) {
+			this.entityClass = entityClass;
+		}
+
+	}
+
+	private static class OrderByPlan {
+
+		private final ObjectField fieldField;
+		private final ObjectField directionField;
+
+		OrderByPlan(final ObjectField fieldField, final ObjectField directionField) {
+			this.fieldField = fieldField;
+			this.directionField = directionField;
+		}
+
+	}
+
+	private static class FilterPlan {
+
+		private final ObjectField filterField;
+		private final ObjectField operatorField;
+		private final ObjectField valueField;
+		private final String queryPath;
+		private final IGQLDynamicAttributeGetter<Object, Object> dynamicAttributeGetter;
+
+		FilterPlan(final ObjectField filterField, final ObjectField operatorField, final ObjectField valueField,
+				final String queryPath, final IGQLDynamicAttributeGetter<Object, Object> dynamicAttributeGetter) {
+			this.filterField = filterField;
+			this.operatorField = operatorField;
+			this.valueField = valueField;
+			this.queryPath = queryPath;
+			this.dynamicAttributeGetter = dynamicAttributeGetter;
+		}
+
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the dynamicAttributeRegistry
+	 */
+	public GQLDynamicAttributeRegistry getDynamicAttributeRegistry() {
+		return dynamicAttributeRegistry;
+	}
+
+	/**
+	 * @param dynamicAttributeRegistry
+	 *            the dynamicAttributeRegistry to set
+	 */
+	public void setDynamicAttributeRegistry(final GQLDynamicAttributeRegistry dynamicAttributeRegistry) {
+		this.dynamicAttributeRegistry = dynamicAttributeRegistry;
+		resetCompiledState();
+	}
+}
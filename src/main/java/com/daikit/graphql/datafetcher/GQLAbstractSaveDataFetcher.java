@@ -1,31 +1,24 @@
 package com.daikit.graphql.datafetcher;
 
-import java.lang.reflect.Type;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
-import com.daikit.generics.utils.GenericsUtils;
 import com.daikit.graphql.builder.GQLSchemaBuilder;
-import com.daikit.graphql.dynamicattribute.IGQLDynamicAttributeSetter;
-import com.daikit.graphql.exception.GQLException;
-import com.daikit.graphql.utils.Message;
 
-import graphql.language.Field;
-import graphql.language.ObjectValue;
-import graphql.language.VariableReference;
+import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 
 /**
  * Abstract super class that may be overridden to provide "save entity" data fetcher to the schema building. This class is typically to be extended and used in
- * {@link GQLSchemaBuilder} for buildSchema method "save entity" data fetcher argument
+ * {@link GQLSchemaBuilder} for buildSchema method "save entity" data fetcher argument. It handles 'save' mutations, returning the saved entity, and
+ * provides the {@link #getSaveAllDataFetcher()} handling 'save all' mutations, returning the {@link List} of saved entities.
  *
  * @author Thibaut Caselli
  * @param <SUPER_ENTITY_TYPE> the super type for all saveable entities
  */
-public abstract class GQLAbstractSaveDataFetcher<SUPER_ENTITY_TYPE> extends GQLAbstractDataFetcher<SUPER_ENTITY_TYPE> {
-
-	private GQLDynamicAttributeRegistry dynamicAttributeRegistry;
+public abstract class GQLAbstractSaveDataFetcher<SUPER_ENTITY_TYPE> extends GQLAbstractBaseSaveDataFetcher<SUPER_ENTITY_TYPE> {
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// ABSTRACT METHODS
@@ -49,6 +42,22 @@ public abstract class GQLAbstractSaveDataFetcher<SUPER_ENTITY_TYPE> extends GQLA
 	protected abstract SUPER_ENTITY_TYPE getOrCreateAndSetProperties(final Class<?> entityClass, final GQLDynamicAttributeRegistry dynamicAttributeRegistry,
 			final Map<String, Object> fieldValueMap);
 
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// OVERRIDABLE METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Save the entities of a 'save all' mutation in persistence layer. Default implementation saves entities one by one with
+	 * {@link #save(Object)}, override it to save them in batch or within a single transaction.
+	 *
+	 * @param entities the {@link List} of entities to be saved, in mutation argument order
+	 */
+	protected void saveAll(final List<SUPER_ENTITY_TYPE> entities) {
+		for (final SUPER_ENTITY_TYPE entity : entities) {
+			save(entity);
+		}
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// METHODS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -61,60 +70,46 @@ public abstract class GQLAbstractSaveDataFetcher<SUPER_ENTITY_TYPE> extends GQLA
 		return model;
 	}
 
-	@Override
-	public SUPER_ENTITY_TYPE get(final DataFetchingEnvironment environment) {
-		final Field mutationField = environment.getField();
-		final String entityName = getEntityName(getConfig().getMutationSavePrefix(), mutationField.getName());
-		final Object dataValue = mutationField.getArguments().stream()
-				.filter(argument -> getConfig().getMutationAttributeInputDataName().equals(argument.getName())).findFirst().get().getValue();
-		final Map<String, Object> arguments = getArgumentsForContext(environment.getArguments(), getConfig().getMutationAttributeInputDataName());
-		final Class<?> entityClass = getEntityClassByEntityName(entityName);
-		Map<String, Object> fieldValueMap;
-		if (dataValue instanceof ObjectValue) {
-			fieldValueMap = convertObjectValue((ObjectValue) dataValue, arguments);
-		} else if (dataValue instanceof VariableReference) {
-			fieldValueMap = new HashMap<>(arguments);
-			mapDynamicAttributeSettersValues(entityClass, fieldValueMap);
-		} else {
-			throw new GQLException(Message.format("Unsupported save data type : [{}]", dataValue.getClass().getName()));
+	protected List<SUPER_ENTITY_TYPE> saveAll(final Class<?> entityClass, final GQLDynamicAttributeRegistry dynamicAttributeRegistry,
+			final List<Map<String, Object>> fieldValueMaps) {
+		final List<SUPER_ENTITY_TYPE> models = new ArrayList<>(fieldValueMaps.size());
+		for (final Map<String, Object> fieldValueMap : fieldValueMaps) {
+			models.add(getOrCreateAndSetProperties(entityClass, dynamicAttributeRegistry, fieldValueMap));
 		}
-		return save(entityClass, dynamicAttributeRegistry, fieldValueMap);
+		// Run save
+		saveAll(models);
+		return models;
 	}
 
-	@SuppressWarnings("unchecked")
-	protected void mapDynamicAttributeSettersValues(final Class<?> entityClass, final Map<String, Object> fieldValueMap) {
-		fieldValueMap.entrySet().forEach(entry -> {
-			if (entry.getValue() instanceof Map) {
-				final Optional<IGQLDynamicAttributeSetter<Object, Object>> setter = dynamicAttributeRegistry.getSetter(entityClass, entry.getKey());
-				if (setter.isPresent()) {
-					entry.setValue(convertValue((Map<String, Object>) entry.getValue(), setter.get()));
-				}
-			}
-		});
+	@Override
+	public SUPER_ENTITY_TYPE get(final DataFetchingEnvironment environment) {
+		final Class<?> entityClass = getEntityClass(environment, false);
+		final Map<String, Object> fieldValueMap = getFieldValueMap(environment, entityClass);
+		try {
+			return save(entityClass, getDynamicAttributeRegistry(), fieldValueMap);
+		} finally {
+			// Entities loaded before within the same request are stale once saved, even partially
+			evictSavedFromRequestScope(environment, entityClass, Collections.singletonList(fieldValueMap));
+		}
 	}
 
-	protected Object convertValue(final Map<String, Object> dynamicAttributeValuePropertyValues,
-			final IGQLDynamicAttributeSetter<?, ?> dynamicAttributeSetter) {
-		final Type type = GenericsUtils.getTypeArguments(dynamicAttributeSetter.getClass(), IGQLDynamicAttributeSetter.class).get(1);
-		final Object converted = createAndSetPropertyValues(dynamicAttributeValuePropertyValues, GenericsUtils.getTypeClass(type));
-		return converted;
+	@Override
+	public DataFetcher<List<SUPER_ENTITY_TYPE>> getSaveAllDataFetcher() {
+		return this::getSaveAll;
 	}
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
-	// GETTERS / SETTERS
+	// PRIVATE UTILS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
-	/**
-	 * @return the dynamicAttributeRegistry
-	 */
-	public GQLDynamicAttributeRegistry getDynamicAttributeRegistry() {
-		return dynamicAttributeRegistry;
+	private List<SUPER_ENTITY_TYPE> getSaveAll(final DataFetchingEnvironment environment) {
+		final Class<?> entityClass = getEntityClass(environment, true);
+		final List<Map<String, Object>> fieldValueMaps = getFieldValueMaps(environment, entityClass);
+		try {
+			return saveAll(entityClass, getDynamicAttributeRegistry(), fieldValueMaps);
+		} finally {
+			evictSavedFromRequestScope(environment, entityClass, fieldValueMaps);
+		}
 	}
 
-	/**
-	 * @param dynamicAttributeRegistry the dynamicAttributeRegistry to set
-	 */
-	public void setDynamicAttributeRegistry(final GQLDynamicAttributeRegistry dynamicAttributeRegistry) {
-		this.dynamicAttributeRegistry = dynamicAttributeRegistry;
-	}
 }
@@ -0,0 +1,181 @@
+package com.daikit.graphql.datafetcher;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import com.daikit.graphql.meta.GQLInternalMetaModel;
+import com.daikit.graphql.utils.Message;
+
+/**
+ * Codec of the opaque cursors of "get list" cursor paging. A cursor holds the keyset of an entity : the value of each order by field
+ * on this entity, in order by order. Values are written with their type so that they are decoded to the same Java type : strings,
+ * numbers, booleans, characters, {@link Date}, {@link LocalDate}, {@link LocalDateTime}, {@link Instant} and enumerations of the
+ * meta model are supported, other values are decoded as their string representation. This class is thread safe.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLCursorCodec {
+
+	private static final String NULL_TYPE = "null";
+	private static final String ENTRY_SEPARATOR = ".";
+	private static final String PART_SEPARATOR = ":";
+	private static final Map<String, Function<String, Object>> DECODERS = new HashMap<>();
+
+	static {
+		DECODERS.put(String.class.getName(), value -> value);
+		DECODERS.put(Integer.class.getName(), Integer::valueOf);
+		DECODERS.put(Long.class.getName(), Long::valueOf);
+		DECODERS.put(Short.class.getName(), Short::valueOf);
+		DECODERS.put(Byte.class.getName(), Byte::valueOf);
+		DECODERS.put(Double.class.getName(), Double::valueOf);
+		DECODERS.put(Float.class.getName(), Float::valueOf);
+		DECODERS.put(BigInteger.class.getName(), BigInteger::new);
+		DECODERS.put(BigDecimal.class.getName(), BigDecimal::new);
+		DECODERS.put(Boolean.class.getName(), Boolean::valueOf);
+		DECODERS.put(Character.class.getName(), value -> value.charAt(0));
+		DECODERS.put(Date.class.getName(), value -> new Date(Long.parseLong(value)));
+		DECODERS.put(LocalDate.class.getName(), LocalDate::parse);
+		DECODERS.put(LocalDateTime.class.getName(), LocalDateTime::parse);
+		DECODERS.put(Instant.class.getName(), Instant::parse);
+	}
+
+	private final GQLInternalMetaModel metaModel;
+	private final Map<String, Class<? extends Enum<?>>> enumClasses = new HashMap<>();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param metaModel the {@link GQLInternalMetaModel} giving the enumerations that may be decoded
+	 */
+	public GQLCursorCodec(final GQLInternalMetaModel metaModel) {
+		this.metaModel = metaModel;
+		metaModel.getEnums().forEach(enumMetaData -> enumClasses.put(enumMetaData.getEnumClass().getName(), enumMetaData.getEnumClass()));
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Encode given keyset to an opaque cursor
+	 *
+	 * @param keyset the value of each order by field, in order by order
+	 * @return the cursor
+	 */
+	public String encode(final Map<String, Object> keyset) {
+		final StringBuilder builder = new StringBuilder();
+		for (final Entry<String, Object> entry : keyset.entrySet()) {
+			if (builder.length() > 0) {
+				builder.append(ENTRY_SEPARATOR);
+			}
+			builder.append(encodePart(entry.getKey())).append(PART_SEPARATOR).append(encodePart(getType(entry.getValue())))
+					.append(PART_SEPARATOR).append(encodePart(getText(entry.getValue())));
+		}
+		return encodePart(builder.toString());
+	}
+
+	/**
+	 * Decode given opaque cursor to the keyset it was encoded from
+	 *
+	 * @param cursor the cursor
+	 * @return the value of each order by field, in order by order
+	 * @throws IllegalArgumentException if the cursor is invalid
+	 */
+	public Map<String, Object> decode(final String cursor) {
+		final Map<String, Object> keyset = new LinkedHashMap<>();
+		try {
+			for (final String entry : decodePart(cursor).split("\\" + ENTRY_SEPARATOR, -1)) {
+				final String[] parts = entry.split(PART_SEPARATOR, -1);
+				if (parts.length != 3) {
+					throw new IllegalArgumentException(Message.format("Invalid cursor entry [{}]", entry));
+				}
+				keyset.put(decodePart(parts[0]), decodeValue(decodePart(parts[1]), decodePart(parts[2])));
+			}
+		} catch (final RuntimeException e) {
+			throw new IllegalArgumentException(Message.format("Invalid paging cursor [{}]", cursor), e);
+		}
+		return keyset;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private String getType(final Object value) {
+		final String type;
+		if (value == null) {
+			type = NULL_TYPE;
+		} else if (value instanceof Enum) {
+			type = ((Enum<?>) value).getDeclaringClass().getName();
+		} else if (value instanceof Date) {
+			type = Date.class.getName();
+		} else {
+			type = DECODERS.containsKey(value.getClass().getName()) ? value.getClass().getName() : String.class.getName();
+		}
+		return type;
+	}
+
+	private String getText(final Object value) {
+		final String text;
+		if (value == null) {
+			text = "";
+		} else if (value instanceof Enum) {
+			text = ((Enum<?>) value).name();
+		} else if (value instanceof Date) {
+			text = String.valueOf(((Date) value).getTime());
+		} else {
+			text = value.toString();
+		}
+		return text;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Object decodeValue(final String type, final String text) {
+		final Object value;
+		if (NULL_TYPE.equals(type)) {
+			value = null;
+		} else if (enumClasses.containsKey(type)) {
+			value = Enum.valueOf((Class) enumClasses.get(type), text);
+		} else if (DECODERS.containsKey(type)) {
+			value = DECODERS.get(type).apply(text);
+		} else {
+			throw new IllegalArgumentException(Message.format("Unsupported cursor value type [{}]", type));
+		}
+		return value;
+	}
+
+	private String encodePart(final String part) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(part.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String decodePart(final String part) {
+		return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the {@link GQLInternalMetaModel} this codec was created for
+	 */
+	public GQLInternalMetaModel getMetaModel() {
+		return metaModel;
+	}
+
+}
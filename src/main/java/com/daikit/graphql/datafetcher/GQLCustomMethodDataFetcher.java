@@ -1,10 +1,15 @@
 package com.daikit.graphql.datafetcher;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import com.daikit.generics.utils.GenericsUtils;
 import com.daikit.graphql.builder.GQLExecutionContext;
@@ -15,7 +20,6 @@ import com.daikit.graphql.execution.GQLRootContext;
 import com.daikit.graphql.utils.Message;
 
 import graphql.GraphQLException;
-import graphql.language.Field;
 import graphql.schema.DataFetchingEnvironment;
 
 /**
@@ -27,40 +31,58 @@ import graphql.schema.DataFetchingEnvironment;
  */
 public class GQLCustomMethodDataFetcher extends GQLAbstractDataFetcher<Object> {
 
-	// All registered custom methods mapped by name
-	private final Map<String, GQLCustomMethod> allMethods = new HashMap<>();
-	private GQLDynamicAttributeRegistry dynamicAttributeRegistry;
+	// All registered custom methods invokers mapped by method name
+	private volatile Map<String, CustomMethodInvoker> allMethods = Collections.emptyMap();
+	private volatile GQLDynamicAttributeRegistry dynamicAttributeRegistry;
+	// Sub classes overriding the argument value resolution keep being called for each argument
+	private final boolean argumentValueOverridden = isArgumentValueOverridden(getClass());
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// METHODS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
 	/**
-	 * Register custom methods in this data fetcher. This will be done automatically during schema building process.
+	 * Register custom methods in this data fetcher. This will be done automatically during schema building process. Given
+	 * methods replace all previously registered ones, so that methods removed from the meta model are no longer invocable. An
+	 * invoker made of one argument resolver per method argument and of a {@link MethodHandle} bound to the method controller is
+	 * built once for each method.
 	 *
 	 * @param customMethods a {@link List} of {@link GQLCustomMethod}
 	 */
 	public void registerCustomMethods(final List<? extends GQLCustomMethod> customMethods) {
+		final Map<String, CustomMethodInvoker> newMethods = new HashMap<>();
 		customMethods.stream().forEach(customMethod -> {
-			final GQLCustomMethod existing = allMethods.get(customMethod.getName());
-			if (existing != null && !existing.equals(customMethod)) {
+			final CustomMethodInvoker existing = newMethods.get(customMethod.getName());
+			if (existing == null) {
+				newMethods.put(customMethod.getName(), new CustomMethodInvoker(customMethod));
+			} else if (!existing.method.equals(customMethod)) {
 				throw new GraphQLException(
 						Message.format("Duplicate custom methods registered with name {}.", customMethod.getName()));
 			}
-			allMethods.put(customMethod.getName(), customMethod);
 		});
+		allMethods = Collections.unmodifiableMap(newMethods);
+	}
+
+	@Override
+	public GQLCustomMethodDataFetcher copy() {
+		final GQLCustomMethodDataFetcher copy = (GQLCustomMethodDataFetcher) super.copy();
+		// Invokers are bound to this data fetcher : the copy registers its own ones
+		copy.allMethods = Collections.emptyMap();
+		return copy;
 	}
 
 	@Override
 	public Object get(final DataFetchingEnvironment environment) throws Exception {
-		final GQLCustomMethod method = allMethods.get(environment.getField().getName());
-		final List<Object> arguments = method.getArgs().stream()
-				.map(arg -> getArgumentValue(environment, arg, dynamicAttributeRegistry)).collect(Collectors.toList());
-		try {
-			return method.getMethod().invoke(method.getController(), arguments.toArray());
-		} catch (final InvocationTargetException e) {
-			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		final CustomMethodInvoker invoker = allMethods.get(environment.getField().getName());
+		if (invoker == null) {
+			throw new GraphQLException(Message.format("No custom method registered with name {}.", environment.getField().getName()));
 		}
+		final ArgumentResolver[] resolvers = invoker.resolvers;
+		final Object[] arguments = new Object[resolvers.length];
+		for (int i = 0; i < resolvers.length; i++) {
+			arguments[i] = resolvers[i].resolve(environment);
+		}
+		return invoker.invoke(arguments);
 	}
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -84,15 +106,31 @@ public class GQLCustomMethodDataFetcher extends GQLAbstractDataFetcher<Object> {
 		} else if (GQLRootContext.class.isAssignableFrom(GenericsUtils.getTypeClass(argument.getType()))) {
 			return (T) ((GQLRootContext) environment.getContext());
 		} else {
-			final Field queryField = environment.getField();
-			final Object argumentGraphQLValue = getArgumentValue(queryField, argument.getName(),
-					environment.getArguments());
-			Object mappedValue = argumentGraphQLValue;
-			if (mappedValue != null && mappedValue instanceof Map) {
-				mappedValue = convertValue(dynamicAttributeRegistry, (Map<String, Object>) mappedValue, argument);
-			}
-			return (T) mappedValue;
+			return (T) getQueryArgumentValue(environment, argument);
+		}
+	}
+
+	/**
+	 * Create the resolver of given argument value. This is called once per argument when custom methods are registered. The default
+	 * resolvers give the request {@link GQLExecutionContext} or {@link GQLRootContext} for arguments of these types, and the
+	 * argument value from the query field otherwise.
+	 *
+	 * @param argument the {@link GQLCustomMethodArg}
+	 * @return the {@link ArgumentResolver}
+	 */
+	protected ArgumentResolver createArgumentResolver(final GQLCustomMethodArg argument) {
+		final Class<?> argumentClass = GenericsUtils.getTypeClass(argument.getType());
+		ArgumentResolver resolver;
+		if (argumentValueOverridden) {
+			resolver = environment -> getArgumentValue(environment, argument, dynamicAttributeRegistry);
+		} else if (GQLExecutionContext.class.isAssignableFrom(argumentClass)) {
+			resolver = environment -> ((GQLRootContext) environment.getContext()).getExecutionContext();
+		} else if (GQLRootContext.class.isAssignableFrom(argumentClass)) {
+			resolver = environment -> environment.getContext();
+		} else {
+			resolver = environment -> getQueryArgumentValue(environment, argument);
 		}
+		return resolver;
 	}
 
 	/**
@@ -108,6 +146,101 @@ public class GQLCustomMethodDataFetcher extends GQLAbstractDataFetcher<Object> {
 		return createAndSetPropertyValues(argumentPropertyValues, GenericsUtils.getTypeClass(argument.getType()));
 	}
 
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@SuppressWarnings("unchecked")
+	private Object getQueryArgumentValue(final DataFetchingEnvironment environment, final GQLCustomMethodArg argument) {
+		Object mappedValue = getArgumentValue(environment.getField(), argument.getName(), environment.getArguments());
+		if (mappedValue != null && mappedValue instanceof Map) {
+			mappedValue = convertValue(dynamicAttributeRegistry, (Map<String, Object>) mappedValue, argument);
+		}
+		return mappedValue;
+	}
+
+	private static boolean isArgumentValueOverridden(final Class<?> type) {
+		for (Class<?> current = type; current != GQLCustomMethodDataFetcher.class; current = current.getSuperclass()) {
+			try {
+				current.getDeclaredMethod("getArgumentValue", DataFetchingEnvironment.class, GQLCustomMethodArg.class,
+						GQLDynamicAttributeRegistry.class);
+				return true;
+			} catch (final NoSuchMethodException e) {
+				// Look in super class
+			}
+		}
+		return false;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// INNER CLASSES
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Resolver of a custom method argument value
+	 */
+	@FunctionalInterface
+	protected interface ArgumentResolver {
+
+		/**
+		 * Resolve the argument value
+		 *
+		 * @param environment the {@link DataFetchingEnvironment}
+		 * @return the argument value
+		 */
+		Object resolve(DataFetchingEnvironment environment);
+
+	}
+
+	/**
+	 * Invoker of a registered custom method : argument resolvers and a {@link MethodHandle} taking the argument values array
+	 */
+	private class CustomMethodInvoker {
+
+		private final GQLCustomMethod method;
+		private final ArgumentResolver[] resolvers;
+		private final MethodHandle handle;
+
+		CustomMethodInvoker(final GQLCustomMethod method) {
+			this.method = method;
+			resolvers = new ArgumentResolver[method.getArgs().size()];
+			for (int i = 0; i < resolvers.length; i++) {
+				resolvers[i] = createArgumentResolver(method.getArgs().get(i));
+			}
+			handle = createHandle(method);
+		}
+
+		Object invoke(final Object[] arguments) throws Exception {
+			try {
+				if (handle == null) {
+					return method.getMethod().invoke(method.getController(), arguments);
+				}
+				return handle.invokeExact(arguments);
+			} catch (final InvocationTargetException e) {
+				throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+			} catch (Exception | Error e) {
+				throw e;
+			} catch (final Throwable e) {
+				throw new UndeclaredThrowableException(e);
+			}
+		}
+
+		private MethodHandle createHandle(final GQLCustomMethod customMethod) {
+			try {
+				MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(customMethod.getMethod());
+				if (!Modifier.isStatic(customMethod.getMethod().getModifiers())) {
+					methodHandle = methodHandle.bindTo(customMethod.getController());
+				}
+				return methodHandle.asSpreader(Object[].class, resolvers.length)
+						.asType(MethodType.methodType(Object.class, Object[].class));
+			} catch (final IllegalAccessException e) {
+				// Not publicly accessible methods are invoked by reflection
+				return null;
+			}
+		}
+
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// GETTERS / SETTERS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -0,0 +1,117 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Data fetcher for entity reference attributes loading referenced entities by batch. The ID of the referenced entity is read from
+ * the reference held by the source entity, which is typically a lazy loading proxy, and the entity is then loaded through the
+ * request {@link DataLoader} registered with name {@link #DATA_LOADER_NAME}. This data loader collects all IDs requested within one
+ * execution level, loads them with a single call to {@link IGQLEntityBatchLoader#getByIds(Class, java.util.Collection)} per entity
+ * class and caches loaded entities for the whole request. If no such data loader is registered, the reference is returned as is.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLEntityBatchDataFetcher implements DataFetcher<Object> {
+
+	/**
+	 * Name of the {@link DataLoader} registered for each request when an {@link IGQLEntityBatchLoader} is configured
+	 */
+	public static final String DATA_LOADER_NAME = "GQLEntityBatchLoader";
+
+	private final String propertyName;
+	private final Class<?> entityClass;
+	private final String idPropertyName;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param propertyName
+	 *            the name of the entity reference property within the source entity
+	 * @param entityClass
+	 *            the class of the referenced entity
+	 * @param idPropertyName
+	 *            the name of the ID property within the referenced entity
+	 */
+	public GQLEntityBatchDataFetcher(final String propertyName, final Class<?> entityClass, final String idPropertyName) {
+		this.propertyName = propertyName;
+		this.entityClass = entityClass;
+		this.idPropertyName = idPropertyName;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Create the request scoped {@link DataLoader} loading entities with given {@link IGQLEntityBatchLoader}. Its keys are lists made
+	 * of the entity class and the entity ID.
+	 *
+	 * @param batchLoader
+	 *            the {@link IGQLEntityBatchLoader}
+	 * @return the {@link DataLoader}
+	 */
+	public static DataLoader<List<Object>, Object> createDataLoader(final IGQLEntityBatchLoader batchLoader) {
+		return DataLoader.newMappedDataLoader((final Set<List<Object>> keys) -> {
+			final Map<List<Object>, Object> entities = new HashMap<>();
+			keys.stream().collect(Collectors.groupingBy(key -> (Class<?>) key.get(0),
+					Collectors.mapping(key -> (String) key.get(1), Collectors.toSet()))).forEach((entityClass, ids) -> {
+						batchLoader.getByIds(entityClass, ids)
+								.forEach((id, entity) -> entities.put(Arrays.asList(entityClass, id), entity));
+					});
+			return CompletableFuture.completedFuture(entities);
+		});
+	}
+
+	@Override
+	public Object get(final DataFetchingEnvironment environment) {
+		final Object reference = getProperty(environment.getSource(), propertyName);
+		final DataLoader<List<Object>, Object> dataLoader = environment.getDataLoader(DATA_LOADER_NAME);
+		if (reference == null || dataLoader == null) {
+			return reference;
+		}
+		final Object id = getProperty(reference, idPropertyName);
+		return id == null ? reference : dataLoader.load(Arrays.asList(entityClass, id.toString()));
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private Object getProperty(final Object bean, final String name) {
+		return bean == null ? null : GQLPropertyAccessors.forClass(bean.getClass()).getProperty(bean, name);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the propertyName
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	/**
+	 * @return the entityClass
+	 */
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+
+}
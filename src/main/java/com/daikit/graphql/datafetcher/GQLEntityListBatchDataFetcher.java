@@ -0,0 +1,122 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Data fetcher for list entity attributes loading children by batch. The ID of the source entity is read and its children are then
+ * loaded through the request {@link DataLoader} registered with name {@link #DATA_LOADER_NAME}. This data loader collects all parent
+ * IDs requested within one execution level, loads their children with a single call to
+ * {@link IGQLEntityListBatchLoader#loadChildren(Class, String, java.util.Collection)} per parent class and attribute and caches
+ * them for the whole request. If no such data loader is registered, the attribute is read as a plain property.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLEntityListBatchDataFetcher implements DataFetcher<Object> {
+
+	/**
+	 * Name of the {@link DataLoader} registered for each request when an {@link IGQLEntityListBatchLoader} is configured
+	 */
+	public static final String DATA_LOADER_NAME = "GQLEntityListBatchLoader";
+
+	private final Class<?> parentClass;
+	private final String propertyName;
+	private final String idPropertyName;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param parentClass
+	 *            the class of the entity holding the list entity attribute
+	 * @param propertyName
+	 *            the name of the list entity attribute within the parent entity
+	 * @param idPropertyName
+	 *            the name of the ID property within the parent entity
+	 */
+	public GQLEntityListBatchDataFetcher(final Class<?> parentClass, final String propertyName, final String idPropertyName) {
+		this.parentClass = parentClass;
+		this.propertyName = propertyName;
+		this.idPropertyName = idPropertyName;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Create the request scoped {@link DataLoader} loading children with given {@link IGQLEntityListBatchLoader}. Its keys are lists
+	 * made of the parent entity class, the attribute name and the parent entity ID.
+	 *
+	 * @param batchLoader
+	 *            the {@link IGQLEntityListBatchLoader}
+	 * @return the {@link DataLoader}
+	 */
+	public static DataLoader<List<Object>, List<Object>> createDataLoader(final IGQLEntityListBatchLoader batchLoader) {
+		return DataLoader.newMappedDataLoader((final Set<List<Object>> keys) -> {
+			final Map<List<Object>, List<Object>> children = new HashMap<>();
+			keys.stream().collect(Collectors.groupingBy(key -> key.subList(0, 2),
+					Collectors.mapping(key -> (String) key.get(2), Collectors.toSet()))).forEach((attribute, parentIds) -> {
+						final Class<?> parentClass = (Class<?>) attribute.get(0);
+						final String attributeName = (String) attribute.get(1);
+						batchLoader.loadChildren(parentClass, attributeName, parentIds).forEach((parentId,
+								parentChildren) -> children.put(Arrays.asList(parentClass, attributeName, parentId),
+										new ArrayList<>(parentChildren)));
+					});
+			// Parents without children get an empty list rather than null
+			keys.forEach(key -> children.putIfAbsent(key, Collections.emptyList()));
+			return CompletableFuture.completedFuture(children);
+		});
+	}
+
+	@Override
+	public Object get(final DataFetchingEnvironment environment) {
+		final Object source = environment.getSource();
+		final DataLoader<List<Object>, List<Object>> dataLoader = environment.getDataLoader(DATA_LOADER_NAME);
+		final Object id = source == null || dataLoader == null ? null : getProperty(source, idPropertyName);
+		return id == null ? getProperty(source, propertyName)
+				: dataLoader.load(Arrays.asList(parentClass, propertyName, id.toString()));
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private Object getProperty(final Object bean, final String name) {
+		return bean == null ? null : GQLPropertyAccessors.forClass(bean.getClass()).getProperty(bean, name);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the parentClass
+	 */
+	public Class<?> getParentClass() {
+		return parentClass;
+	}
+
+	/**
+	 * @return the propertyName
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+}
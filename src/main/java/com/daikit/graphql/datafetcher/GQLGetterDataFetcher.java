@@ -0,0 +1,82 @@
+package com.daikit.graphql.datafetcher;
+
+import java.lang.invoke.MethodHandle;
+
+import com.daikit.graphql.utils.Message;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.PropertyDataFetcher;
+
+/**
+ * Data fetcher reading an entity property with its getter {@link MethodHandle}, resolved once at schema build time from the entity
+ * class {@link GQLPropertyAccessors}. This avoids the getter lookup by name done by {@link PropertyDataFetcher} for each fetched
+ * value. Sources that are not instances of the entity class, maps and properties without accessible getter are read with a
+ * {@link PropertyDataFetcher} as before.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLGetterDataFetcher implements DataFetcher<Object> {
+
+	private final Class<?> entityClass;
+	private final String propertyName;
+	private final MethodHandle getter;
+	private final PropertyDataFetcher<Object> fallbackDataFetcher;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param propertyName
+	 *            the property name within the entity
+	 */
+	public GQLGetterDataFetcher(final Class<?> entityClass, final String propertyName) {
+		this.entityClass = entityClass;
+		this.propertyName = propertyName;
+		this.getter = GQLPropertyAccessors.forClass(entityClass).getGetter(propertyName).orElse(null);
+		this.fallbackDataFetcher = PropertyDataFetcher.fetching(propertyName);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public Object get(final DataFetchingEnvironment environment) {
+		final Object source = environment.getSource();
+		if (getter == null || !entityClass.isInstance(source)) {
+			return fallbackDataFetcher.get(environment);
+		}
+		try {
+			return getter.invokeExact(source);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalArgumentException(Message.format("Unable to read property [{}] on [{}]", propertyName, source), e);
+		}
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the entityClass
+	 */
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+
+	/**
+	 * @return the propertyName
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+}
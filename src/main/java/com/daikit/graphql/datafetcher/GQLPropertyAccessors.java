@@ -0,0 +1,188 @@
+package com.daikit.graphql.datafetcher;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.beanutils.MethodUtils;
+import org.apache.commons.beanutils.PropertyUtils;
+
+import com.daikit.graphql.utils.Message;
+
+/**
+ * Accessor plan of a class : {@link MethodHandle}s for its public no argument constructor and for the getters and setters of its
+ * properties. Plans are built once per class on first use and cached in a {@link ClassValue}, so that creating, populating and
+ * reading entities does not go through bean introspection and reflective invocation on each call. Properties not found in the
+ * plan, for example because their setter is not accessible, are set with {@link PropertyUtils} as a fallback. This class is thread
+ * safe.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLPropertyAccessors {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private static final ClassValue<GQLPropertyAccessors> ACCESSORS = new ClassValue<GQLPropertyAccessors>() {
+		@Override
+		protected GQLPropertyAccessors computeValue(final Class<?> type) {
+			return new GQLPropertyAccessors(type);
+		}
+	};
+
+	private final Class<?> type;
+	private final MethodHandle constructor;
+	private final Map<String, MethodHandle> getters;
+	private final Map<String, MethodHandle> setters;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private GQLPropertyAccessors(final Class<?> type) {
+		this.type = type;
+		final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		MethodHandle typeConstructor = null;
+		if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+			try {
+				typeConstructor = lookup.findConstructor(type, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				// No accessible constructor : instantiation will fail as it would with Class.newInstance()
+			}
+		}
+		constructor = typeConstructor;
+		final Map<String, MethodHandle> typeGetters = new HashMap<>();
+		final Map<String, MethodHandle> typeSetters = new HashMap<>();
+		for (final PropertyDescriptor descriptor : PropertyUtils.getPropertyDescriptors(type)) {
+			final Method readMethod = MethodUtils.getAccessibleMethod(type, descriptor.getReadMethod());
+			if (readMethod != null) {
+				try {
+					typeGetters.put(descriptor.getName(), lookup.unreflect(readMethod).asType(GETTER_TYPE));
+				} catch (final IllegalAccessException e) {
+					// Property will be read by the caller fallback
+				}
+			}
+			final Method writeMethod = MethodUtils.getAccessibleMethod(type, descriptor.getWriteMethod());
+			if (writeMethod != null) {
+				try {
+					typeSetters.put(descriptor.getName(), lookup.unreflect(writeMethod).asType(SETTER_TYPE));
+				} catch (final IllegalAccessException e) {
+					// Property will be set with PropertyUtils
+				}
+			}
+		}
+		getters = Collections.unmodifiableMap(typeGetters);
+		setters = Collections.unmodifiableMap(typeSetters);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get the accessor plan for given class, building it on first call
+	 *
+	 * @param type the class
+	 * @return the {@link GQLPropertyAccessors}
+	 */
+	public static GQLPropertyAccessors forClass(final Class<?> type) {
+		return ACCESSORS.get(type);
+	}
+
+	/**
+	 * Create a new instance of the class with its public no argument constructor
+	 *
+	 * @param <T> the class type
+	 * @return the created instance
+	 * @throws IllegalArgumentException if the class cannot be instantiated
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T newInstance() {
+		if (constructor == null) {
+			throw new IllegalArgumentException(Message.format("Unable to create target class [{}]", type));
+		}
+		try {
+			return (T) (Object) constructor.invokeExact();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalArgumentException(Message.format("Unable to create target class [{}]", type), e);
+		}
+	}
+
+	/**
+	 * Set property with given name on given target
+	 *
+	 * @param target the target instance of the class
+	 * @param name   the property name
+	 * @param value  the property value
+	 * @throws IllegalArgumentException if the property does not exist, does not accept the value or if its setter fails with an
+	 *                                  exception. {@link Error}s are rethrown as is.
+	 */
+	public void setProperty(final Object target, final String name, final Object value) {
+		final MethodHandle setter = setters.get(name);
+		try {
+			if (setter == null) {
+				PropertyUtils.setSimpleProperty(target, name, value);
+			} else {
+				setter.invokeExact(target, value);
+			}
+		} catch (final Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			// Wrong value types, null values for primitives and setter failures are all reported the same way
+			throw new IllegalArgumentException(Message.format("Unsupported property value [{}] for key [{}] on [{}]", value, name, target), e);
+		}
+	}
+
+	/**
+	 * Get property with given name on given target
+	 *
+	 * @param target the target instance of the class
+	 * @param name   the property name
+	 * @return the property value
+	 * @throws IllegalArgumentException if the property does not exist or if its getter fails with an exception. {@link Error}s are
+	 *                                  rethrown as is.
+	 */
+	public Object getProperty(final Object target, final String name) {
+		final MethodHandle getter = getters.get(name);
+		try {
+			return getter == null ? PropertyUtils.getSimpleProperty(target, name) : (Object) getter.invokeExact(target);
+		} catch (final Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalArgumentException(Message.format("Unable to read property [{}] on [{}]", name, target), e);
+		}
+	}
+
+	/**
+	 * Get the getter of the property with given name. Its type is <code>(Object)Object</code> so that it can be called with
+	 * {@link MethodHandle#invokeExact(Object...)} on any instance of the class.
+	 *
+	 * @param name the property name
+	 * @return the {@link Optional} getter {@link MethodHandle}, empty if the property has no accessible getter
+	 */
+	public Optional<MethodHandle> getGetter(final String name) {
+		return Optional.ofNullable(getters.get(name));
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the class of this plan
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+}
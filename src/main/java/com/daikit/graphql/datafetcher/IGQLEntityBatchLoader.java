@@ -0,0 +1,25 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Loader of entities by batch, used to resolve entity reference attributes of all entities returned by one execution level with a
+ * single call instead of one call per entity.
+ *
+ * @author Thibaut Caselli
+ */
+public interface IGQLEntityBatchLoader {
+
+	/**
+	 * Load entities of given class with given IDs
+	 *
+	 * @param entityClass
+	 *            the entity class
+	 * @param ids
+	 *            the IDs of entities to load, without duplicates
+	 * @return a {@link Map} of loaded entities by ID. IDs not found may be missing from the map.
+	 */
+	Map<String, ?> getByIds(Class<?> entityClass, Collection<String> ids);
+
+}
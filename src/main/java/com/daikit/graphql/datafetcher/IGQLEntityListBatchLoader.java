@@ -0,0 +1,27 @@
+package com.daikit.graphql.datafetcher;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Loader of list entity attributes by batch, used to resolve the children of all parent entities returned by one execution level
+ * with a single call instead of one call per parent entity.
+ *
+ * @author Thibaut Caselli
+ */
+public interface IGQLEntityListBatchLoader {
+
+	/**
+	 * Load the children held by given list entity attribute of parent entities with given IDs
+	 *
+	 * @param parentClass
+	 *            the parent entity class
+	 * @param attributeName
+	 *            the name of the list entity attribute within the parent entity
+	 * @param parentIds
+	 *            the IDs of parent entities, without duplicates
+	 * @return a {@link Map} of children grouped by parent ID. Parents without children may be missing from the map.
+	 */
+	Map<String, ? extends Collection<?>> loadChildren(Class<?> parentClass, String attributeName, Collection<String> parentIds);
+
+}
@@ -0,0 +1,33 @@
+package com.daikit.graphql.exception;
+
+import com.daikit.graphql.utils.Message;
+
+/**
+ * Exception thrown when a GraphQL request execution exceeds its deadline.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLExecutionTimeoutException extends GQLException {
+
+	private static final long serialVersionUID = 4510395318826742871L;
+
+	private final long timeoutMillis;
+
+	/**
+	 * Constructs a new {@link GQLExecutionTimeoutException} for given timeout.
+	 *
+	 * @param timeoutMillis
+	 *            the timeout that was exceeded, in milliseconds
+	 */
+	public GQLExecutionTimeoutException(final long timeoutMillis) {
+		super(Message.format("Execution timed out after [{}] ms", timeoutMillis));
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * @return the timeout that was exceeded, in milliseconds
+	 */
+	public long getTimeoutMillis() {
+		return timeoutMillis;
+	}
+}
@@ -0,0 +1,42 @@
+package com.daikit.graphql.exception;
+
+import com.daikit.graphql.execution.GQLQueryCost;
+import com.daikit.graphql.utils.Message;
+
+import graphql.execution.AbortExecutionException;
+
+/**
+ * Exception thrown when a GraphQL operation is rejected before execution because its cost or depth exceeds the allowed budget. It
+ * extends {@link AbortExecutionException} so that the execution is aborted before any data fetcher is called.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLQueryCostExceededException extends AbortExecutionException {
+
+	private static final long serialVersionUID = -2405946133316260743L;
+
+	private final transient GQLQueryCost queryCost;
+
+	/**
+	 * Constructs a new {@link GQLQueryCostExceededException} for given cost and budget.
+	 *
+	 * @param queryCost
+	 *            the {@link GQLQueryCost} of the rejected operation
+	 * @param maxCost
+	 *            the maximum allowed cost, zero or negative if unlimited
+	 * @param maxDepth
+	 *            the maximum allowed depth, zero or negative if unlimited
+	 */
+	public GQLQueryCostExceededException(final GQLQueryCost queryCost, final long maxCost, final int maxDepth) {
+		super(Message.format("Query rejected with cost [{}] and depth [{}], maximum allowed cost is [{}] and depth is [{}]",
+				queryCost.getCost(), queryCost.getDepth(), maxCost, maxDepth));
+		this.queryCost = queryCost;
+	}
+
+	/**
+	 * @return the {@link GQLQueryCost} of the rejected operation
+	 */
+	public GQLQueryCost getQueryCost() {
+		return queryCost;
+	}
+}
@@ -1,11 +1,14 @@
 package com.daikit.graphql.execution;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.daikit.graphql.data.output.GQLExecutionErrorDetails;
+import com.daikit.graphql.exception.GQLExecutionTimeoutException;
 
 import graphql.ExceptionWhileDataFetching;
 import graphql.GraphQLError;
+import graphql.execution.AbortExecutionException;
 
 /**
  * Default implementation of {@link IGQLErrorProcessor}. This class is intended
@@ -23,7 +26,17 @@ public class GQLErrorProcessor implements IGQLErrorProcessor {
 	public GQLExecutionErrorDetails handleError(final List<GraphQLError> errors) {
 		GQLExecutionErrorDetails error = null;
 		if (errors != null) {
-			if (errors.size() == 1 && errors.get(0) instanceof ExceptionWhileDataFetching) {
+			final Optional<Throwable> timeoutException = errors.stream()
+					.filter(graphQLError -> graphQLError instanceof ExceptionWhileDataFetching
+							&& ((ExceptionWhileDataFetching) graphQLError).getException() instanceof GQLExecutionTimeoutException)
+					.map(graphQLError -> ((ExceptionWhileDataFetching) graphQLError).getException()).findFirst();
+			if (timeoutException.isPresent()) {
+				// All fields fetched after the deadline fail the same way : report the timeout only
+				error = handleError(timeoutException.get());
+			} else if (errors.size() == 1 && errors.get(0) instanceof AbortExecutionException) {
+				// Execution aborted before calling data fetchers, for example because of query cost
+				error = handleError((AbortExecutionException) errors.get(0));
+			} else if (errors.size() == 1 && errors.get(0) instanceof ExceptionWhileDataFetching) {
 				error = handleError(((ExceptionWhileDataFetching) errors.get(0)).getException());
 			} else if (!errors.isEmpty()) {
 				error = createError();
@@ -0,0 +1,92 @@
+package com.daikit.graphql.execution;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongBiFunction;
+
+import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.exception.GQLExecutionTimeoutException;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+
+/**
+ * Instrumentation enforcing execution deadlines. The deadline is started on the {@link GQLRootContext} when the operation execution
+ * begins, with the timeout given by the timeout provider for the request {@link GQLExecutionContext} and operation type. It is then
+ * checked before each field fetch : once expired, remaining data fetchers are not called and fail with a
+ * {@link GQLExecutionTimeoutException}. Requests without {@link GQLRootContext} context are not instrumented. This class is thread
+ * safe.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLExecutionTimeoutInstrumentation extends SimpleInstrumentation {
+
+	private final ToLongBiFunction<GQLExecutionContext, OperationDefinition.Operation> timeoutProvider;
+	private final AtomicLong cancelledCount = new AtomicLong();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param timeoutProvider the function giving the timeout in milliseconds for a {@link GQLExecutionContext} and an operation type.
+	 *                        Zero or negative means no timeout.
+	 */
+	public GQLExecutionTimeoutInstrumentation(final ToLongBiFunction<GQLExecutionContext, OperationDefinition.Operation> timeoutProvider) {
+		this.timeoutProvider = timeoutProvider;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public InstrumentationContext<ExecutionResult> beginExecuteOperation(final InstrumentationExecuteOperationParameters parameters) {
+		final Object context = parameters.getExecutionContext().getContext();
+		if (context instanceof GQLRootContext) {
+			final GQLRootContext rootContext = (GQLRootContext) context;
+			rootContext.startDeadline(timeoutProvider.applyAsLong(rootContext.getExecutionContext(),
+					parameters.getExecutionContext().getOperationDefinition().getOperation()));
+		}
+		return super.beginExecuteOperation(parameters);
+	}
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(final DataFetcher<?> dataFetcher, final InstrumentationFieldFetchParameters parameters) {
+		final Object context = parameters.getExecutionContext().getContext();
+		if (!(context instanceof GQLRootContext) || !((GQLRootContext) context).hasDeadline()) {
+			return dataFetcher;
+		}
+		final GQLRootContext rootContext = (GQLRootContext) context;
+		return environment -> {
+			try {
+				rootContext.checkNotExpired();
+				return dataFetcher.get(environment);
+			} catch (final GQLExecutionTimeoutException e) {
+				// Data fetchers may abort by themselves by checking the root context deadline
+				if (rootContext.markCancelled()) {
+					cancelledCount.incrementAndGet();
+				}
+				throw e;
+			}
+		};
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the number of operations cancelled because their deadline passed
+	 */
+	public long getCancelledCount() {
+		return cancelledCount.get();
+	}
+
+}
@@ -1,18 +1,36 @@
 package com.daikit.graphql.execution;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoaderRegistry;
 
 import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.builder.GQLExecutionContextFieldVisibility;
 import com.daikit.graphql.builder.GQLSchemaBuilder;
+import com.daikit.graphql.builder.GQLSchemaBuilderCache;
 import com.daikit.graphql.config.GQLSchemaConfig;
-import com.daikit.graphql.data.output.GQLDeleteResult;
 import com.daikit.graphql.data.output.GQLExecutionResult;
-import com.daikit.graphql.data.output.GQLListLoadResult;
+import com.daikit.graphql.datafetcher.GQLAbstractDataFetcher;
+import com.daikit.graphql.datafetcher.GQLEntityBatchDataFetcher;
+import com.daikit.graphql.datafetcher.GQLEntityListBatchDataFetcher;
 import com.daikit.graphql.datafetcher.GQLPropertyDataFetcher;
 import com.daikit.graphql.exception.GQLException;
 import com.daikit.graphql.meta.GQLInternalMetaModel;
@@ -20,7 +38,13 @@ import com.daikit.graphql.meta.GQLMetaModel;
 
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQL;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.OperationDefinition;
 import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLSchema;
 
@@ -31,12 +55,38 @@ import graphql.schema.GraphQLSchema;
  */
 public class GQLExecutor {
 
-	private final GQLInternalMetaModel metaModel;
+	/**
+	 * Error message returned when a persisted query hash is unknown. Clients should then send the full query along with its hash.
+	 */
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+	/**
+	 * Error message returned when a client tries to register a persisted query while registration is disabled.
+	 */
+	public static final String PERSISTED_QUERY_NOT_SUPPORTED = "PersistedQueryNotSupported";
+	/**
+	 * Error message returned when the hash sent by a client does not match the query sent along with it.
+	 */
+	public static final String PERSISTED_QUERY_HASH_MISMATCH = "provided sha does not match query";
+
 	private final Set<GQLExecutionContext> allExecutionContexts = new LinkedHashSet<>();
-	private final Map<GQLExecutionContext, GraphQLSchema> schemaMap = new HashMap<>();
-	private final Map<GQLExecutionContext, GraphQL> graphqlMap = new HashMap<>();
+	private final AtomicReference<SchemaState> schemaState = new AtomicReference<>();
+	private final AtomicLong schemaGeneration = new AtomicLong();
+	private final Object swapLock = new Object();
+	private final GQLSchemaConfig schemaConfig;
+	private final DataFetcher<?> getByIdDataFetcher;
+	private final DataFetcher<?> listDataFetcher;
+	private final DataFetcher<?> saveDataFetcher;
+	private final DataFetcher<?> deleteDataFetcher;
+	private final DataFetcher<?> customMethodDataFetcher;
+	private final List<GQLPropertyDataFetcher<?>> propertyDataFetchers;
 	private final IGQLErrorProcessor errorProcessor;
 	private final IGQLExecutorCallback callback;
+	private final IGQLPersistedQueryStore persistedQueryStore;
+	private final boolean persistedQueryRegistrationEnabled;
+	private final GQLExecutionTimeoutInstrumentation timeoutInstrumentation = new GQLExecutionTimeoutInstrumentation(
+			this::getTimeoutMillis);
+	private final GQLQueryCostInstrumentation queryCostInstrumentation = new GQLQueryCostInstrumentation(
+			this::getQueryCostAnalyzer, this::getMaxQueryCost, this::getMaxQueryDepth);
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// CONSTRUCTORS
@@ -57,8 +107,8 @@ public class GQLExecutor {
 	 * @param allPossibleExecutionContexts a list of all possible {@link GQLExecutionContext}. Leave it empty or null if you
 	 */
 	public GQLExecutor(final GQLSchemaConfig schemaConfig, final GQLMetaModel metaModel, final IGQLErrorProcessor errorProcessor,
-			final DataFetcher<?> getByIdDataFetcher, final DataFetcher<GQLListLoadResult> listDataFetcher, final DataFetcher<?> saveDataFetcher,
-			final DataFetcher<GQLDeleteResult> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
+			final DataFetcher<?> getByIdDataFetcher, final DataFetcher<?> listDataFetcher, final DataFetcher<?> saveDataFetcher,
+			final DataFetcher<?> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
 			final List<GQLPropertyDataFetcher<?>> propertyDataFetchers, final List<GQLExecutionContext> allPossibleExecutionContexts) {
 		this(schemaConfig, metaModel, errorProcessor, null, getByIdDataFetcher, listDataFetcher, saveDataFetcher, deleteDataFetcher, customMethodDataFetcher,
 				propertyDataFetchers, allPossibleExecutionContexts);
@@ -80,22 +130,25 @@ public class GQLExecutor {
 	 * @param allPossibleExecutionContexts a list of all possible {@link GQLExecutionContext}
 	 */
 	public GQLExecutor(final GQLSchemaConfig schemaConfig, final GQLMetaModel metaModel, final IGQLErrorProcessor errorProcessor,
-			final IGQLExecutorCallback callback, final DataFetcher<?> getByIdDataFetcher, final DataFetcher<GQLListLoadResult> listDataFetcher,
-			final DataFetcher<?> saveDataFetcher, final DataFetcher<GQLDeleteResult> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
+			final IGQLExecutorCallback callback, final DataFetcher<?> getByIdDataFetcher, final DataFetcher<?> listDataFetcher,
+			final DataFetcher<?> saveDataFetcher, final DataFetcher<?> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
 			final List<GQLPropertyDataFetcher<?>> propertyDataFetchers, final List<GQLExecutionContext> allPossibleExecutionContexts) {
 		this.errorProcessor = errorProcessor;
 		this.callback = callback;
-		this.metaModel = new GQLInternalMetaModel(schemaConfig, metaModel);
+		persistedQueryStore = schemaConfig.getPersistedQueryStore();
+		persistedQueryRegistrationEnabled = schemaConfig.isPersistedQueryRegistrationEnabled();
 		allExecutionContexts.add(GQLExecutionContext.DEFAULT);
 		if (allPossibleExecutionContexts != null) {
 			allExecutionContexts.addAll(allPossibleExecutionContexts);
 		}
-		allExecutionContexts.forEach(context -> {
-			final GraphQLSchema schema = new GQLSchemaBuilder().build(context, schemaConfig, this.metaModel, getByIdDataFetcher, listDataFetcher,
-					saveDataFetcher, deleteDataFetcher, customMethodDataFetcher, propertyDataFetchers);
-			schemaMap.put(context, schema);
-			graphqlMap.put(context, GraphQL.newGraphQL(schema).build());
-		});
+		this.schemaConfig = schemaConfig;
+		this.getByIdDataFetcher = getByIdDataFetcher;
+		this.listDataFetcher = listDataFetcher;
+		this.saveDataFetcher = saveDataFetcher;
+		this.deleteDataFetcher = deleteDataFetcher;
+		this.customMethodDataFetcher = customMethodDataFetcher;
+		this.propertyDataFetchers = propertyDataFetchers;
+		schemaState.set(new SchemaState(schemaGeneration.incrementAndGet(), new GQLInternalMetaModel(schemaConfig, metaModel), false));
 	}
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -133,26 +186,279 @@ public class GQLExecutor {
 	 * Execute given {@link ExecutionInput}
 	 *
 	 * @param executionContext the {@link GQLExecutionContext}
-	 * @param executionInput   the {@link ExecutionInput}
+	 * @param input            the {@link ExecutionInput}. Its context is wrapped in a {@link GQLRootContext} if it is not one.
 	 * @return the {@link GQLExecutionResult}
 	 */
-	public GQLExecutionResult execute(final GQLExecutionContext executionContext, final ExecutionInput executionInput) {
+	public GQLExecutionResult execute(final GQLExecutionContext executionContext, final ExecutionInput input) {
+		final ExecutionInput executionInput = prepareExecutionInput(executionContext, input);
 		if (callback != null) {
 			callback.onBeforeExecute(executionContext, executionInput);
 		}
-		final GQLExecutionResult executionResult = wrapResult(
-				getGraphql(executionContext).orElseThrow(() -> new GQLException("No schema registered for given context " + executionContext
-						+ ". Schemas should be precomputed for each possible context for better performances.")).execute(executionInput));
+		// Read the schema state once so that the whole execution runs on the same schema, even if it is reloaded meanwhile
+		final SchemaState state = schemaState.get();
+		final GraphQL graphql = state.getRegisteredGraphql(executionContext);
+		final GQLExecutionResult executionResult = wrapResult(state.fieldVisibility == null ? graphql.execute(executionInput)
+				: state.fieldVisibility.callWithExecutionContext(executionContext, () -> graphql.execute(executionInput)));
 		if (callback != null) {
 			callback.onAfterExecute(executionContext, executionInput, executionResult);
 		}
 		return executionResult;
 	}
 
+	/**
+	 * Execute given operations one after the other within a single request scope. All operations share the same
+	 * {@link GQLRootContext}, with a request level cache enabled, and the same {@link DataLoaderRegistry}, so that entities fetched
+	 * by one operation are reused by the next ones. The custom context and the {@link DataLoaderRegistry} of the first
+	 * {@link ExecutionInput} are used for the whole batch.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @param executionInputs  the {@link List} of {@link ExecutionInput} to be executed, in order
+	 * @return the {@link List} of {@link GQLExecutionResult}, in the same order
+	 */
+	public List<GQLExecutionResult> executeBatch(final GQLExecutionContext executionContext, final List<ExecutionInput> executionInputs) {
+		if (executionInputs.isEmpty()) {
+			return Collections.emptyList();
+		}
+		final ExecutionInput firstExecutionInput = executionInputs.get(0);
+		final GQLRootContext rootContext = firstExecutionInput.getContext() instanceof GQLRootContext
+				? (GQLRootContext) firstExecutionInput.getContext()
+				: new GQLRootContext(executionContext, firstExecutionInput.getContext());
+		if (rootContext.getRequestCache() == null) {
+			rootContext.setRequestCache(new ConcurrentHashMap<>());
+		}
+		final DataLoaderRegistry dataLoaderRegistry = rootContext.getDataLoaderRegistry() == null
+				? firstExecutionInput.getDataLoaderRegistry()
+				: rootContext.getDataLoaderRegistry();
+		rootContext.setDataLoaderRegistry(dataLoaderRegistry);
+		return executionInputs.stream().map(executionInput -> execute(executionContext,
+				executionInput.transform(builder -> builder.context(rootContext).dataLoaderRegistry(dataLoaderRegistry))))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Wrapper for asynchronous execution
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @param requestString    the request content as string
+	 * @return a {@link CompletableFuture} of the {@link GQLExecutionResult}
+	 */
+	public CompletableFuture<GQLExecutionResult> executeAsync(final GQLExecutionContext executionContext, final String requestString) {
+		return executeAsync(executionContext, ExecutionInput.newExecutionInput().query(requestString).build());
+	}
+
+	/**
+	 * Wrapper for asynchronous execution
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @param requestString    the request content as string
+	 * @param operationName    the operation name
+	 * @param rootContext      the execution root context object
+	 * @param arguments        the arguments {@link Map}
+	 * @return a {@link CompletableFuture} of the {@link GQLExecutionResult}
+	 */
+	public CompletableFuture<GQLExecutionResult> executeAsync(final GQLExecutionContext executionContext, final String requestString,
+			final String operationName, final Object rootContext, final Map<String, Object> arguments) {
+		return executeAsync(executionContext, ExecutionInput.newExecutionInput().query(requestString).operationName(operationName)
+				.context(new GQLRootContext(executionContext, rootContext)).root(rootContext).variables(arguments).build());
+	}
+
+	/**
+	 * Execute given {@link ExecutionInput} asynchronously. The calling thread is released as soon as data fetchers return
+	 * {@link java.util.concurrent.CompletionStage} values. {@link IGQLExecutorCallback#onBeforeExecute(GQLExecutionContext, ExecutionInput)}
+	 * is called in the calling thread and
+	 * {@link IGQLExecutorCallback#onAfterExecute(GQLExecutionContext, ExecutionInput, GQLExecutionResult)} in the thread completing the
+	 * execution.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @param input            the {@link ExecutionInput}. Its context is wrapped in a {@link GQLRootContext} if it is not one.
+	 * @return a {@link CompletableFuture} of the {@link GQLExecutionResult}
+	 */
+	public CompletableFuture<GQLExecutionResult> executeAsync(final GQLExecutionContext executionContext, final ExecutionInput input) {
+		final ExecutionInput executionInput = prepareExecutionInput(executionContext, input);
+		if (callback != null) {
+			callback.onBeforeExecute(executionContext, executionInput);
+		}
+		final SchemaState state = schemaState.get();
+		final GraphQL graphql = state.getRegisteredGraphql(executionContext);
+		final CompletableFuture<ExecutionResult> asyncResult = state.fieldVisibility == null ? graphql.executeAsync(executionInput)
+				: state.fieldVisibility.callWithExecutionContext(executionContext, () -> graphql.executeAsync(executionInput));
+		return asyncResult.thenApply(result -> {
+			final GQLExecutionResult executionResult = wrapResult(result);
+			if (callback != null) {
+				callback.onAfterExecute(executionContext, executionInput, executionResult);
+			}
+			return executionResult;
+		});
+	}
+
+	/**
+	 * Execute a persisted query identified by its SHA-256 hash. If given {@link ExecutionInput} has no query, the query is resolved
+	 * from the {@link IGQLPersistedQueryStore} and a <code>PersistedQueryNotFound</code> error is returned if it is unknown. If it
+	 * has a query, the hash is checked against it and the query is registered in the store (automatic persisted queries
+	 * handshake), unless registration is disabled in {@link GQLSchemaConfig}.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @param sha256Hash       the SHA-256 hash of the query, as hexadecimal
+	 * @param executionInput   the {@link ExecutionInput}, with an empty query or with the full query to be registered
+	 * @return the {@link GQLExecutionResult}
+	 */
+	public GQLExecutionResult executePersisted(final GQLExecutionContext executionContext, final String sha256Hash,
+			final ExecutionInput executionInput) {
+		final String hash = sha256Hash.toLowerCase(Locale.ROOT);
+		final String query = executionInput.getQuery();
+		if (query == null || query.isEmpty()) {
+			final Optional<String> persistedQuery = persistedQueryStore.get(hash);
+			return persistedQuery.isPresent() ? execute(executionContext, executionInput.transform(builder -> builder.query(persistedQuery.get())))
+					: wrapResult(new ExecutionResultImpl(GraphqlErrorBuilder.newError().message(PERSISTED_QUERY_NOT_FOUND).build()));
+		}
+		if (!persistedQueryRegistrationEnabled) {
+			return wrapResult(new ExecutionResultImpl(GraphqlErrorBuilder.newError().message(PERSISTED_QUERY_NOT_SUPPORTED).build()));
+		}
+		if (!IGQLPersistedQueryStore.computeHash(query).equals(hash)) {
+			return wrapResult(new ExecutionResultImpl(GraphqlErrorBuilder.newError().message(PERSISTED_QUERY_HASH_MISMATCH).build()));
+		}
+		persistedQueryStore.put(hash, query);
+		return execute(executionContext, executionInput);
+	}
+
+	/**
+	 * Wrapper for persisted query execution
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @param sha256Hash       the SHA-256 hash of the query, as hexadecimal
+	 * @param requestString    the request content as string, null or empty if only the hash is sent
+	 * @param operationName    the operation name
+	 * @param rootContext      the execution root context object
+	 * @param arguments        the arguments {@link Map}
+	 * @return the {@link GQLExecutionResult}
+	 * @see #executePersisted(GQLExecutionContext, String, ExecutionInput)
+	 */
+	public GQLExecutionResult executePersisted(final GQLExecutionContext executionContext, final String sha256Hash, final String requestString,
+			final String operationName, final Object rootContext, final Map<String, Object> arguments) {
+		return executePersisted(executionContext, sha256Hash,
+				ExecutionInput.newExecutionInput().query(requestString == null ? "" : requestString).operationName(operationName)
+						.context(new GQLRootContext(executionContext, rootContext)).root(rootContext).variables(arguments).build());
+	}
+
+	/**
+	 * Reload this executor with given {@link GQLMetaModel}, for example after dynamic attributes or controllers have been
+	 * registered. The new {@link GQLInternalMetaModel} and schemas are built in the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param metaModel the new meta model
+	 * @return a {@link CompletableFuture} completed once the new schemas are in use
+	 * @see #reload(GQLMetaModel, Executor)
+	 */
+	public CompletableFuture<Void> reload(final GQLMetaModel metaModel) {
+		return reload(metaModel, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Reload this executor with given {@link GQLMetaModel}, for example after dynamic attributes or controllers have been
+	 * registered. The new {@link GQLInternalMetaModel} and schemas are built with given {@link Executor} while requests keep being
+	 * executed on current schemas. They are then swapped in atomically : requests already running finish on the previous schemas
+	 * and requests started afterwards use the new ones. The new schemas use copies of the data fetchers given at construction time
+	 * (see {@link GQLAbstractDataFetcher#copy()}), initialized with the new meta model, so that running requests keep the meta
+	 * model, dynamic attributes and custom methods of their schemas. If several reloads run concurrently, the most recently
+	 * requested one wins and older ones are discarded when they complete.
+	 *
+	 * @param metaModel the new meta model
+	 * @param executor  the {@link Executor} used to build the new schemas
+	 * @return a {@link CompletableFuture} completed once the new schemas are in use, or discarded by a more recent reload
+	 */
+	public CompletableFuture<Void> reload(final GQLMetaModel metaModel, final Executor executor) {
+		final long generation = schemaGeneration.incrementAndGet();
+		return CompletableFuture
+				.supplyAsync(() -> new SchemaState(generation, new GQLInternalMetaModel(schemaConfig, metaModel), true), executor)
+				.thenAccept(this::swap);
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// PROTECTED METHODS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
+	/**
+	 * Build the schema for given context. This method may be overridden to provide custom behavior.
+	 *
+	 * @param executionContext        the {@link GQLExecutionContext}
+	 * @param metaModel               the {@link GQLInternalMetaModel} the schema is built from
+	 * @param sharedTypes             the {@link GQLSchemaBuilderCache} holding the types shared by all schemas of this meta model
+	 * @param getByIdDataFetcher      the {@link DataFetcher} for 'getById' methods, initialized with given meta model
+	 * @param listDataFetcher         the {@link DataFetcher} for 'getAll' methods, initialized with given meta model
+	 * @param saveDataFetcher         the {@link DataFetcher} for 'save' methods, initialized with given meta model
+	 * @param deleteDataFetcher       the {@link DataFetcher} for 'delete' methods, initialized with given meta model
+	 * @param customMethodDataFetcher the {@link DataFetcher} for custom methods, initialized with given meta model
+	 * @param propertyDataFetchers    custom {@link GQLPropertyDataFetcher} list
+	 * @return the {@link GraphQLSchema}
+	 */
+	protected GraphQLSchema buildSchema(final GQLExecutionContext executionContext, final GQLInternalMetaModel metaModel,
+			final GQLSchemaBuilderCache sharedTypes, final DataFetcher<?> getByIdDataFetcher, final DataFetcher<?> listDataFetcher,
+			final DataFetcher<?> saveDataFetcher, final DataFetcher<?> deleteDataFetcher, final DataFetcher<?> customMethodDataFetcher,
+			final List<GQLPropertyDataFetcher<?>> propertyDataFetchers) {
+		return new GQLSchemaBuilder().buildSchema(executionContext, sharedTypes, metaModel, getByIdDataFetcher, listDataFetcher,
+				saveDataFetcher, deleteDataFetcher, customMethodDataFetcher, propertyDataFetchers);
+	}
+
+	/**
+	 * Build the {@link GraphQL} instance for given context and schema. This method may be overridden to provide custom behavior.
+	 *
+	 * @param executionContext           the {@link GQLExecutionContext}, the all roles context when single schema is enabled
+	 * @param schema                     the {@link GraphQLSchema} built for this context
+	 * @param queryCostAnalyzer          the {@link GQLQueryCostAnalyzer} for the meta model the schema is built from
+	 * @param preparsedDocumentProvider  the {@link PreparsedDocumentProvider}, null if disabled in {@link GQLSchemaConfig}
+	 * @return the {@link GraphQL}
+	 */
+	protected GraphQL buildGraphql(final GQLExecutionContext executionContext, final GraphQLSchema schema,
+			final GQLQueryCostAnalyzer queryCostAnalyzer, final PreparsedDocumentProvider preparsedDocumentProvider) {
+		// Query cost is checked first so that rejected operations do not start their deadline
+		final List<Instrumentation> instrumentations = new ArrayList<>(
+				Arrays.asList(queryCostInstrumentation.forAnalyzer(queryCostAnalyzer), timeoutInstrumentation));
+		if (schema.getCodeRegistry().getFieldVisibility() instanceof GQLExecutionContextFieldVisibility) {
+			instrumentations.add(new GQLFieldVisibilityInstrumentation(
+					(GQLExecutionContextFieldVisibility) schema.getCodeRegistry().getFieldVisibility()));
+		}
+		final GraphQL.Builder builder = GraphQL.newGraphQL(schema).instrumentation(new ChainedInstrumentation(instrumentations));
+		if (preparsedDocumentProvider != null) {
+			builder.preparsedDocumentProvider(preparsedDocumentProvider);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Get the execution timeout for given context and operation type. Default implementation returns the timeout configured for the
+	 * operation type in {@link GQLSchemaConfig}, query timeout being used for subscriptions. This method may be overridden to provide
+	 * per context timeouts.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @param operation        the {@link OperationDefinition.Operation} type
+	 * @return the timeout in milliseconds, zero or negative for no timeout
+	 */
+	protected long getTimeoutMillis(final GQLExecutionContext executionContext, final OperationDefinition.Operation operation) {
+		return operation == OperationDefinition.Operation.MUTATION ? schemaConfig.getMutationTimeoutMillis()
+				: schemaConfig.getQueryTimeoutMillis();
+	}
+
+	/**
+	 * Get the maximum cost of operations executed with given context. Default implementation returns the maximum cost configured in
+	 * {@link GQLSchemaConfig}. This method may be overridden to provide per context budgets.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @return the maximum cost, zero or negative for no limit
+	 */
+	protected long getMaxQueryCost(final GQLExecutionContext executionContext) {
+		return schemaConfig.getMaxQueryCost();
+	}
+
+	/**
+	 * Get the maximum depth of operations executed with given context. Default implementation returns the maximum depth configured in
+	 * {@link GQLSchemaConfig}. This method may be overridden to provide per context budgets.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @return the maximum depth, zero or negative for no limit
+	 */
+	protected int getMaxQueryDepth(final GQLExecutionContext executionContext) {
+		return schemaConfig.getMaxQueryDepth();
+	}
+
 	/**
 	 * Wrap result. This method may be overridden to provide custom behavior.
 	 *
@@ -168,23 +474,193 @@ public class GQLExecutor {
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 
 	/**
-	 * Get schema for given context
+	 * Get schema for given context. When lazy schema build is enabled in {@link GQLSchemaConfig}, the schema is built on first call.
+	 * When single schema is enabled, the same schema is returned for all contexts.
 	 *
 	 * @param executionContext the {@link GQLExecutionContext}
 	 * @return the schema {@link GraphQLSchema}
 	 */
 	public Optional<GraphQLSchema> getSchema(final GQLExecutionContext executionContext) {
-		return Optional.ofNullable(schemaMap.get(executionContext));
+		return schemaState.get().getSchema(executionContext);
 	}
 
 	/**
-	 * Get graphQL executor for given context
+	 * Get graphQL executor for given context. When lazy schema build is enabled in {@link GQLSchemaConfig}, the schema is built on
+	 * first call. When single schema is enabled, the same executor is returned for all contexts.
 	 *
 	 * @param executionContext the {@link GQLExecutionContext}
 	 * @return the graphql {@link GraphQL}
 	 */
 	public Optional<GraphQL> getGraphql(final GQLExecutionContext executionContext) {
-		return Optional.ofNullable(graphqlMap.get(executionContext));
+		return schemaState.get().getGraphql(executionContext);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private DataFetcher<?> copyDataFetcher(final DataFetcher<?> dataFetcher, final boolean copy) {
+		return copy && dataFetcher instanceof GQLAbstractDataFetcher ? ((GQLAbstractDataFetcher<?>) dataFetcher).copy() : dataFetcher;
+	}
+
+	private ExecutionInput prepareExecutionInput(final GQLExecutionContext executionContext, final ExecutionInput executionInput) {
+		// Data loaders must be registered before execution starts for graphql-java to dispatch them
+		if (schemaConfig.getEntityBatchLoader() != null
+				&& !executionInput.getDataLoaderRegistry().getKeys().contains(GQLEntityBatchDataFetcher.DATA_LOADER_NAME)) {
+			executionInput.getDataLoaderRegistry().register(GQLEntityBatchDataFetcher.DATA_LOADER_NAME,
+					GQLEntityBatchDataFetcher.createDataLoader(schemaConfig.getEntityBatchLoader()));
+		}
+		if (schemaConfig.getEntityListBatchLoader() != null
+				&& !executionInput.getDataLoaderRegistry().getKeys().contains(GQLEntityListBatchDataFetcher.DATA_LOADER_NAME)) {
+			executionInput.getDataLoaderRegistry().register(GQLEntityListBatchDataFetcher.DATA_LOADER_NAME,
+					GQLEntityListBatchDataFetcher.createDataLoader(schemaConfig.getEntityListBatchLoader()));
+		}
+		// The root context carries the execution deadline and is expected by custom method data fetchers
+		return executionInput.getContext() instanceof GQLRootContext ? executionInput
+				: executionInput.transform(builder -> builder.context(new GQLRootContext(executionContext, executionInput.getContext())));
+	}
+
+	private void swap(final SchemaState newState) {
+		// Only reloads synchronize here : requests read the schema state without any lock
+		synchronized (swapLock) {
+			if (newState.generation > schemaState.get().generation) {
+				schemaState.set(newState);
+			}
+		}
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// INNER CLASSES
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Meta model, data fetchers initialized with it and schemas built from it, never modified once built except for lazily built
+	 * schemas.
+	 */
+	private class SchemaState {
+
+		private final long generation;
+		private final GQLInternalMetaModel metaModel;
+		private final DataFetcher<?> getByIdDataFetcher;
+		private final DataFetcher<?> listDataFetcher;
+		private final DataFetcher<?> saveDataFetcher;
+		private final DataFetcher<?> deleteDataFetcher;
+		private final DataFetcher<?> customMethodDataFetcher;
+		private final GQLSchemaBuilderCache sharedTypes;
+		private final Map<GQLExecutionContext, GraphQLSchema> schemaMap = new HashMap<>();
+		private final Map<GQLExecutionContext, GraphQL> graphqlMap = new HashMap<>();
+		private final GQLPreparsedDocumentCache preparsedDocumentCache;
+		private final GQLQueryCostAnalyzer queryCostAnalyzer;
+		private final GQLLazySchemaCache lazySchemaCache;
+		private final GQLExecutionContextFieldVisibility fieldVisibility;
+		private final GraphQLSchema singleSchema;
+		private final GraphQL singleGraphql;
+
+		SchemaState(final long generation, final GQLInternalMetaModel metaModel, final boolean copyDataFetchers) {
+			this.generation = generation;
+			this.metaModel = metaModel;
+			// Data fetchers of a state are never initialized again : requests running on it keep its meta model
+			getByIdDataFetcher = copyDataFetcher(GQLExecutor.this.getByIdDataFetcher, copyDataFetchers);
+			listDataFetcher = copyDataFetcher(GQLExecutor.this.listDataFetcher, copyDataFetchers);
+			saveDataFetcher = copyDataFetcher(GQLExecutor.this.saveDataFetcher, copyDataFetchers);
+			deleteDataFetcher = copyDataFetcher(GQLExecutor.this.deleteDataFetcher, copyDataFetchers);
+			customMethodDataFetcher = copyDataFetcher(GQLExecutor.this.customMethodDataFetcher, copyDataFetchers);
+			final GQLSchemaBuilder schemaBuilder = new GQLSchemaBuilder();
+			schemaBuilder.initDataFetchers(schemaConfig, metaModel, getByIdDataFetcher, listDataFetcher, saveDataFetcher,
+					deleteDataFetcher, customMethodDataFetcher, propertyDataFetchers);
+			// Documents are validated against the schemas of this state only
+			preparsedDocumentCache = schemaConfig.getPreparsedDocumentCacheMaxSize() > 0
+					? new GQLPreparsedDocumentCache(schemaConfig.getPreparsedDocumentCacheMaxSize(),
+							schemaConfig.getPreparsedDocumentCacheTtlMillis())
+					: null;
+			queryCostAnalyzer = new GQLQueryCostAnalyzer(schemaConfig, metaModel);
+			sharedTypes = schemaBuilder.buildSharedTypes(schemaConfig, metaModel);
+			if (schemaConfig.isSingleSchemaEnabled()) {
+				lazySchemaCache = null;
+				fieldVisibility = new GQLExecutionContextFieldVisibility();
+				singleSchema = schemaBuilder.buildSingleSchema(fieldVisibility, sharedTypes, metaModel, getByIdDataFetcher,
+						listDataFetcher, saveDataFetcher, deleteDataFetcher, customMethodDataFetcher, propertyDataFetchers);
+				final GQLExecutionContext allRolesExecutionContext = schemaBuilder.buildAllRolesExecutionContext(metaModel);
+				// The single schema is shared by all contexts : documents are keyed with the context of the request being executed
+				singleGraphql = GQLExecutor.this.buildGraphql(allRolesExecutionContext, singleSchema, queryCostAnalyzer,
+						preparsedDocumentCache == null ? null
+								: preparsedDocumentCache.forExecutionContext(
+										() -> fieldVisibility.getCurrentExecutionContext().orElse(allRolesExecutionContext)));
+			} else {
+				fieldVisibility = null;
+				singleSchema = null;
+				singleGraphql = null;
+				if (schemaConfig.isLazySchemaBuildEnabled()) {
+					lazySchemaCache = new GQLLazySchemaCache(schemaConfig.getLazySchemaCacheMaxSize(), this::buildSchema,
+							this::buildGraphql);
+				} else {
+					lazySchemaCache = null;
+					if (schemaConfig.getSchemaBuildParallelism() > 1 && allExecutionContexts.size() > 1) {
+						buildSchemasInParallel(schemaConfig.getSchemaBuildParallelism());
+					} else {
+						allExecutionContexts.forEach(context -> {
+							final GraphQLSchema schema = buildSchema(context);
+							schemaMap.put(context, schema);
+							graphqlMap.put(context, buildGraphql(context, schema));
+						});
+					}
+				}
+			}
+		}
+
+		Optional<GraphQLSchema> getSchema(final GQLExecutionContext executionContext) {
+			if (singleSchema != null) {
+				return Optional.of(singleSchema);
+			}
+			return lazySchemaCache == null ? Optional.ofNullable(schemaMap.get(executionContext))
+					: Optional.of(lazySchemaCache.getSchema(executionContext));
+		}
+
+		Optional<GraphQL> getGraphql(final GQLExecutionContext executionContext) {
+			if (singleGraphql != null) {
+				return Optional.of(singleGraphql);
+			}
+			return lazySchemaCache == null ? Optional.ofNullable(graphqlMap.get(executionContext))
+					: Optional.of(lazySchemaCache.getGraphql(executionContext));
+		}
+
+		GraphQL getRegisteredGraphql(final GQLExecutionContext executionContext) {
+			return getGraphql(executionContext).orElseThrow(() -> new GQLException("No schema registered for given context "
+					+ executionContext + ". Schemas should be precomputed for each possible context for better performances."));
+		}
+
+		private GraphQLSchema buildSchema(final GQLExecutionContext executionContext) {
+			return GQLExecutor.this.buildSchema(executionContext, metaModel, sharedTypes, getByIdDataFetcher, listDataFetcher,
+					saveDataFetcher, deleteDataFetcher, customMethodDataFetcher, propertyDataFetchers);
+		}
+
+		private GraphQL buildGraphql(final GQLExecutionContext executionContext, final GraphQLSchema schema) {
+			return GQLExecutor.this.buildGraphql(executionContext, schema, queryCostAnalyzer,
+					preparsedDocumentCache == null ? null : preparsedDocumentCache.forExecutionContext(executionContext));
+		}
+
+		private void buildSchemasInParallel(final int parallelism) {
+			final ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				final Map<GQLExecutionContext, GraphQLSchema> schemas = pool.submit(() -> allExecutionContexts.parallelStream()
+						.collect(Collectors.toConcurrentMap(Function.identity(), this::buildSchema))).get();
+				allExecutionContexts.forEach(context -> {
+					schemaMap.put(context, schemas.get(context));
+					graphqlMap.put(context, buildGraphql(context, schemas.get(context)));
+				});
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new GQLException("Interrupted while building schemas", e);
+			} catch (final ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new GQLException("Error while building schemas", e.getCause());
+			} finally {
+				pool.shutdown();
+			}
+		}
+
 	}
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -212,11 +688,61 @@ public class GQLExecutor {
 		return errorProcessor;
 	}
 
+	/**
+	 * @return an {@link Optional} {@link GQLPreparsedDocumentCache}, empty if disabled in {@link GQLSchemaConfig}
+	 */
+	public Optional<GQLPreparsedDocumentCache> getPreparsedDocumentCache() {
+		return Optional.ofNullable(schemaState.get().preparsedDocumentCache);
+	}
+
+	/**
+	 * @return an {@link Optional} {@link GQLLazySchemaCache}, empty if lazy schema build is disabled in {@link GQLSchemaConfig}
+	 */
+	public Optional<GQLLazySchemaCache> getLazySchemaCache() {
+		return Optional.ofNullable(schemaState.get().lazySchemaCache);
+	}
+
+	/**
+	 * @return an {@link Optional} {@link GQLExecutionContextFieldVisibility}, empty if single schema is disabled in
+	 *         {@link GQLSchemaConfig}
+	 */
+	public Optional<GQLExecutionContextFieldVisibility> getFieldVisibility() {
+		return Optional.ofNullable(schemaState.get().fieldVisibility);
+	}
+
+	/**
+	 * @return the number of operations cancelled because their execution timeout expired
+	 */
+	public long getCancelledExecutionCount() {
+		return timeoutInstrumentation.getCancelledCount();
+	}
+
+	/**
+	 * @return the number of operations rejected before execution because of their cost or depth
+	 */
+	public long getRejectedQueryCount() {
+		return queryCostInstrumentation.getRejectedCount();
+	}
+
+	/**
+	 * @return the {@link GQLQueryCostAnalyzer} for the current meta model
+	 */
+	public GQLQueryCostAnalyzer getQueryCostAnalyzer() {
+		return schemaState.get().queryCostAnalyzer;
+	}
+
+	/**
+	 * @return the persistedQueryStore
+	 */
+	public IGQLPersistedQueryStore getPersistedQueryStore() {
+		return persistedQueryStore;
+	}
+
 	/**
 	 * @return the metaModel
 	 */
 	public GQLInternalMetaModel getMetaModel() {
-		return metaModel;
+		return schemaState.get().metaModel;
 	}
 
 	/**
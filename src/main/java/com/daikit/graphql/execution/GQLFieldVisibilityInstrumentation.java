@@ -0,0 +1,63 @@
+package com.daikit.graphql.execution;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.builder.GQLExecutionContextFieldVisibility;
+
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+/**
+ * Instrumentation binding the {@link GQLExecutionContext} of the request to the {@link GQLExecutionContextFieldVisibility} of a
+ * single schema while asynchronous data fetcher results are completed. graphql-java resolves the sub fields of a field on the
+ * thread completing its data fetcher result, and looks them up through the field visibility : without this instrumentation, fields
+ * visible for the request context but not for {@link GQLExecutionContext#DEFAULT} would be unknown there. Requests without
+ * {@link GQLRootContext} context are not instrumented. This class is thread safe.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLFieldVisibilityInstrumentation extends SimpleInstrumentation {
+
+	private final GQLExecutionContextFieldVisibility fieldVisibility;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param fieldVisibility the {@link GQLExecutionContextFieldVisibility} of the schema
+	 */
+	public GQLFieldVisibilityInstrumentation(final GQLExecutionContextFieldVisibility fieldVisibility) {
+		this.fieldVisibility = fieldVisibility;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(final DataFetcher<?> dataFetcher, final InstrumentationFieldFetchParameters parameters) {
+		final Object context = parameters.getExecutionContext().getContext();
+		if (!(context instanceof GQLRootContext)) {
+			return dataFetcher;
+		}
+		final GQLExecutionContext executionContext = ((GQLRootContext) context).getExecutionContext();
+		return environment -> {
+			final Object result = dataFetcher.get(environment);
+			if (!(result instanceof CompletionStage)) {
+				return result;
+			}
+			// Stages depending on the returned future run while it is completed, that is with the context bound
+			final CompletableFuture<Object> bound = new CompletableFuture<>();
+			((CompletionStage<?>) result).whenComplete((value, error) -> fieldVisibility.callWithExecutionContext(executionContext,
+					() -> error == null ? bound.complete(value) : bound.completeExceptionally(error)));
+			return bound;
+		};
+	}
+
+}
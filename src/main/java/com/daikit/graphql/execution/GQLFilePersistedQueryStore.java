@@ -0,0 +1,75 @@
+package com.daikit.graphql.execution;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.daikit.graphql.exception.GQLException;
+import com.daikit.graphql.utils.Message;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link IGQLPersistedQueryStore} loaded at startup from a JSON manifest mapping SHA-256 hashes to query texts, like :
+ * <code>{ "5f1b...": "query { ... }" }</code>. Queries registered afterwards are kept in memory only.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLFilePersistedQueryStore extends GQLInMemoryPersistedQueryStore {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Load persisted queries from given manifest file
+	 *
+	 * @param manifestFile the manifest file {@link Path}
+	 */
+	public GQLFilePersistedQueryStore(final Path manifestFile) {
+		try (InputStream inputStream = Files.newInputStream(manifestFile)) {
+			load(inputStream);
+		} catch (final IOException e) {
+			throw new GQLException(Message.format("Unable to read persisted queries manifest [{}]", manifestFile), e);
+		}
+	}
+
+	/**
+	 * Load persisted queries from given manifest content. Given {@link InputStream} is not closed.
+	 *
+	 * @param manifestInputStream the manifest {@link InputStream}
+	 */
+	public GQLFilePersistedQueryStore(final InputStream manifestInputStream) {
+		try {
+			load(manifestInputStream);
+		} catch (final IOException e) {
+			throw new GQLException("Unable to read persisted queries manifest", e);
+		}
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private void load(final InputStream inputStream) throws IOException {
+		logger.debug("START loading persisted queries manifest...");
+		final Map<String, String> manifest = new ObjectMapper().readValue(inputStream, new TypeReference<Map<String, String>>() {
+		});
+		manifest.forEach((hash, query) -> {
+			if (!IGQLPersistedQueryStore.computeHash(query).equalsIgnoreCase(hash)) {
+				throw new GQLException(Message.format("Persisted query hash [{}] does not match its query", hash));
+			}
+			put(hash.toLowerCase(Locale.ROOT), query);
+		});
+		logger.debug(Message.format("END loading persisted queries manifest : [{}] queries loaded", manifest.size()));
+	}
+
+}
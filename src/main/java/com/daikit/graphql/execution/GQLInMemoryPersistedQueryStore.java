@@ -0,0 +1,39 @@
+package com.daikit.graphql.execution;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default in memory implementation of {@link IGQLPersistedQueryStore}. It is unbounded : queries are never evicted, so it should
+ * not be used when untrusted clients may register queries, see
+ * {@link com.daikit.graphql.config.GQLSchemaConfig#setPersistedQueryRegistrationEnabled(boolean)}.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLInMemoryPersistedQueryStore implements IGQLPersistedQueryStore {
+
+	private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public Optional<String> get(final String sha256Hash) {
+		return Optional.ofNullable(queries.get(sha256Hash));
+	}
+
+	@Override
+	public void put(final String sha256Hash, final String query) {
+		queries.put(sha256Hash, query);
+	}
+
+	/**
+	 * @return the number of registered queries
+	 */
+	public int size() {
+		return queries.size();
+	}
+
+}
@@ -0,0 +1,233 @@
+package com.daikit.graphql.execution;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.utils.Message;
+
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+
+/**
+ * Bounded cache of {@link GraphQLSchema} and related {@link GraphQL} instances built on first use for each
+ * {@link GQLExecutionContext}. Least recently used schemas are evicted when the maximum size is reached. Concurrent requests missing
+ * on the same context wait for a single build instead of building the same schema several times. This class is thread safe.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLLazySchemaCache {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final int maxSize;
+	private final Function<GQLExecutionContext, GraphQLSchema> schemaBuilder;
+	private final BiFunction<GQLExecutionContext, GraphQLSchema, GraphQL> graphqlBuilder;
+	private final Map<GQLExecutionContext, CacheEntry> entries;
+	private final Map<GQLExecutionContext, CompletableFuture<CacheEntry>> pendingBuilds = new ConcurrentHashMap<>();
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+	private final AtomicLong totalBuildTimeMillis = new AtomicLong();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxSize        the maximum number of kept schemas. Must be strictly positive.
+	 * @param schemaBuilder  the function building the {@link GraphQLSchema} for a {@link GQLExecutionContext}
+	 * @param graphqlBuilder the function building the {@link GraphQL} instance for a {@link GQLExecutionContext} and its schema
+	 */
+	public GQLLazySchemaCache(final int maxSize, final Function<GQLExecutionContext, GraphQLSchema> schemaBuilder,
+			final BiFunction<GQLExecutionContext, GraphQLSchema, GraphQL> graphqlBuilder) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Lazy schema cache max size must be strictly positive.");
+		}
+		this.maxSize = maxSize;
+		this.schemaBuilder = schemaBuilder;
+		this.graphqlBuilder = graphqlBuilder;
+		this.entries = new LinkedHashMap<GQLExecutionContext, CacheEntry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<GQLExecutionContext, CacheEntry> eldest) {
+				final boolean remove = size() > GQLLazySchemaCache.this.maxSize;
+				if (remove) {
+					evictionCount.incrementAndGet();
+					logger.debug(Message.format("Evict schema for context [{}]", eldest.getKey()));
+				}
+				return remove;
+			}
+		};
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Get the {@link GraphQL} instance for given {@link GQLExecutionContext}, building it if needed. If a build is already running
+	 * for this context in another thread, wait for its result.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @return the {@link GraphQL}
+	 */
+	public GraphQL getGraphql(final GQLExecutionContext executionContext) {
+		return get(executionContext).graphql;
+	}
+
+	/**
+	 * Get the {@link GraphQLSchema} for given {@link GQLExecutionContext}, building it if needed. If a build is already running for
+	 * this context in another thread, wait for its result.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @return the {@link GraphQLSchema}
+	 */
+	public GraphQLSchema getSchema(final GQLExecutionContext executionContext) {
+		return get(executionContext).schema;
+	}
+
+	/**
+	 * Remove all built schemas. Counters are kept.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * @return the current number of built schemas
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private CacheEntry get(final GQLExecutionContext executionContext) {
+		CacheEntry entry = getIfPresent(executionContext);
+		if (entry != null) {
+			hitCount.incrementAndGet();
+			return entry;
+		}
+		final CompletableFuture<CacheEntry> build = new CompletableFuture<>();
+		final CompletableFuture<CacheEntry> pendingBuild = pendingBuilds.putIfAbsent(executionContext, build);
+		if (pendingBuild != null) {
+			hitCount.incrementAndGet();
+			return join(pendingBuild);
+		}
+		try {
+			// Another thread may have completed the build between the first lookup and the registration of the pending build
+			entry = getIfPresent(executionContext);
+			if (entry == null) {
+				missCount.incrementAndGet();
+				final long start = System.currentTimeMillis();
+				final GraphQLSchema schema = schemaBuilder.apply(executionContext);
+				entry = new CacheEntry(schema, graphqlBuilder.apply(executionContext, schema));
+				totalBuildTimeMillis.addAndGet(System.currentTimeMillis() - start);
+				synchronized (entries) {
+					entries.put(executionContext, entry);
+				}
+			} else {
+				hitCount.incrementAndGet();
+			}
+			build.complete(entry);
+			return entry;
+		} catch (final RuntimeException | Error e) {
+			build.completeExceptionally(e);
+			throw e;
+		} finally {
+			pendingBuilds.remove(executionContext, build);
+		}
+	}
+
+	private CacheEntry getIfPresent(final GQLExecutionContext executionContext) {
+		synchronized (entries) {
+			return entries.get(executionContext);
+		}
+	}
+
+	private CacheEntry join(final CompletableFuture<CacheEntry> pendingBuild) {
+		try {
+			return pendingBuild.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// INNER CLASSES
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private static class CacheEntry {
+
+		private final GraphQLSchema schema;
+		private final GraphQL graphql;
+
+		CacheEntry(final GraphQLSchema schema, final GraphQL graphql) {
+			this.schema = schema;
+			this.graphql = graphql;
+		}
+
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the maxSize
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the number of requests served by an already built or currently building schema
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * @return the number of schema builds
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return the number of schemas evicted because of size limit
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * @return the total time spent building schemas, in milliseconds
+	 */
+	public long getTotalBuildTimeMillis() {
+		return totalBuildTimeMillis.get();
+	}
+
+}
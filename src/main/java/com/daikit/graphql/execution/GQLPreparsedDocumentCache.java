@@ -0,0 +1,241 @@
+package com.daikit.graphql.execution;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.builder.GQLExecutionContext.GQLRolesJunctionEnum;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+/**
+ * Bounded cache of parsed and validated GraphQL documents, keyed by query text and by the roles and roles junction of the
+ * {@link GQLExecutionContext} at parse time. Entries are evicted in approximate least recently used order when the maximum size is
+ * exceeded, and are expired after the configured time to live. This class is thread safe : hits do not take any lock and the parse
+ * and validation of a missing document is done outside of any lock, only the eviction of exceeding entries being serialized.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLPreparsedDocumentCache {
+
+	private final int maxSize;
+	private final long ttlNanos;
+	private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+	private final Object evictionLock = new Object();
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxSize   the maximum number of cached documents. Must be strictly positive.
+	 * @param ttlMillis the time to live of a cached document in milliseconds. Zero or negative means no expiration.
+	 */
+	public GQLPreparsedDocumentCache(final int maxSize, final long ttlMillis) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Preparsed document cache max size must be strictly positive.");
+		}
+		this.maxSize = maxSize;
+		this.ttlNanos = ttlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(ttlMillis) : 0;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Create a {@link PreparsedDocumentProvider} backed by this cache for given {@link GQLExecutionContext}. The provider is meant to be
+	 * set on the {@link graphql.GraphQL} instance built for this context.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @return the {@link PreparsedDocumentProvider}
+	 */
+	public PreparsedDocumentProvider forExecutionContext(final GQLExecutionContext executionContext) {
+		return (executionInput, computeFunction) -> getDocument(executionContext, executionInput, computeFunction);
+	}
+
+	/**
+	 * Create a {@link PreparsedDocumentProvider} backed by this cache, keying documents with the {@link GQLExecutionContext}
+	 * returned by given supplier at parse time. The provider is meant to be set on a {@link graphql.GraphQL} instance shared by
+	 * several contexts.
+	 *
+	 * @param executionContextSupplier the {@link Supplier} of the {@link GQLExecutionContext} of the request being executed
+	 * @return the {@link PreparsedDocumentProvider}
+	 */
+	public PreparsedDocumentProvider forExecutionContext(final Supplier<GQLExecutionContext> executionContextSupplier) {
+		return (executionInput, computeFunction) -> getDocument(executionContextSupplier.get(), executionInput, computeFunction);
+	}
+
+	/**
+	 * Get the cached {@link PreparsedDocumentEntry} for given {@link GQLExecutionContext} and {@link ExecutionInput} query, or compute
+	 * it with given function and cache it.
+	 *
+	 * @param executionContext the {@link GQLExecutionContext}
+	 * @param executionInput   the {@link ExecutionInput}
+	 * @param computeFunction  the function parsing and validating the query
+	 * @return the {@link PreparsedDocumentEntry}
+	 */
+	public PreparsedDocumentEntry getDocument(final GQLExecutionContext executionContext, final ExecutionInput executionInput,
+			final Function<ExecutionInput, PreparsedDocumentEntry> computeFunction) {
+		final CacheKey key = new CacheKey(executionContext, executionInput.getQuery());
+		final long now = System.nanoTime();
+		final CacheEntry entry = entries.get(key);
+		if (entry != null) {
+			if (!entry.isExpired(now, ttlNanos)) {
+				entry.lastAccessNanos = now;
+				hitCount.incrementAndGet();
+				return entry.document;
+			}
+			if (entries.remove(key, entry)) {
+				evictionCount.incrementAndGet();
+			}
+		}
+		missCount.incrementAndGet();
+		final PreparsedDocumentEntry document = computeFunction.apply(executionInput);
+		entries.put(key, new CacheEntry(document, now));
+		if (entries.size() > maxSize) {
+			evictLeastRecentlyUsed();
+		}
+		return document;
+	}
+
+	/**
+	 * Remove all cached documents. Counters are kept.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * @return the current number of cached documents
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private void evictLeastRecentlyUsed() {
+		synchronized (evictionLock) {
+			final int exceeding = entries.size() - maxSize;
+			if (exceeding <= 0) {
+				return;
+			}
+			// Access times are read without lock, so the eviction order is approximate
+			final List<Map.Entry<CacheKey, CacheEntry>> eldest = entries.entrySet().stream()
+					.sorted(Comparator.comparingLong(mapEntry -> mapEntry.getValue().lastAccessNanos)).limit(exceeding)
+					.collect(Collectors.toList());
+			eldest.forEach(mapEntry -> {
+				if (entries.remove(mapEntry.getKey(), mapEntry.getValue())) {
+					evictionCount.incrementAndGet();
+				}
+			});
+		}
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// INNER CLASSES
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Key holding a snapshot of the roles and roles junction of the {@link GQLExecutionContext}, so that it is not affected by later
+	 * changes of the context
+	 */
+	private static class CacheKey {
+
+		private final Set<String> roles;
+		private final GQLRolesJunctionEnum rolesJunction;
+		private final String query;
+		private final int hashCode;
+
+		CacheKey(final GQLExecutionContext executionContext, final String query) {
+			this.roles = Collections.unmodifiableSet(new HashSet<>(executionContext.getRoles()));
+			this.rolesJunction = executionContext.getRolesJunction();
+			this.query = query;
+			this.hashCode = Objects.hash(roles, rolesJunction, query);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof CacheKey && ((CacheKey) obj).rolesJunction == rolesJunction
+					&& ((CacheKey) obj).roles.equals(roles) && Objects.equals(((CacheKey) obj).query, query);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+	}
+
+	private static class CacheEntry {
+
+		private final PreparsedDocumentEntry document;
+		private final long createdNanos;
+		private volatile long lastAccessNanos;
+
+		CacheEntry(final PreparsedDocumentEntry document, final long createdNanos) {
+			this.document = document;
+			this.createdNanos = createdNanos;
+			this.lastAccessNanos = createdNanos;
+		}
+
+		boolean isExpired(final long now, final long ttlNanos) {
+			return ttlNanos > 0 && now - createdNanos > ttlNanos;
+		}
+
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the maxSize
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the number of requests served from cache
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * @return the number of requests for which the document had to be parsed and validated
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return the number of documents removed because of size limit or expiration
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+}
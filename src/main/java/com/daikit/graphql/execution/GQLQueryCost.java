@@ -0,0 +1,55 @@
+package com.daikit.graphql.execution;
+
+/**
+ * Static cost and depth of a GraphQL operation, computed by {@link GQLQueryCostAnalyzer} before execution
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLQueryCost {
+
+	private final long cost;
+	private final int depth;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param cost  the estimated number of entities loaded by the operation
+	 * @param depth the maximum field nesting depth of the operation
+	 */
+	public GQLQueryCost(final long cost, final int depth) {
+		this.cost = cost;
+		this.depth = depth;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	@Override
+	public String toString() {
+		return "cost=" + cost + ", depth=" + depth;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the estimated number of entities loaded by the operation
+	 */
+	public long getCost() {
+		return cost;
+	}
+
+	/**
+	 * @return the maximum field nesting depth of the operation
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+}
@@ -0,0 +1,259 @@
+package com.daikit.graphql.execution;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.daikit.graphql.config.GQLSchemaConfig;
+import com.daikit.graphql.meta.GQLInternalMetaModel;
+import com.daikit.graphql.meta.attribute.GQLAbstractAttributeMetaData;
+import com.daikit.graphql.meta.attribute.GQLAttributeEntityMetaData;
+import com.daikit.graphql.meta.attribute.GQLAttributeListEntityMetaData;
+import com.daikit.graphql.meta.custommethod.GQLAbstractMethodMetaData;
+import com.daikit.graphql.meta.internal.GQLAbstractEntityMetaDataInfos;
+
+import graphql.execution.ValuesResolver;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * Static analyzer computing the cost and depth of a GraphQL operation from the meta model, before any data fetcher is called. The
+ * cost is an estimation of the number of entities loaded by the operation :
+ * <ul>
+ * <li>'getAll' queries cost their paging limit or cursor paging page size, or the configured default limit, multiplied by the cost of
+ * their selection</li>
+ * <li>{@link GQLAttributeListEntityMetaData} fields cost the configured list attribute size multiplied by the cost of their
+ * selection</li>
+ * <li>'getByIds' queries and 'saveAll' methods cost the number of given IDs or saved entities multiplied by 1 plus the cost of their
+ * selection</li>
+ * <li>'deleteAll' methods cost the number of given IDs</li>
+ * <li>'getById', 'save', 'delete' and 'deleteWhere' methods and {@link GQLAttributeEntityMetaData} fields cost 1 plus the cost of their
+ * selection</li>
+ * <li>custom methods cost the configured custom method cost plus the cost of their selection</li>
+ * <li>other fields cost the cost of their selection</li>
+ * </ul>
+ * This class is thread safe.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLQueryCostAnalyzer {
+
+	private final GQLSchemaConfig schemaConfig;
+	private final Map<String, Map<String, GQLAbstractAttributeMetaData>> attributesByTypeName = new HashMap<>();
+	private final Set<String> entityNames = new HashSet<>();
+	private final Set<String> customMethodNames = new HashSet<>();
+	private final ValuesResolver valuesResolver = new ValuesResolver();
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param schemaConfig the {@link GQLSchemaConfig}
+	 * @param metaModel    the {@link GQLInternalMetaModel} the schemas are built from
+	 */
+	public GQLQueryCostAnalyzer(final GQLSchemaConfig schemaConfig, final GQLInternalMetaModel metaModel) {
+		this.schemaConfig = schemaConfig;
+		metaModel.getAllEntities().forEach(infos -> {
+			final Map<String, GQLAbstractAttributeMetaData> attributes = new HashMap<>();
+			// Own attributes override inherited ones
+			for (GQLAbstractEntityMetaDataInfos current = infos; current != null; current = current.getSuperEntity()) {
+				current.getEntity().getAttributes().forEach(attribute -> attributes.putIfAbsent(attribute.getName(), attribute));
+			}
+			infos.getSuperInterfaces().forEach(superInterface -> superInterface.getEntity().getAttributes()
+					.forEach(attribute -> attributes.putIfAbsent(attribute.getName(), attribute)));
+			attributesByTypeName.put(infos.getEntity().getName(), attributes);
+		});
+		metaModel.getAllNonEmbeddedEntities().forEach(infos -> entityNames.add(infos.getEntity().getName()));
+		metaModel.getCustomMethods().stream().map(GQLAbstractMethodMetaData::getName).forEach(customMethodNames::add);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Compute the cost and depth of given operation
+	 *
+	 * @param schema     the {@link GraphQLSchema} the operation is executed against
+	 * @param operation  the {@link OperationDefinition}
+	 * @param fragments  the {@link FragmentDefinition} of the document by name
+	 * @param variables  the coerced variables of the request
+	 * @return the {@link GQLQueryCost}
+	 */
+	public GQLQueryCost analyze(final GraphQLSchema schema, final OperationDefinition operation,
+			final Map<String, FragmentDefinition> fragments, final Map<String, Object> variables) {
+		final GraphQLObjectType rootType = operation.getOperation() == OperationDefinition.Operation.MUTATION
+				? schema.getMutationType()
+				: operation.getOperation() == OperationDefinition.Operation.SUBSCRIPTION ? schema.getSubscriptionType()
+						: schema.getQueryType();
+		final Analysis analysis = new Analysis(schema, rootType,
+				fragments == null ? Collections.emptyMap() : fragments, variables == null ? Collections.emptyMap() : variables);
+		final long cost = analysis.selectionSetCost(operation.getSelectionSet(), rootType, 1);
+		return new GQLQueryCost(cost, analysis.maxDepth);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PRIVATE UTILS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	private static long add(final long a, final long b) {
+		final long result = a + b;
+		return ((a ^ result) & (b ^ result)) < 0 ? Long.MAX_VALUE : result;
+	}
+
+	private static long multiply(final long a, final long b) {
+		try {
+			return Math.multiplyExact(a, b);
+		} catch (final ArithmeticException e) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// INNER CLASSES
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * State of the analysis of one operation
+	 */
+	private class Analysis {
+
+		private final GraphQLSchema schema;
+		private final GraphQLObjectType rootType;
+		private final Map<String, FragmentDefinition> fragments;
+		private final Map<String, Object> variables;
+		private int maxDepth = 0;
+
+		Analysis(final GraphQLSchema schema, final GraphQLObjectType rootType, final Map<String, FragmentDefinition> fragments,
+				final Map<String, Object> variables) {
+			this.schema = schema;
+			this.rootType = rootType;
+			this.fragments = fragments;
+			this.variables = variables;
+		}
+
+		long selectionSetCost(final SelectionSet selectionSet, final GraphQLFieldsContainer parentType, final int depth) {
+			long cost = 0;
+			if (selectionSet != null) {
+				for (final Selection<?> selection : selectionSet.getSelections()) {
+					if (selection instanceof Field) {
+						cost = add(cost, fieldCost((Field) selection, parentType, depth));
+					} else if (selection instanceof InlineFragment) {
+						final InlineFragment inlineFragment = (InlineFragment) selection;
+						cost = add(cost, selectionSetCost(inlineFragment.getSelectionSet(), inlineFragment.getTypeCondition() == null
+								? parentType
+								: getFieldsContainer(inlineFragment.getTypeCondition().getName(), parentType), depth));
+					} else if (selection instanceof FragmentSpread) {
+						final FragmentDefinition fragment = fragments.get(((FragmentSpread) selection).getName());
+						if (fragment != null) {
+							cost = add(cost, selectionSetCost(fragment.getSelectionSet(),
+									getFieldsContainer(fragment.getTypeCondition().getName(), parentType), depth));
+						}
+					}
+				}
+			}
+			return cost;
+		}
+
+		private long fieldCost(final Field field, final GraphQLFieldsContainer parentType, final int depth) {
+			// Introspection fields are not defined in containers and are not counted
+			final GraphQLFieldDefinition fieldDefinition = parentType.getFieldDefinition(field.getName());
+			if (fieldDefinition == null) {
+				return 0;
+			}
+			maxDepth = Math.max(maxDepth, depth);
+			final GraphQLType fieldType = GraphQLTypeUtil.unwrapAll(fieldDefinition.getType());
+			final long selectionCost = fieldType instanceof GraphQLFieldsContainer
+					? selectionSetCost(field.getSelectionSet(), (GraphQLFieldsContainer) fieldType, depth + 1)
+					: 0;
+			if (parentType == rootType) {
+				return rootFieldCost(field, fieldDefinition, selectionCost);
+			}
+			final GQLAbstractAttributeMetaData attribute = attributesByTypeName
+					.getOrDefault(parentType.getName(), Collections.emptyMap()).get(field.getName());
+			if (attribute instanceof GQLAttributeListEntityMetaData) {
+				return multiply(schemaConfig.getQueryCostListAttributeSize(), add(1, selectionCost));
+			} else if (attribute instanceof GQLAttributeEntityMetaData && !((GQLAttributeEntityMetaData) attribute).isEmbedded()) {
+				return add(1, selectionCost);
+			}
+			return selectionCost;
+		}
+
+		private long rootFieldCost(final Field field, final GraphQLFieldDefinition fieldDefinition, final long selectionCost) {
+			final String name = field.getName();
+			if (customMethodNames.contains(name)) {
+				return add(schemaConfig.getQueryCostCustomMethod(), selectionCost);
+			} else if (isGetByIdsMethod(name)) {
+				return multiply(getSize(field, fieldDefinition, schemaConfig.getQueryGetByIdsAttributeIdsName()),
+						add(1, selectionCost));
+			} else if (isEntityMethod(name, schemaConfig.getQueryGetListPrefix())) {
+				return multiply(getLimit(field, fieldDefinition), add(1, selectionCost));
+			} else if (isEntityMethod(name, schemaConfig.getMutationSaveAllPrefix())) {
+				return multiply(getSize(field, fieldDefinition, schemaConfig.getMutationAttributeInputDataName()),
+						add(1, selectionCost));
+			} else if (isEntityMethod(name, schemaConfig.getMutationDeleteAllPrefix())) {
+				return add(getSize(field, fieldDefinition, schemaConfig.getMutationDeleteAllAttributeIdsName()), selectionCost);
+			} else if (isEntityMethod(name, schemaConfig.getQueryGetByIdPrefix())
+					|| isEntityMethod(name, schemaConfig.getMutationSavePrefix())
+					|| isEntityMethod(name, schemaConfig.getMutationDeletePrefix())
+					|| isEntityMethod(name, schemaConfig.getMutationDeleteWherePrefix())) {
+				return add(1, selectionCost);
+			}
+			return selectionCost;
+		}
+
+		private boolean isEntityMethod(final String name, final String prefix) {
+			return name.startsWith(prefix) && entityNames.contains(name.substring(prefix.length()));
+		}
+
+		private boolean isGetByIdsMethod(final String name) {
+			return name.endsWith(schemaConfig.getQueryGetByIdsSuffix()) && isEntityMethod(
+					name.substring(0, name.length() - schemaConfig.getQueryGetByIdsSuffix().length()),
+					schemaConfig.getQueryGetByIdPrefix());
+		}
+
+		private long getLimit(final Field field, final GraphQLFieldDefinition fieldDefinition) {
+			final Object paging = valuesResolver
+					.getArgumentValues(fieldDefinition.getArguments(), field.getArguments(), variables)
+					.get(schemaConfig.getQueryGetListPagingAttributeName());
+			final Object first = paging instanceof Map
+					? ((Map<?, ?>) paging).get(schemaConfig.getQueryGetListPagingAttributeFirstName())
+					: null;
+			final Object limit = first != null ? first
+					: paging instanceof Map ? ((Map<?, ?>) paging).get(schemaConfig.getQueryGetListPagingAttributeLimitName())
+							: null;
+			return limit instanceof Number && ((Number) limit).longValue() > 0 ? ((Number) limit).longValue()
+					: schemaConfig.getQueryGetListPagingAttributeLimitDefaultValue();
+		}
+
+		private long getSize(final Field field, final GraphQLFieldDefinition fieldDefinition, final String argumentName) {
+			final Object value = valuesResolver
+					.getArgumentValues(fieldDefinition.getArguments(), field.getArguments(), variables).get(argumentName);
+			return value instanceof Collection ? ((Collection<?>) value).size() : 1;
+		}
+
+		private GraphQLFieldsContainer getFieldsContainer(final String typeName, final GraphQLFieldsContainer defaultType) {
+			final GraphQLType type = schema.getType(typeName);
+			return type instanceof GraphQLFieldsContainer ? (GraphQLFieldsContainer) type : defaultType;
+		}
+
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.daikit.graphql.execution;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.exception.GQLQueryCostExceededException;
+
+import graphql.ExecutionResult;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+
+/**
+ * Instrumentation rejecting operations whose cost or depth, computed by {@link GQLQueryCostAnalyzer}, exceeds the budget given for
+ * the request {@link GQLExecutionContext}. The analysis runs when the operation execution begins, once variables are known and even
+ * if the document was served from the preparsed document cache, and rejected operations fail with a
+ * {@link GQLQueryCostExceededException} before any data fetcher is called. This class is thread safe.
+ *
+ * @author Thibaut Caselli
+ */
+public class GQLQueryCostInstrumentation extends SimpleInstrumentation {
+
+	private final Supplier<GQLQueryCostAnalyzer> analyzerSupplier;
+	private final ToLongFunction<GQLExecutionContext> maxCostProvider;
+	private final ToIntFunction<GQLExecutionContext> maxDepthProvider;
+	private final AtomicLong rejectedCount;
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// CONSTRUCTORS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Constructor
+	 *
+	 * @param analyzerSupplier the {@link Supplier} of the {@link GQLQueryCostAnalyzer} for the current meta model
+	 * @param maxCostProvider  the function giving the maximum cost for a {@link GQLExecutionContext}. Zero or negative means no limit.
+	 * @param maxDepthProvider the function giving the maximum depth for a {@link GQLExecutionContext}. Zero or negative means no
+	 *                         limit.
+	 */
+	public GQLQueryCostInstrumentation(final Supplier<GQLQueryCostAnalyzer> analyzerSupplier,
+			final ToLongFunction<GQLExecutionContext> maxCostProvider, final ToIntFunction<GQLExecutionContext> maxDepthProvider) {
+		this(analyzerSupplier, maxCostProvider, maxDepthProvider, new AtomicLong());
+	}
+
+	private GQLQueryCostInstrumentation(final Supplier<GQLQueryCostAnalyzer> analyzerSupplier,
+			final ToLongFunction<GQLExecutionContext> maxCostProvider, final ToIntFunction<GQLExecutionContext> maxDepthProvider,
+			final AtomicLong rejectedCount) {
+		this.analyzerSupplier = analyzerSupplier;
+		this.maxCostProvider = maxCostProvider;
+		this.maxDepthProvider = maxDepthProvider;
+		this.rejectedCount = rejectedCount;
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Create an instrumentation analyzing operations with given {@link GQLQueryCostAnalyzer}, with the budgets of this one and sharing
+	 * its rejected operations count. It is meant to be set on the {@link graphql.GraphQL} instances built from the meta model of the
+	 * analyzer, so that operations are analyzed against the meta model they are executed on.
+	 *
+	 * @param analyzer the {@link GQLQueryCostAnalyzer}
+	 * @return the {@link GQLQueryCostInstrumentation}
+	 */
+	public GQLQueryCostInstrumentation forAnalyzer(final GQLQueryCostAnalyzer analyzer) {
+		return new GQLQueryCostInstrumentation(() -> analyzer, maxCostProvider, maxDepthProvider, rejectedCount);
+	}
+
+	@Override
+	public InstrumentationContext<ExecutionResult> beginExecuteOperation(final InstrumentationExecuteOperationParameters parameters) {
+		final ExecutionContext executionContext = parameters.getExecutionContext();
+		final GQLExecutionContext gqlExecutionContext = executionContext.getContext() instanceof GQLRootContext
+				? ((GQLRootContext) executionContext.getContext()).getExecutionContext()
+				: GQLExecutionContext.DEFAULT;
+		final long maxCost = maxCostProvider.applyAsLong(gqlExecutionContext);
+		final int maxDepth = maxDepthProvider.applyAsInt(gqlExecutionContext);
+		if (maxCost > 0 || maxDepth > 0) {
+			final GQLQueryCost queryCost = analyzerSupplier.get().analyze(executionContext.getGraphQLSchema(),
+					executionContext.getOperationDefinition(), executionContext.getFragmentsByName(), executionContext.getVariables());
+			if (maxCost > 0 && queryCost.getCost() > maxCost || maxDepth > 0 && queryCost.getDepth() > maxDepth) {
+				rejectedCount.incrementAndGet();
+				throw new GQLQueryCostExceededException(queryCost, maxCost, maxDepth);
+			}
+		}
+		return super.beginExecuteOperation(parameters);
+	}
+
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// GETTERS / SETTERS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * @return the number of operations rejected because of their cost or depth
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+}
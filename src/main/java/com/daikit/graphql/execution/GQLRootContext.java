@@ -1,6 +1,13 @@
 package com.daikit.graphql.execution;
 
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.dataloader.DataLoaderRegistry;
+
 import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.exception.GQLExecutionTimeoutException;
 
 /**
  * Root context that will wrap custom context given at execution time and execution context used for access rights
@@ -9,6 +16,11 @@ public class GQLRootContext {
 
 	private GQLExecutionContext executionContext;
 	private Object customContext;
+	private Map<Object, Object> requestCache;
+	private DataLoaderRegistry dataLoaderRegistry;
+	private volatile long timeoutMillis;
+	private volatile long deadlineNanos;
+	private final AtomicBoolean cancelled = new AtomicBoolean();
 
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// CONSTRUCTORS
@@ -25,6 +37,65 @@ public class GQLRootContext {
 		this.customContext = customContext;
 	}
 
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+	// PUBLIC METHODS
+	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
+
+	/**
+	 * Start the execution deadline of the operation executed within this root context. This is done by the executor when the
+	 * operation execution begins.
+	 *
+	 * @param timeoutMillis the timeout in milliseconds. Zero or negative means no deadline.
+	 */
+	public void startDeadline(final long timeoutMillis) {
+		this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(timeoutMillis, 0));
+		this.timeoutMillis = timeoutMillis;
+		cancelled.set(false);
+	}
+
+	/**
+	 * @return whether the operation executed within this root context has a deadline
+	 */
+	public boolean hasDeadline() {
+		return timeoutMillis > 0;
+	}
+
+	/**
+	 * @return whether the deadline of the operation executed within this root context has passed. Long running data fetchers should
+	 *         check it and abort early.
+	 */
+	public boolean isExpired() {
+		return hasDeadline() && System.nanoTime() - deadlineNanos >= 0;
+	}
+
+	/**
+	 * @return the remaining time before the deadline in milliseconds, zero if expired, or {@link Long#MAX_VALUE} if there is no
+	 *         deadline
+	 */
+	public long getRemainingMillis() {
+		return hasDeadline() ? Math.max(TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()), 0) : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Throw a {@link GQLExecutionTimeoutException} if the deadline of the operation executed within this root context has passed
+	 *
+	 * @throws GQLExecutionTimeoutException if expired
+	 */
+	public void checkNotExpired() {
+		if (isExpired()) {
+			throw new GQLExecutionTimeoutException(timeoutMillis);
+		}
+	}
+
+	/**
+	 * Mark the operation executed within this root context as cancelled because of its deadline
+	 *
+	 * @return true if it was not already marked as cancelled
+	 */
+	public boolean markCancelled() {
+		return cancelled.compareAndSet(false, true);
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// GETTERS & SETTERS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -56,4 +127,40 @@ public class GQLRootContext {
 	public void setCustomContext(final Object customContext) {
 		this.customContext = customContext;
 	}
+
+	/**
+	 * @return the request level cache shared by all operations executed within this root context, or null if request caching is not
+	 *         enabled. It is enabled for batched executions.
+	 */
+	public Map<Object, Object> getRequestCache() {
+		return requestCache;
+	}
+
+	/**
+	 * @param requestCache the request level cache to set. It must be thread safe. Null disables request caching.
+	 */
+	public void setRequestCache(final Map<Object, Object> requestCache) {
+		this.requestCache = requestCache;
+	}
+
+	/**
+	 * @return the {@link DataLoaderRegistry} shared by all operations executed within this root context, or null
+	 */
+	public DataLoaderRegistry getDataLoaderRegistry() {
+		return dataLoaderRegistry;
+	}
+
+	/**
+	 * @param dataLoaderRegistry the {@link DataLoaderRegistry} to set
+	 */
+	public void setDataLoaderRegistry(final DataLoaderRegistry dataLoaderRegistry) {
+		this.dataLoaderRegistry = dataLoaderRegistry;
+	}
+
+	/**
+	 * @return the timeout of the operation executed within this root context in milliseconds, zero or negative if none
+	 */
+	public long getTimeoutMillis() {
+		return timeoutMillis;
+	}
 }
@@ -0,0 +1,52 @@
+package com.daikit.graphql.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+import com.daikit.graphql.exception.GQLException;
+
+/**
+ * Store for persisted queries, resolving a query text from its SHA-256 hash. Implementations must be thread safe.
+ *
+ * @author Thibaut Caselli
+ */
+public interface IGQLPersistedQueryStore {
+
+	/**
+	 * Get the query registered for given hash
+	 *
+	 * @param sha256Hash the SHA-256 hash of the query, as lower case hexadecimal
+	 * @return the {@link Optional} query text
+	 */
+	Optional<String> get(String sha256Hash);
+
+	/**
+	 * Register given query for given hash. Hash is expected to have been checked against the query by the caller.
+	 *
+	 * @param sha256Hash the SHA-256 hash of the query, as lower case hexadecimal
+	 * @param query      the query text
+	 */
+	void put(String sha256Hash, String query);
+
+	/**
+	 * Compute the SHA-256 hash of given query, as lower case hexadecimal. This is the hash expected from clients.
+	 *
+	 * @param query the query text
+	 * @return the hash
+	 */
+	static String computeHash(final String query) {
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+			final StringBuilder builder = new StringBuilder(digest.length * 2);
+			for (final byte b : digest) {
+				builder.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return builder.toString();
+		} catch (final NoSuchAlgorithmException e) {
+			throw new GQLException("SHA-256 algorithm is not available", e);
+		}
+	}
+
+}
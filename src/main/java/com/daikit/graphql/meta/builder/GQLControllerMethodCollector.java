@@ -3,12 +3,15 @@ package com.daikit.graphql.meta.builder;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.daikit.generics.utils.GenericsUtils;
 import com.daikit.graphql.custommethod.GQLCustomMethod;
 import com.daikit.graphql.custommethod.GQLCustomMethodArg;
 import com.daikit.graphql.meta.GQLMethod;
@@ -48,7 +51,7 @@ public class GQLControllerMethodCollector {
 				.setName(StringUtils.isEmpty(methodAnnotation.value()) ? method.getName() : methodAnnotation.value());
 		customMethod.setDescription(methodAnnotation.description());
 		customMethod.setType(methodAnnotation.type());
-		customMethod.setOutputType(method.getGenericReturnType());
+		customMethod.setOutputType(getOutputType(method));
 		customMethod.setController(controller);
 		customMethod.setMethod(method);
 		for (final Parameter parameter : method.getParameters()) {
@@ -62,4 +65,11 @@ public class GQLControllerMethodCollector {
 		}
 		return customMethod;
 	}
+
+	private Type getOutputType(final Method method) {
+		// Asynchronous methods results are handed to GraphQL as is, the schema type is the one of their completion value
+		return CompletionStage.class.isAssignableFrom(method.getReturnType())
+				? GenericsUtils.getTypeArguments(method.getGenericReturnType(), CompletionStage.class).get(0)
+				: method.getGenericReturnType();
+	}
 }
@@ -3,11 +3,17 @@ package com.daikit.graphql.test;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -19,10 +25,14 @@ import org.slf4j.LoggerFactory;
 
 import com.daikit.graphql.builder.GQLExecutionContext;
 import com.daikit.graphql.config.GQLSchemaConfig;
+import com.daikit.graphql.custommethod.GQLCustomMethodArg;
+import com.daikit.graphql.data.input.GQLGetByIdLoadConfig;
 import com.daikit.graphql.data.input.GQLListLoadConfig;
-import com.daikit.graphql.data.output.GQLDeleteResult;
 import com.daikit.graphql.data.output.GQLExecutionResult;
 import com.daikit.graphql.data.output.GQLListLoadResult;
+import com.daikit.graphql.datafetcher.GQLAbstractAsyncDeleteDataFetcher;
+import com.daikit.graphql.datafetcher.GQLAbstractAsyncGetByIdDataFetcher;
+import com.daikit.graphql.datafetcher.GQLAbstractAsyncGetListDataFetcher;
 import com.daikit.graphql.datafetcher.GQLAbstractDeleteDataFetcher;
 import com.daikit.graphql.datafetcher.GQLAbstractGetByIdDataFetcher;
 import com.daikit.graphql.datafetcher.GQLAbstractGetListDataFetcher;
@@ -34,7 +44,9 @@ import com.daikit.graphql.dynamicattribute.IGQLDynamicAttributeSetter;
 import com.daikit.graphql.execution.GQLErrorProcessor;
 import com.daikit.graphql.execution.GQLExecutor;
 import com.daikit.graphql.introspection.GQLIntrospection;
+import com.daikit.graphql.meta.GQLInternalMetaModel;
 import com.daikit.graphql.meta.GQLMetaModel;
+import com.daikit.graphql.test.data.AbstractEntity;
 import com.daikit.graphql.test.data.DataModel;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
@@ -45,6 +57,7 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 
 import graphql.ExecutionResult;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 
 /**
  * Super class for all tests. It initialize a data entity , a graphQL meta
@@ -59,6 +72,14 @@ public abstract class AbstractTestSuite {
 
 	protected DataModel dataModel;
 	protected GQLSchemaConfig schemaConfig;
+	protected GQLListLoadConfig lastListLoadConfig;
+	protected volatile GQLInternalMetaModel lastListLoadMetaModel;
+	protected volatile Runnable beforeListLoad;
+	protected volatile boolean cursorPagingSupported = true;
+	protected volatile RuntimeException nextGetByIdAsyncFailure;
+	protected final List<Set<String>> getByIdAttributePaths = new CopyOnWriteArrayList<>();
+	protected final AtomicInteger getByIdDataFetcherInitCount = new AtomicInteger();
+	protected volatile List<String> customMethodArgumentNames;
 	protected GQLExecutor executorManualMetaModel;
 	protected GQLExecutor executorAutomaticMetaModel;
 
@@ -89,9 +110,19 @@ public abstract class AbstractTestSuite {
 		resetDataModel();
 	}
 
-	private GQLExecutor createExecutor(GQLMetaModel metaModel) {
+	protected GQLExecutor createExecutor(GQLMetaModel metaModel) {
+		return createExecutor(metaModel, Collections.emptyList());
+	}
+
+	protected GQLExecutor createExecutor(GQLMetaModel metaModel, List<GQLExecutionContext> executionContexts) {
 		return new GQLExecutor(schemaConfig, metaModel, new GQLErrorProcessor(), createGetByIdDataFetcher(),
 				createListDataFetcher(), createSaveDataFetcher(), createDeleteDataFetcher(),
+				createCustomMethodDataFetcher(), createPropertyDataFetchers(), executionContexts);
+	}
+
+	protected GQLExecutor createAsyncExecutor(GQLMetaModel metaModel) {
+		return new GQLExecutor(schemaConfig, metaModel, new GQLErrorProcessor(), createAsyncGetByIdDataFetcher(),
+				createAsyncListDataFetcher(), createSaveDataFetcher(), createAsyncDeleteDataFetcher(),
 				createCustomMethodDataFetcher(), createPropertyDataFetchers(), Collections.emptyList());
 	}
 
@@ -181,7 +212,7 @@ public abstract class AbstractTestSuite {
 		return new GQLSchemaConfig();
 	}
 
-	private GQLMetaModel createMetaModel(boolean automatic) {
+	protected GQLMetaModel createMetaModel(boolean automatic) {
 		return new GQLMetaModelBuilder().build(automatic);
 	}
 
@@ -193,6 +224,18 @@ public abstract class AbstractTestSuite {
 				return dataModel.getById(entityClass, id);
 			}
 
+			@Override
+			protected Object getById(final Class<?> entityClass, final String id, final GQLGetByIdLoadConfig loadConfig) {
+				getByIdAttributePaths.add(loadConfig.getAttributePaths());
+				return getById(entityClass, id);
+			}
+
+			@Override
+			public void setMetaModel(final GQLInternalMetaModel metaModel) {
+				getByIdDataFetcherInitCount.incrementAndGet();
+				super.setMetaModel(metaModel);
+			}
+
 		};
 	}
 
@@ -201,9 +244,19 @@ public abstract class AbstractTestSuite {
 
 			@Override
 			protected GQLListLoadResult getAll(final Class<?> entityClass, final GQLListLoadConfig listLoadConfig) {
+				if (beforeListLoad != null) {
+					beforeListLoad.run();
+				}
+				lastListLoadConfig = listLoadConfig;
+				lastListLoadMetaModel = getMetaModel();
 				return dataModel.getAll(entityClass, listLoadConfig);
 			}
 
+			@Override
+			protected boolean supportsCursorPaging() {
+				return cursorPagingSupported;
+			}
+
 			@Override
 			protected Object getById(final Class<?> entityClass, final String id) {
 				return dataModel.getById(entityClass, id);
@@ -264,17 +317,111 @@ public abstract class AbstractTestSuite {
 		};
 	}
 
-	private DataFetcher<GQLDeleteResult> createDeleteDataFetcher() {
+	private DataFetcher<?> createDeleteDataFetcher() {
 		return new GQLAbstractDeleteDataFetcher() {
 			@Override
 			protected void delete(final Class<?> entityClass, final String id) {
 				dataModel.delete(entityClass, id);
 			}
+
+			@Override
+			protected Collection<String> deleteWhere(final Class<?> entityClass,
+					final GQLListLoadConfig listLoadConfig) {
+				final List<String> ids = dataModel.getAll(entityClass, listLoadConfig).getData().stream()
+						.map(entity -> ((AbstractEntity) entity).getId()).collect(Collectors.toList());
+				ids.forEach(id -> dataModel.delete(entityClass, id));
+				return ids;
+			}
+
+			@Override
+			protected Object getById(final Class<?> entityClass, final String id) {
+				return dataModel.getById(entityClass, id);
+			}
+		};
+	}
+
+	private DataFetcher<?> createAsyncGetByIdDataFetcher() {
+		return new GQLAbstractAsyncGetByIdDataFetcher() {
+
+			@Override
+			protected CompletableFuture<Object> getByIdAsync(final Class<?> entityClass, final String id) {
+				final RuntimeException failure = nextGetByIdAsyncFailure;
+				if (failure != null) {
+					nextGetByIdAsyncFailure = null;
+					final CompletableFuture<Object> failed = new CompletableFuture<>();
+					failed.completeExceptionally(failure);
+					return failed;
+				}
+				return CompletableFuture.supplyAsync(() -> dataModel.getById(entityClass, id).orElse(null));
+			}
+
+		};
+	}
+
+	private DataFetcher<?> createAsyncListDataFetcher() {
+		return new GQLAbstractAsyncGetListDataFetcher() {
+
+			@Override
+			protected CompletableFuture<GQLListLoadResult> getAllAsync(final Class<?> entityClass,
+					final GQLListLoadConfig listLoadConfig) {
+				return CompletableFuture.supplyAsync(() -> {
+					if (beforeListLoad != null) {
+						beforeListLoad.run();
+					}
+					return dataModel.getAll(entityClass, listLoadConfig);
+				});
+			}
+
+			@Override
+			protected boolean supportsCursorPaging() {
+				return cursorPagingSupported;
+			}
+
+			@Override
+			protected Object getById(final Class<?> entityClass, final String id) {
+				return dataModel.getById(entityClass, id);
+			}
+
+		};
+	}
+
+	private DataFetcher<?> createAsyncDeleteDataFetcher() {
+		return new GQLAbstractAsyncDeleteDataFetcher() {
+			@Override
+			protected CompletableFuture<Void> deleteAsync(final Class<?> entityClass, final String id) {
+				return CompletableFuture.runAsync(() -> dataModel.delete(entityClass, id));
+			}
+
+			@Override
+			protected CompletableFuture<Collection<String>> deleteWhereAsync(final Class<?> entityClass,
+					final GQLListLoadConfig listLoadConfig) {
+				return CompletableFuture.supplyAsync(() -> {
+					final List<String> ids = dataModel.getAll(entityClass, listLoadConfig).getData().stream()
+							.map(entity -> ((AbstractEntity) entity).getId()).collect(Collectors.toList());
+					ids.forEach(id -> dataModel.delete(entityClass, id));
+					return ids;
+				});
+			}
+
+			@Override
+			protected Object getById(final Class<?> entityClass, final String id) {
+				return dataModel.getById(entityClass, id);
+			}
 		};
 	}
 
 	private DataFetcher<?> createCustomMethodDataFetcher() {
-		return new GQLCustomMethodDataFetcher();
+		if (customMethodArgumentNames == null) {
+			return new GQLCustomMethodDataFetcher();
+		}
+		return new GQLCustomMethodDataFetcher() {
+			@Override
+			protected <T> T getArgumentValue(final DataFetchingEnvironment environment, final GQLCustomMethodArg argument,
+					final GQLDynamicAttributeRegistry dynamicAttributeRegistry) {
+				customMethodArgumentNames.add(argument.getName());
+				return super.getArgumentValue(environment, argument, dynamicAttributeRegistry);
+			}
+		};
 	}
 
 	private List<GQLPropertyDataFetcher<?>> createPropertyDataFetchers() {
@@ -1,11 +1,14 @@
 package com.daikit.graphql.test;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.daikit.graphql.builder.GQLExecutionContext;
 import com.daikit.graphql.dynamicattribute.GQLDynamicAttributeGetter;
 import com.daikit.graphql.dynamicattribute.GQLDynamicAttributeSetter;
 import com.daikit.graphql.dynamicattribute.IGQLAbstractDynamicAttribute;
@@ -399,6 +402,49 @@ public class GQLMetaModelBuilder {
 			return result;
 		}
 
+		/**
+		 * Asynchronous custom method query
+		 *
+		 * @param arg1
+		 *            first argument with type String
+		 * @return a {@link CompletableFuture} of an {@link Entity1}
+		 */
+		@GQLMethod(type = GQLMethodType.QUERY)
+		public CompletableFuture<Entity1> customMethodQueryAsync(@GQLParam("arg1") String arg1) {
+			return CompletableFuture.supplyAsync(() -> customMethodQuery1(arg1));
+		}
+
+		/**
+		 * Custom method query with the execution context as argument
+		 *
+		 * @param context
+		 *            the {@link GQLExecutionContext}, not part of the schema
+		 * @param arg1
+		 *            first argument with primitive type int
+		 * @return an {@link Entity1}
+		 */
+		@GQLMethod(type = GQLMethodType.QUERY)
+		public Entity1 customMethodQueryContext(GQLExecutionContext context, @GQLParam("arg1") int arg1) {
+			final Entity1 result = new Entity1();
+			result.setIntAttr(arg1);
+			result.setStringAttr(context == null ? "NOCONTEXT" : "CONTEXT");
+			return result;
+		}
+
+		/**
+		 * Custom method query failing with a checked exception
+		 *
+		 * @param arg1
+		 *            first argument with type String, the exception message
+		 * @return never returns
+		 * @throws IOException
+		 *             always
+		 */
+		@GQLMethod(type = GQLMethodType.QUERY)
+		public Entity1 customMethodQueryError(@GQLParam("arg1") String arg1) throws IOException {
+			throw new IOException(arg1);
+		}
+
 		/**
 		 * Custom method mutation 1
 		 *
@@ -1,12 +1,25 @@
 package com.daikit.graphql.test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.daikit.graphql.data.output.GQLDeleteAllResult;
 import com.daikit.graphql.data.output.GQLDeleteResult;
+import com.daikit.graphql.data.output.GQLExecutionResult;
+import com.daikit.graphql.datafetcher.GQLPropertyAccessors;
+import com.daikit.graphql.execution.GQLExecutor;
+import com.daikit.graphql.execution.GQLRootContext;
+import com.daikit.graphql.test.data.AbstractEntity;
 import com.daikit.graphql.test.data.EmbeddedData1;
 import com.daikit.graphql.test.data.Entity1;
 
@@ -36,6 +49,53 @@ public class MutationExecutionTest extends AbstractTestSuite {
 		Assert.assertNull(entity1Bis);
 	}
 
+	@Test
+	public void testAsyncDeleteEntity() {
+		final String mutation = readGraphql("testDeleteEntity.graphql");
+		final ExecutionResult result = handleErrors(createAsyncExecutor(createMetaModel(false)).execute(getDefaultExecutionContext(),
+				ExecutionInput.newExecutionInput().query(mutation).variables(Collections.singletonMap("id", "3")).build()));
+		Assert.assertEquals("3", toObject(result, GQLDeleteResult.class).getId());
+		Assert.assertNull(getEntity("3"));
+	}
+
+	@Test
+	public void testDeleteAllEntity() {
+		final String mutation = readGraphql("testDeleteAllEntity.graphql");
+		final ExecutionResult result = handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				ExecutionInput.newExecutionInput().query(mutation)
+						.variables(Collections.singletonMap("ids", Arrays.asList("1", "2"))).build()));
+		final GQLDeleteAllResult deleteResult = toObject(result, GQLDeleteAllResult.class);
+		Assert.assertEquals(Arrays.asList("1", "2"), deleteResult.getIds());
+		Assert.assertEquals(2, deleteResult.getCount());
+		Assert.assertEquals("Entity1", deleteResult.getTypename());
+		Assert.assertNull(getEntity("1"));
+		Assert.assertNull(getEntity("2"));
+		Assert.assertNotNull(getEntity("3"));
+	}
+
+	@Test
+	public void testDeleteWhereEntity() {
+		final String mutation = readGraphql("testDeleteWhereEntity.graphql");
+		final ExecutionResult result = handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				ExecutionInput.newExecutionInput().query(mutation).variables(Collections.singletonMap("intAttr", 3))
+						.build()));
+		final GQLDeleteAllResult deleteResult = toObject(result, GQLDeleteAllResult.class);
+		Assert.assertEquals(Arrays.asList("3"), deleteResult.getIds());
+		Assert.assertEquals(1, deleteResult.getCount());
+		Assert.assertNull(getEntity("3"));
+		Assert.assertNotNull(getEntity("2"));
+	}
+
+	@Test
+	public void testDeleteWhereEntityWithoutFilter() {
+		final ExecutionResult result = executorManualMetaModel.execute(getDefaultExecutionContext(),
+				ExecutionInput.newExecutionInput().query("mutation { deleteWhereEntity1(filter: {}) { count } }").build());
+		Assert.assertEquals(1, result.getErrors().size());
+		Assert.assertTrue(result.getErrors().get(0).getMessage().contains("require at least one filter"));
+		Assert.assertNotNull(getEntity("1"));
+		Assert.assertNotNull(getEntity("3"));
+	}
+
 	@Test
 	public void testSaveEntity() {
 		final EmbeddedData1 data1 = new EmbeddedData1();
@@ -62,6 +122,57 @@ public class MutationExecutionTest extends AbstractTestSuite {
 		Assert.assertEquals("data1", entity1Ter.getEmbeddedData1().getStringAttr());
 	}
 
+	@Test
+	public void testSaveAllEntity() {
+		final String id = "3";
+		final String mutation = readGraphql("testSaveAllEntity.graphql");
+		final ExecutionResult result = handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				ExecutionInput.newExecutionInput().query(mutation).variables(new HashMap<String, Object>() {
+					private static final long serialVersionUID = 1L;
+					{
+						put("id", id);
+						put("intAttr", 150);
+					}
+				}).build()));
+		final Entity1[] entities = toObject(result, Entity1[].class);
+		Assert.assertEquals(2, entities.length);
+		Assert.assertEquals(id, entities[0].getId());
+		Assert.assertEquals(150, entities[0].getIntAttr());
+		Assert.assertNotNull(entities[1].getId());
+		Assert.assertEquals(250, entities[1].getIntAttr());
+		Assert.assertEquals(150, getEntity(id).getIntAttr());
+		Assert.assertEquals(250, getEntity(entities[1].getId()).getIntAttr());
+	}
+
+	@Test
+	public void testSaveEntityInBatch() {
+		final List<Collection<String>> batches = new ArrayList<>();
+		schemaConfig.setEntityBatchLoader((entityClass, ids) -> {
+			batches.add(ids);
+			return ids.stream().map(id -> dataModel.getById(entityClass, id)).filter(Optional::isPresent).map(Optional::get)
+					.collect(Collectors.toMap(AbstractEntity::getId, Function.identity()));
+		});
+		final GQLExecutor batchExecutor = createExecutor(createMetaModel(false));
+		final String entity2Id = ((Entity1) dataModel.getById(Entity1.class, "3").get()).getEntity2().getId();
+		final String query = "query { getEntity1(id: \"3\") { id intAttr entity2 { id } } }";
+		final GQLRootContext rootContext = new GQLRootContext(getDefaultExecutionContext(), null);
+		batchExecutor.executeBatch(getDefaultExecutionContext(), Arrays.asList(
+				ExecutionInput.newExecutionInput().query(query).context(rootContext).build(),
+				ExecutionInput.newExecutionInput().query("mutation { saveEntity1(data: { id: \"3\", intAttr: 42 }) { id } }").build(),
+				ExecutionInput.newExecutionInput().query("mutation { saveEntity2(data: { id: \"" + entity2Id + "\" }) { id } }")
+						.build()))
+				.forEach(this::handleErrors);
+		// Saved entities are evicted from the request cache and from the entity batch loader
+		Assert.assertTrue(rootContext.getRequestCache().isEmpty());
+		Assert.assertEquals(1, batches.size());
+		final GQLExecutionResult result = handleErrors(batchExecutor
+				.executeBatch(getDefaultExecutionContext(),
+						Collections.singletonList(ExecutionInput.newExecutionInput().query(query).context(rootContext).build()))
+				.get(0));
+		Assert.assertEquals(42, toObject(result, Entity1.class).getIntAttr());
+		Assert.assertEquals(2, batches.size());
+	}
+
 	@Test
 	public void testCustomMethodMutation1() {
 		final String mutation = readGraphql("testCustomMethodMutation1.graphql");
@@ -90,6 +201,30 @@ public class MutationExecutionTest extends AbstractTestSuite {
 		Assert.assertEquals("blabla", entity1Ter.getStringAttr());
 	}
 
+	@Test
+	public void testPropertyAccessorsErrors() {
+		final GQLPropertyAccessors accessors = GQLPropertyAccessors.forClass(Entity1.class);
+		final Entity1 entity1 = accessors.newInstance();
+		accessors.setProperty(entity1, "intAttr", 5);
+		Assert.assertEquals(5, entity1.getIntAttr());
+		assertSetPropertyFails(accessors, entity1, "intAttr", "notAnInt");
+		assertSetPropertyFails(accessors, entity1, "intAttr", null);
+		assertSetPropertyFails(accessors, entity1, "unknownAttr", "value");
+		Assert.assertEquals(5, entity1.getIntAttr());
+		final GQLPropertyAccessors throwingAccessors = GQLPropertyAccessors.forClass(ThrowingSetterBean.class);
+		final ThrowingSetterBean bean = throwingAccessors.newInstance();
+		final IllegalArgumentException exception = assertSetPropertyFails(throwingAccessors, bean, "attr",
+				new IllegalStateException("Setter failure"));
+		Assert.assertEquals("Setter failure", exception.getCause().getMessage());
+		final LinkageError error = new LinkageError("Setter error");
+		try {
+			throwingAccessors.setProperty(bean, "attr", error);
+			Assert.fail("Errors thrown by setters must be rethrown");
+		} catch (final LinkageError e) {
+			Assert.assertSame(error, e);
+		}
+	}
+
 	private Entity1 getEntity(final String id) {
 		final String query = readGraphql("testGetEntity1.graphql");
 		final ExecutionResult result = handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
@@ -97,4 +232,29 @@ public class MutationExecutionTest extends AbstractTestSuite {
 		return toObject(result, Entity1.class);
 	}
 
+	private IllegalArgumentException assertSetPropertyFails(final GQLPropertyAccessors accessors, final Object target,
+			final String name, final Object value) {
+		try {
+			accessors.setProperty(target, name, value);
+		} catch (final IllegalArgumentException e) {
+			return e;
+		}
+		throw new AssertionError("Setting property [" + name + "] to [" + value + "] must fail");
+	}
+
+	public static class ThrowingSetterBean {
+
+		public Object getAttr() {
+			return null;
+		}
+
+		public void setAttr(final Object attr) {
+			if (attr instanceof RuntimeException) {
+				throw (RuntimeException) attr;
+			}
+			throw (Error) attr;
+		}
+
+	}
+
 }
@@ -1,22 +1,49 @@
 package com.daikit.graphql.test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.data.input.GQLListLoadConfig;
 import com.daikit.graphql.data.output.GQLExecutionResult;
+import com.daikit.graphql.exception.GQLExecutionTimeoutException;
+import com.daikit.graphql.exception.GQLQueryCostExceededException;
+import com.daikit.graphql.execution.GQLExecutor;
+import com.daikit.graphql.execution.GQLLazySchemaCache;
+import com.daikit.graphql.execution.GQLPreparsedDocumentCache;
+import com.daikit.graphql.execution.GQLQueryCost;
+import com.daikit.graphql.execution.GQLRootContext;
+import com.daikit.graphql.execution.IGQLPersistedQueryStore;
+import com.daikit.graphql.meta.GQLInternalMetaModel;
+import com.daikit.graphql.test.data.AbstractEntity;
 import com.daikit.graphql.test.data.EmbeddedData1;
 import com.daikit.graphql.test.data.Entity1;
 import com.daikit.graphql.test.data.Entity1ListLoadResult;
+import com.daikit.graphql.test.data.Entity2;
 import com.daikit.graphql.test.data.Enum1;
 
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
 
 /**
  * Tests verifying queries are ran correctly
@@ -36,6 +63,26 @@ public class QueryExecutionTest extends AbstractTestSuite {
 		Assert.assertEquals(3, resultData.getIntAttr());
 	}
 
+	@Test
+	public void testGetEntity1ByIds() {
+		final String query = readGraphql("testGetEntity1ByIds.graphql");
+		final ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query)
+				.variables(Collections.singletonMap("ids", Arrays.asList("3", "unknown", "1"))).build();
+		final ExecutionResult result = handleErrors(
+				executorManualMetaModel.execute(getDefaultExecutionContext(), executionInput));
+		final Entity1[] resultData = toObject(result, Entity1[].class);
+		Assert.assertEquals(3, resultData.length);
+		Assert.assertEquals(3, resultData[0].getIntAttr());
+		Assert.assertNull(resultData[1]);
+		Assert.assertEquals(1, resultData[2].getIntAttr());
+		Assert.assertEquals(result.<Object>getData(), handleErrors(createAsyncExecutor(createMetaModel(false))
+				.execute(getDefaultExecutionContext(), executionInput)).getData());
+		// 3 * (1 + 0)
+		Assert.assertEquals(3, executorManualMetaModel.getQueryCostAnalyzer().analyze(executorManualMetaModel.getSchema(),
+				new Parser().parseDocument(query).getDefinitionsOfType(OperationDefinition.class).get(0),
+				Collections.emptyMap(), executionInput.getVariables()).getCost());
+	}
+
 	@Test
 	public void testEntity1ById() {
 		final String query = readGraphql("testGetAllEntity1.graphql");
@@ -60,6 +107,53 @@ public class QueryExecutionTest extends AbstractTestSuite {
 		Assert.assertEquals("testString", resultData.getEmbeddedData1().getStringAttr());
 	}
 
+	@Test
+	public void testCustomMethodQueryAsync() {
+		final String query = readGraphql("testCustomMethodQueryAsync.graphql");
+		final ExecutionResult result = handleErrors(
+				executorManualMetaModel.execute(getDefaultExecutionContext(), ExecutionInput.newExecutionInput()
+						.query(query).variables(Collections.singletonMap("arg1", "testString")).build()));
+		final Entity1 resultData = toObject(result, Entity1.class);
+		Assert.assertEquals("testString", resultData.getStringAttr());
+		Assert.assertEquals("testString", resultData.getEmbeddedData1().getStringAttr());
+	}
+
+	@Test
+	public void testCustomMethodQueryContextArgument() {
+		final String query = "query customMethodQueryContext { customMethodQueryContext(arg1: 7) { intAttr stringAttr } }";
+		final Entity1 resultData = toObject(
+				handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(), query)), Entity1.class);
+		Assert.assertEquals(7, resultData.getIntAttr());
+		Assert.assertEquals("CONTEXT", resultData.getStringAttr());
+	}
+
+	@Test
+	public void testCustomMethodQueryError() {
+		final GQLExecutionResult result = executorManualMetaModel.execute(getDefaultExecutionContext(),
+				"query customMethodQueryError { customMethodQueryError(arg1: \"customError\") { id } }");
+		Assert.assertNotNull(result.getErrorDetails());
+		// The exception thrown by the controller method is propagated as is
+		Assert.assertTrue(result.getErrors().get(0).getMessage().contains("customError"));
+		Assert.assertFalse(result.getErrors().get(0).getMessage().contains("Throwable"));
+	}
+
+	@Test
+	public void testCustomMethodQueryArgumentValueOverridden() {
+		customMethodArgumentNames = new CopyOnWriteArrayList<>();
+		final GQLExecutor overriddenExecutor = createExecutor(createMetaModel(false));
+		final Entity1 resultData = toObject(handleErrors(overriddenExecutor.execute(getDefaultExecutionContext(),
+				"query customMethodQueryContext { customMethodQueryContext(arg1: 7) { intAttr stringAttr } }")),
+				Entity1.class);
+		Assert.assertEquals(7, resultData.getIntAttr());
+		Assert.assertEquals("CONTEXT", resultData.getStringAttr());
+		// Sub classes overriding the argument value resolution are called for each argument of each invocation
+		Assert.assertEquals(2, customMethodArgumentNames.size());
+		Assert.assertTrue(customMethodArgumentNames.contains("arg1"));
+		handleErrors(overriddenExecutor.execute(getDefaultExecutionContext(),
+				"query customMethodQuery1 { customMethodQuery1(arg1: \"testString\") { stringAttr } }"));
+		Assert.assertEquals(3, customMethodArgumentNames.size());
+	}
+
 	@Test
 	public void testCustomMethodQuery2() {
 		final String query = readGraphql("testCustomMethodQuery2.graphql");
@@ -134,4 +228,370 @@ public class QueryExecutionTest extends AbstractTestSuite {
 		Assert.assertEquals("1000", getResultDataProperty(result, "embeddedData1.dynamicAttribute2.id"));
 	}
 
+	@Test
+	public void testPreparsedDocumentCache() {
+		final String query = readGraphql("testGetEntity1.graphql");
+		final GQLPreparsedDocumentCache cache = executorManualMetaModel.getPreparsedDocumentCache().get();
+		final long misses = cache.getMissCount();
+		final long hits = cache.getHitCount();
+		for (final String id : Arrays.asList("1", "2", "3")) {
+			final ExecutionResult result = handleErrors(
+					executorManualMetaModel.execute(getDefaultExecutionContext(), ExecutionInput.newExecutionInput()
+							.query(query).variables(Collections.singletonMap("id", id)).build()));
+			Assert.assertEquals(Integer.parseInt(id), toObject(result, Entity1.class).getIntAttr());
+		}
+		Assert.assertEquals(misses + 1, cache.getMissCount());
+		Assert.assertEquals(hits + 2, cache.getHitCount());
+	}
+
+	@Test
+	public void testPreparsedDocumentCacheKeyAndEviction() {
+		final GQLPreparsedDocumentCache cache = new GQLPreparsedDocumentCache(2, 0);
+		final Function<ExecutionInput, PreparsedDocumentEntry> parse = executionInput -> new PreparsedDocumentEntry(
+				new Parser().parseDocument(executionInput.getQuery()));
+		final ExecutionInput executionInput = ExecutionInput.newExecutionInput().query("{ a }").build();
+		final GQLExecutionContext executionContext = new GQLExecutionContext();
+		executionContext.setRoles(Collections.singletonList("role1"));
+		cache.getDocument(executionContext, executionInput, parse);
+		// Changing the context afterwards does not affect the cached document key
+		executionContext.setRoles(Collections.singletonList("role2"));
+		final GQLExecutionContext role1ExecutionContext = new GQLExecutionContext();
+		role1ExecutionContext.setRoles(Collections.singletonList("role1"));
+		cache.getDocument(role1ExecutionContext, executionInput, parse);
+		Assert.assertEquals(1, cache.getMissCount());
+		Assert.assertEquals(1, cache.getHitCount());
+		cache.getDocument(executionContext, executionInput, parse);
+		cache.getDocument(role1ExecutionContext, executionInput, parse);
+		// The least recently used document is evicted
+		cache.getDocument(GQLExecutionContext.DEFAULT, executionInput, parse);
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(1, cache.getEvictionCount());
+		cache.getDocument(role1ExecutionContext, executionInput, parse);
+		Assert.assertEquals(3, cache.getMissCount());
+		Assert.assertEquals(3, cache.getHitCount());
+	}
+
+	@Test
+	public void testPersistedQuery() {
+		final String query = readGraphql("testGetEntity1.graphql");
+		final String hash = IGQLPersistedQueryStore.computeHash(query);
+		final GQLExecutionResult notFoundResult = executorManualMetaModel.executePersisted(getDefaultExecutionContext(),
+				hash, null, null, null, Collections.singletonMap("id", "3"));
+		Assert.assertEquals(GQLExecutor.PERSISTED_QUERY_NOT_FOUND, notFoundResult.getErrors().get(0).getMessage());
+		// Registration is disabled by default
+		final GQLExecutionResult notSupportedResult = executorManualMetaModel.executePersisted(getDefaultExecutionContext(),
+				hash, query, null, null, Collections.singletonMap("id", "3"));
+		Assert.assertEquals(GQLExecutor.PERSISTED_QUERY_NOT_SUPPORTED, notSupportedResult.getErrors().get(0).getMessage());
+		schemaConfig.setPersistedQueryRegistrationEnabled(true);
+		executorManualMetaModel = createExecutor(createMetaModel(false));
+		final GQLExecutionResult mismatchResult = executorManualMetaModel.executePersisted(getDefaultExecutionContext(),
+				IGQLPersistedQueryStore.computeHash("{}"), query, null, null, Collections.singletonMap("id", "3"));
+		Assert.assertEquals(GQLExecutor.PERSISTED_QUERY_HASH_MISMATCH, mismatchResult.getErrors().get(0).getMessage());
+		final ExecutionResult registerResult = handleErrors(executorManualMetaModel.executePersisted(
+				getDefaultExecutionContext(), hash.toUpperCase(Locale.ROOT), query, null, null, Collections.singletonMap("id", "3")));
+		Assert.assertEquals(3, toObject(registerResult, Entity1.class).getIntAttr());
+		final ExecutionResult persistedResult = handleErrors(executorManualMetaModel.executePersisted(
+				getDefaultExecutionContext(), hash, null, null, null, Collections.singletonMap("id", "2")));
+		Assert.assertEquals(2, toObject(persistedResult, Entity1.class).getIntAttr());
+	}
+
+	@Test
+	public void testGetEntity1Async() throws Exception {
+		final String query = readGraphql("testGetEntity1.graphql");
+		final ExecutionResult result = handleErrors(executorManualMetaModel.executeAsync(getDefaultExecutionContext(),
+				ExecutionInput.newExecutionInput().query(query).variables(Collections.singletonMap("id", "3")).build())
+				.get());
+		Assert.assertEquals(3, toObject(result, Entity1.class).getIntAttr());
+	}
+
+	@Test
+	public void testExecuteBatch() {
+		final String query = readGraphql("testGetEntity1.graphql");
+		final GQLRootContext rootContext = new GQLRootContext(getDefaultExecutionContext(), null);
+		final List<GQLExecutionResult> results = executorManualMetaModel.executeBatch(getDefaultExecutionContext(),
+				Arrays.asList(
+						ExecutionInput.newExecutionInput().query(query).context(rootContext)
+								.variables(Collections.singletonMap("id", "3")).build(),
+						ExecutionInput.newExecutionInput().query(query).variables(Collections.singletonMap("id", "3"))
+								.build(),
+						ExecutionInput.newExecutionInput().query(query).variables(Collections.singletonMap("id", "2"))
+								.build()));
+		Assert.assertEquals(3, results.size());
+		Assert.assertEquals(3, toObject(handleErrors(results.get(0)), Entity1.class).getIntAttr());
+		Assert.assertEquals(3, toObject(handleErrors(results.get(1)), Entity1.class).getIntAttr());
+		Assert.assertEquals(2, toObject(handleErrors(results.get(2)), Entity1.class).getIntAttr());
+		Assert.assertEquals(2, rootContext.getRequestCache().size());
+	}
+
+	@Test
+	public void testExecuteBatchWithProjections() {
+		final GQLRootContext rootContext = new GQLRootContext(getDefaultExecutionContext(), null);
+		final List<GQLExecutionResult> results = executorManualMetaModel.executeBatch(getDefaultExecutionContext(),
+				Arrays.asList(
+						ExecutionInput.newExecutionInput().query("query { getEntity1(id: \"3\") { id intAttr } }")
+								.context(rootContext).build(),
+						ExecutionInput.newExecutionInput().query("query { getEntity1(id: \"3\") { id } }").build(),
+						ExecutionInput.newExecutionInput().query("query { getEntity1(id: \"3\") { id stringAttr } }")
+								.build()));
+		results.forEach(this::handleErrors);
+		Assert.assertEquals("3", toObject(results.get(1), Entity1.class).getId());
+		Assert.assertNotNull(toObject(results.get(2), Entity1.class).getStringAttr());
+		// The second operation projection is covered by the first one, the third one is not
+		Assert.assertEquals(2, getByIdAttributePaths.size());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("id", "stringAttr")), getByIdAttributePaths.get(1));
+		Assert.assertEquals(1, rootContext.getRequestCache().size());
+	}
+
+	@Test
+	public void testExecuteBatchAsyncAfterFailedLoad() {
+		final GQLExecutor asyncExecutor = createAsyncExecutor(createMetaModel(false));
+		final GQLRootContext rootContext = new GQLRootContext(getDefaultExecutionContext(), null);
+		nextGetByIdAsyncFailure = new IllegalStateException("Backend unavailable");
+		final List<GQLExecutionResult> results = asyncExecutor.executeBatch(getDefaultExecutionContext(),
+				Arrays.asList(
+						ExecutionInput.newExecutionInput().query("query { getEntity1(id: \"3\") { id intAttr } }")
+								.context(rootContext).build(),
+						ExecutionInput.newExecutionInput().query("query { getEntity1(id: \"3\") { id intAttr } }").build()));
+		// The failed load is not cached, the second operation loads the entity again
+		Assert.assertFalse(results.get(0).getErrors().isEmpty());
+		Assert.assertEquals(3, toObject(handleErrors(results.get(1)), Entity1.class).getIntAttr());
+	}
+
+	@Test
+	public void testLazySchemaBuild() {
+		schemaConfig.setLazySchemaBuildEnabled(true);
+		schemaConfig.setLazySchemaCacheMaxSize(1);
+		final GQLExecutor lazyExecutor = createExecutor(createMetaModel(false));
+		final GQLLazySchemaCache lazySchemaCache = lazyExecutor.getLazySchemaCache().get();
+		Assert.assertEquals(0, lazySchemaCache.size());
+		final int initCount = getByIdDataFetcherInitCount.get();
+		final GQLExecutionContext executionContext = new GQLExecutionContext();
+		executionContext.setRoles(Collections.singletonList("role1"));
+		final String query = readGraphql("testGetEntity1.graphql");
+		final List<Integer> results = Arrays.asList("1", "2", "3", "4").parallelStream()
+				.map(id -> toObject(handleErrors(lazyExecutor.execute(executionContext, ExecutionInput
+						.newExecutionInput().query(query).variables(Collections.singletonMap("id", id)).build())),
+						Entity1.class).getIntAttr())
+				.collect(Collectors.toList());
+		Assert.assertEquals(Arrays.asList(1, 2, 3, 4), results);
+		Assert.assertEquals(1, lazySchemaCache.getMissCount());
+		Assert.assertEquals(3, lazySchemaCache.getHitCount());
+		lazyExecutor.getSchema(getDefaultExecutionContext());
+		Assert.assertEquals(1, lazySchemaCache.size());
+		Assert.assertEquals(1, lazySchemaCache.getEvictionCount());
+		// Data fetchers are initialized once with the schema state, not again on each schema built on a miss
+		Assert.assertEquals(initCount, getByIdDataFetcherInitCount.get());
+	}
+
+	@Test
+	public void testReload() throws Exception {
+		final String query = readGraphql("testGetEntity1.graphql");
+		final ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query)
+				.variables(Collections.singletonMap("id", "3")).build();
+		final GraphQLSchema schema = executorManualMetaModel.getSchema();
+		final GQLInternalMetaModel metaModel = executorManualMetaModel.getMetaModel();
+		executorManualMetaModel.reload(createMetaModel(false)).get();
+		Assert.assertNotSame(schema, executorManualMetaModel.getSchema());
+		Assert.assertNotSame(metaModel, executorManualMetaModel.getMetaModel());
+		Assert.assertEquals(3, toObject(handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				executionInput)), Entity1.class).getIntAttr());
+		// Concurrent reloads : the most recently requested one wins
+		final CompletableFuture<Void> firstReload = executorManualMetaModel.reload(createMetaModel(false));
+		final CompletableFuture<Void> secondReload = executorManualMetaModel.reload(createMetaModel(true));
+		CompletableFuture.allOf(firstReload, secondReload).get();
+		Assert.assertEquals(3, toObject(handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				executionInput)), Entity1.class).getIntAttr());
+	}
+
+	@Test
+	public void testReloadWhileExecuting() throws Exception {
+		final String query = readGraphql("testGetAllEntity1.graphql");
+		final GQLInternalMetaModel metaModel = executorManualMetaModel.getMetaModel();
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch reloaded = new CountDownLatch(1);
+		beforeListLoad = () -> {
+			loading.countDown();
+			try {
+				reloaded.await(10, TimeUnit.SECONDS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		final CompletableFuture<GQLExecutionResult> execution = CompletableFuture
+				.supplyAsync(() -> executorManualMetaModel.execute(getDefaultExecutionContext(), query));
+		Assert.assertTrue(loading.await(10, TimeUnit.SECONDS));
+		executorManualMetaModel.reload(createMetaModel(false)).get();
+		reloaded.countDown();
+		// The running request finishes on the meta model it started with
+		handleErrors(execution.get(10, TimeUnit.SECONDS));
+		Assert.assertSame(metaModel, lastListLoadMetaModel);
+		beforeListLoad = null;
+		handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(), query));
+		Assert.assertNotSame(metaModel, lastListLoadMetaModel);
+		Assert.assertSame(executorManualMetaModel.getMetaModel(), lastListLoadMetaModel);
+	}
+
+	@Test
+	public void testExecutionTimeout() {
+		schemaConfig.setQueryTimeoutMillis(60 * 1000);
+		final GQLExecutor timeoutExecutor = createExecutor(createMetaModel(false));
+		final String query = readGraphql("testGetAllEntity1.graphql");
+		handleErrors(timeoutExecutor.execute(getDefaultExecutionContext(), query));
+		Assert.assertEquals(0, timeoutExecutor.getCancelledExecutionCount());
+		final GQLRootContext expiredRootContext = new GQLRootContext(getDefaultExecutionContext(), null) {
+			@Override
+			public boolean isExpired() {
+				return true;
+			}
+		};
+		final GQLExecutionResult result = timeoutExecutor.execute(getDefaultExecutionContext(),
+				ExecutionInput.newExecutionInput().query(query).context(expiredRootContext).build());
+		Assert.assertEquals(GQLExecutionTimeoutException.class.getSimpleName(), result.getErrorDetails().getType());
+		Assert.assertEquals(1, timeoutExecutor.getCancelledExecutionCount());
+	}
+
+	@Test
+	public void testQueryCost() {
+		final String query = "query getAllEntity1 { getAllEntity1(paging: {limit: 5, offset: 0}) "
+				+ "{ data { id entity2 { id } entity3s { id } } } }";
+		// 5 * (1 + 1 for entity2 + 10 * 1 for entity3s)
+		final GQLQueryCost queryCost = executorManualMetaModel.getQueryCostAnalyzer().analyze(executorManualMetaModel.getSchema(),
+				new Parser().parseDocument(query).getDefinitionsOfType(OperationDefinition.class).get(0),
+				Collections.emptyMap(), Collections.emptyMap());
+		Assert.assertEquals(60, queryCost.getCost());
+		Assert.assertEquals(4, queryCost.getDepth());
+		schemaConfig.setMaxQueryCost(50);
+		schemaConfig.setMaxQueryDepth(4);
+		final GQLExecutor costExecutor = createExecutor(createMetaModel(false));
+		handleErrors(costExecutor.execute(getDefaultExecutionContext(), readGraphql("testGetAllEntity1.graphql")));
+		final GQLExecutionResult result = costExecutor.execute(getDefaultExecutionContext(), query);
+		Assert.assertNull(result.getData());
+		Assert.assertEquals(GQLQueryCostExceededException.class.getSimpleName(), result.getErrorDetails().getType());
+		Assert.assertEquals(1, costExecutor.getRejectedQueryCount());
+	}
+
+	@Test
+	public void testEntityBatchLoading() {
+		final String query = "query getAllEntity1 { getAllEntity1 { data { id entity2 { id entity1s { id } } } } }";
+		final List<Collection<String>> batches = new ArrayList<>();
+		schemaConfig.setEntityBatchLoader((entityClass, ids) -> {
+			batches.add(ids);
+			return ids.stream().map(id -> dataModel.getById(entityClass, id)).filter(Optional::isPresent).map(Optional::get)
+					.collect(Collectors.toMap(AbstractEntity::getId, Function.identity()));
+		});
+		final GQLExecutor batchExecutor = createExecutor(createMetaModel(false));
+		final GQLExecutionResult result = handleErrors(batchExecutor.execute(getDefaultExecutionContext(), query));
+		Assert.assertEquals(handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(), query)).<Object>getData(),
+				result.getData());
+		// All entity2 references of the returned entity1 are loaded with a single call
+		Assert.assertEquals(1, batches.size());
+		Assert.assertEquals(5, batches.get(0).size());
+	}
+
+	@Test
+	public void testEntityListBatchLoading() {
+		final String query = "query getAllEntity2 { getAllEntity2 { data { id entity1s { id } } } }";
+		final List<Collection<String>> batches = new ArrayList<>();
+		schemaConfig.setEntityListBatchLoader((parentClass, attributeName, parentIds) -> {
+			batches.add(parentIds);
+			return parentIds.stream().map(id -> dataModel.getById(parentClass, id)).filter(Optional::isPresent)
+					.map(Optional::get).collect(Collectors.toMap(AbstractEntity::getId,
+							parent -> ((Entity2) parent).getEntity1s()));
+		});
+		final GQLExecutor batchExecutor = createExecutor(createMetaModel(false));
+		final GQLExecutionResult result = handleErrors(batchExecutor.execute(getDefaultExecutionContext(), query));
+		Assert.assertEquals(handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(), query)).<Object>getData(),
+				result.getData());
+		// Children of all returned entity2 are loaded with a single call
+		Assert.assertEquals(1, batches.size());
+	}
+
+	@Test
+	public void testListLoadConfigSelection() {
+		handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				"query getAllEntity1 { getAllEntity1 { data { id __typename entity2 { id } } paging { limit } } }"));
+		Assert.assertEquals(Arrays.asList("id", "entity2", "entity2.id"),
+				new ArrayList<>(lastListLoadConfig.getAttributePaths()));
+		Assert.assertTrue(lastListLoadConfig.isAttributeRequested("entity2"));
+		Assert.assertFalse(lastListLoadConfig.isAttributeRequested("intAttr"));
+		Assert.assertFalse(lastListLoadConfig.isTotalLengthRequested());
+		handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				"query getAllEntity1 { getAllEntity1 { data { id } paging { totalLength } } }"));
+		Assert.assertTrue(lastListLoadConfig.isTotalLengthRequested());
+	}
+
+	@Test
+	public void testListLoadConfigSelectionWithAliases() {
+		handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				"query getAllEntity1 { getAllEntity1 { items: data { key: id reference: entity2 { id } } } }"));
+		Assert.assertEquals(Arrays.asList("id", "entity2", "entity2.id"),
+				new ArrayList<>(lastListLoadConfig.getAttributePaths()));
+	}
+
+	@Test
+	public void testTotalLengthRequested() {
+		// Configs built outside of the data fetchers request the total length
+		Assert.assertTrue(new GQLListLoadConfig().isTotalLengthRequested());
+		handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				"query getAllEntity1 { getAllEntity1 { data { id } } }"));
+		Assert.assertFalse(lastListLoadConfig.isTotalLengthRequested());
+		handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				"query getAllEntity1 { getAllEntity1 { paging { offset limit } } }"));
+		Assert.assertFalse(lastListLoadConfig.isTotalLengthRequested());
+		// Selection through aliases and fragments is taken into account
+		final GQLExecutionResult result = executorManualMetaModel.execute(getDefaultExecutionContext(),
+				"query getAllEntity1 { getAllEntity1(paging: {limit: 2, offset: 0}) { paging { count: totalLength } } }");
+		handleErrors(result);
+		Assert.assertTrue(lastListLoadConfig.isTotalLengthRequested());
+		Assert.assertEquals(5L, ((Number) getResultDataProperty(result, "paging.count")).longValue());
+		handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+				"query getAllEntity1 { getAllEntity1 { paging { ...pagingFields } } }"
+						+ " fragment pagingFields on PagingOutputType { totalLength }"));
+		Assert.assertTrue(lastListLoadConfig.isTotalLengthRequested());
+	}
+
+	@Test
+	public void testCursorPaging() {
+		final String query = readGraphql("testGetAllEntity1Cursor.graphql");
+		final List<Integer> intAttrs = new ArrayList<>();
+		String after = null;
+		do {
+			final ExecutionResult result = handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(),
+					ExecutionInput.newExecutionInput().query(query)
+							.variables(Collections.singletonMap("after", after)).build()));
+			final Entity1ListLoadResult resultData = toObject(result, Entity1ListLoadResult.class);
+			resultData.getData().forEach(entity -> intAttrs.add(entity.getIntAttr()));
+			Assert.assertEquals(2, resultData.getPaging().getLimit());
+			Assert.assertEquals(resultData.getPaging().isHasNext(), resultData.getPaging().getNextCursor() != null);
+			if (after != null) {
+				// The keyset of the last entity of the previous page is decoded with its type, the ID being last
+				Assert.assertEquals(Arrays.asList("intAttr", "id"), new ArrayList<>(lastListLoadConfig.getAfter().keySet()));
+				Assert.assertEquals(Integer.valueOf(intAttrs.get(intAttrs.size() - resultData.getData().size() - 1)),
+						lastListLoadConfig.getAfter().get("intAttr"));
+			}
+			after = resultData.getPaging().getNextCursor();
+		} while (after != null);
+		Assert.assertEquals(Arrays.asList(4, 3, 2, 1, 0), intAttrs);
+	}
+
+	@Test
+	public void testCursorPagingNotSupported() {
+		// A backend not loading entities after the cursor keyset would return the first page forever
+		cursorPagingSupported = false;
+		final ExecutionResult result = executorManualMetaModel.execute(getDefaultExecutionContext(),
+				ExecutionInput.newExecutionInput().query(readGraphql("testGetAllEntity1Cursor.graphql"))
+						.variables(Collections.singletonMap("after", null)).build());
+		Assert.assertEquals(1, result.getErrors().size());
+		Assert.assertTrue(result.getErrors().get(0).getMessage().contains("Cursor paging is not supported"));
+		Assert.assertNull(lastListLoadConfig);
+	}
+
+	@Test
+	public void testAsyncDataFetchers() {
+		final String query = "query getEntity1 { getAllEntity1 { data { id entity2 { id } } } getEntity1(id: \"3\") { id stringAttr } }";
+		final GQLExecutor asyncExecutor = createAsyncExecutor(createMetaModel(false));
+		Assert.assertEquals(handleErrors(executorManualMetaModel.execute(getDefaultExecutionContext(), query)).<Object>getData(),
+				handleErrors(asyncExecutor.execute(getDefaultExecutionContext(), query)).getData());
+	}
+
 }
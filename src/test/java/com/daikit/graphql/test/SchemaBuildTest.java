@@ -10,9 +10,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.daikit.graphql.builder.GQLExecutionContext;
+import com.daikit.graphql.builder.GQLExecutionContext.GQLRolesJunctionEnum;
 import com.daikit.graphql.config.GQLJavaScalars;
 import com.daikit.graphql.data.output.GQLExecutionResult;
 import com.daikit.graphql.enums.GQLOrderByDirectionEnum;
+import com.daikit.graphql.execution.GQLExecutor;
+import com.daikit.graphql.introspection.GQLIntrospection;
 import com.daikit.graphql.test.data.EmbeddedData1;
 import com.daikit.graphql.test.data.EmbeddedData2;
 import com.daikit.graphql.test.data.EmbeddedData3;
@@ -25,6 +29,7 @@ import com.daikit.graphql.test.data.Entity7;
 import com.daikit.graphql.test.data.Entity8;
 import com.daikit.graphql.test.data.Entity9;
 import com.daikit.graphql.test.data.Enum1;
+import com.daikit.graphql.test.data.Roles;
 import com.daikit.graphql.test.introspection.IntrospectionEnum;
 import com.daikit.graphql.test.introspection.IntrospectionFullType;
 import com.daikit.graphql.test.introspection.IntrospectionInputValue;
@@ -34,7 +39,9 @@ import com.daikit.graphql.test.introspection.IntrospectionTypeKindEnum;
 import com.daikit.graphql.utils.Message;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import graphql.ExecutionResult;
 import graphql.Scalars;
+import graphql.schema.GraphQLSchema;
 
 /**
  * Test verifying schema is built correctly
@@ -197,16 +204,20 @@ public class SchemaBuildTest extends AbstractTestSuite {
 
 		// PagingInputType
 		final IntrospectionFullType pagingInputType = getFullType(introspection, getPagingInputTypeName());
-		Assert.assertEquals(2, pagingInputType.getInputFields().size());
+		Assert.assertEquals(4, pagingInputType.getInputFields().size());
 		assertInputField(pagingInputType, "offset", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLInt.getName());
 		assertInputField(pagingInputType, "limit", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLInt.getName());
+		assertInputField(pagingInputType, "first", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLInt.getName());
+		assertInputField(pagingInputType, "after", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLString.getName());
 
 		// PagingOutputType
 		final IntrospectionFullType pagingOutputType = getFullType(introspection, getPagingOutputTypeName());
-		Assert.assertEquals(3, pagingOutputType.getFields().size());
+		Assert.assertEquals(5, pagingOutputType.getFields().size());
 		assertField(pagingOutputType, "offset", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLInt.getName());
 		assertField(pagingOutputType, "limit", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLInt.getName());
 		assertField(pagingOutputType, "totalLength", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLLong.getName());
+		assertField(pagingOutputType, "nextCursor", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLString.getName());
+		assertField(pagingOutputType, "hasNext", IntrospectionTypeKindEnum.SCALAR, Scalars.GraphQLBoolean.getName());
 	}
 
 	/**
@@ -548,6 +559,108 @@ public class SchemaBuildTest extends AbstractTestSuite {
 		Assert.assertEquals(jsonManual, jsonAutomatic);
 	}
 
+	/**
+	 * Test schemas built in parallel are the same as schemas built
+	 * sequentially
+	 *
+	 * @throws JsonProcessingException
+	 *             when an error occurred while converting schema introspection
+	 *             to string
+	 */
+	@Test
+	public void testParallelSchemaBuild() throws JsonProcessingException {
+		final List<GQLExecutionContext> executionContexts = Arrays.asList("role1", "role2", "role3").stream()
+				.map(role -> {
+					final GQLExecutionContext executionContext = new GQLExecutionContext();
+					executionContext.setRoles(Arrays.asList(role));
+					return executionContext;
+				}).collect(Collectors.toList());
+		schemaConfig.setSchemaBuildParallelism(4);
+		final GQLExecutor parallelExecutor = createExecutor(createMetaModel(false), executionContexts);
+		Assert.assertEquals(4, parallelExecutor.getAllExecutionContexts().size());
+		executionContexts.forEach(
+				executionContext -> Assert.assertTrue(parallelExecutor.getSchema(executionContext).isPresent()));
+		final String jsonSequential = WRITER_PRETTY.writeValueAsString(
+				getSchemaIntrospection(getDefaultExecutionContext(), false).toSpecification());
+		final String jsonParallel = WRITER_PRETTY.writeValueAsString(GQLIntrospection
+				.getAllTypes(query -> parallelExecutor.execute(getDefaultExecutionContext(), query))
+				.toSpecification());
+		Assert.assertEquals(jsonSequential, jsonParallel);
+	}
+
+	/**
+	 * Test role independent types are shared between execution context
+	 * schemas
+	 */
+	@Test
+	public void testSharedTypes() {
+		final GQLExecutionContext executionContext = new GQLExecutionContext();
+		executionContext.setRoles(Arrays.asList("role1"));
+		final GQLExecutor executor = createExecutor(createMetaModel(false), Arrays.asList(executionContext));
+		final GraphQLSchema defaultSchema = executor.getSchema(getDefaultExecutionContext()).get();
+		final GraphQLSchema contextSchema = executor.getSchema(executionContext).get();
+		Arrays.asList(getPagingInputTypeName(), getPagingOutputTypeName(), getOrderByInputTypeName(),
+				getOrderByOutputTypeName(), getOrderByDirectionOutputTypeName(), Enum1.class.getSimpleName())
+				.forEach(typeName -> Assert.assertSame(typeName, defaultSchema.getType(typeName),
+						contextSchema.getType(typeName)));
+		Assert.assertNotSame(defaultSchema.getType(Entity1.class.getSimpleName()),
+				contextSchema.getType(Entity1.class.getSimpleName()));
+	}
+
+	/**
+	 * Test single schema field visibility is the same as the one of schemas
+	 * built for each execution context
+	 */
+	@Test
+	public void testSingleSchema() {
+		final GQLExecutionContext role1ExecutionContext = new GQLExecutionContext();
+		role1ExecutionContext.setRoles(Arrays.asList(Roles.ROLE1));
+		final GQLExecutionContext role2ExecutionContext = new GQLExecutionContext();
+		role2ExecutionContext.setRoles(Arrays.asList(Roles.ROLE2));
+		final GQLExecutionContext role1AndRole3ExecutionContext = new GQLExecutionContext();
+		role1AndRole3ExecutionContext.setRoles(Arrays.asList(Roles.ROLE1, Roles.ROLE3));
+		role1AndRole3ExecutionContext.setRolesJunction(GQLRolesJunctionEnum.AND);
+		final List<GQLExecutionContext> executionContexts = Arrays.asList(getDefaultExecutionContext(),
+				role1ExecutionContext, role2ExecutionContext, role1AndRole3ExecutionContext);
+		final GQLExecutor perContextExecutor = createExecutor(createMetaModel(false), executionContexts);
+		schemaConfig.setSingleSchemaEnabled(true);
+		final GQLExecutor singleSchemaExecutor = createExecutor(createMetaModel(false));
+		Assert.assertSame(singleSchemaExecutor.getSchema(getDefaultExecutionContext()).get(),
+				singleSchemaExecutor.getSchema(role1AndRole3ExecutionContext).get());
+		final List<String> typeNames = Arrays.asList(Entity6.class.getSimpleName(),
+				Entity6.class.getSimpleName() + schemaConfig.getInputTypeNameSuffix(), schemaConfig.getQueryTypeName(),
+				schemaConfig.getMutationTypeName());
+		executionContexts.forEach(executionContext -> {
+			final IntrospectionResult expected = getIntrospection(perContextExecutor, executionContext);
+			final IntrospectionResult actual = getIntrospection(singleSchemaExecutor, executionContext);
+			typeNames.forEach(typeName -> Assert.assertEquals(
+					Message.format("Wrong fields in [{}] for context [{}]", typeName, executionContext),
+					getFieldNames(getFullType(expected, typeName)), getFieldNames(getFullType(actual, typeName))));
+		});
+		// Field readable for ROLE2 but not for ROLE1 is rejected at validation
+		// for ROLE1 only
+		final String query = "{ " + schemaConfig.getQueryGetListPrefix() + Entity6.class.getSimpleName()
+				+ " { data { attr20 } } }";
+		handleErrors(singleSchemaExecutor.execute(role2ExecutionContext, query));
+		Assert.assertNotNull(singleSchemaExecutor.execute(role1ExecutionContext, query).getErrorDetails());
+		// Without bound context, visibility is the one of the default context
+		Assert.assertFalse(singleSchemaExecutor.getFieldVisibility().get().isVisible(Entity6.class.getSimpleName(), "attr20"));
+		// Sub fields of asynchronously fetched data are resolved with the request context, on the thread completing the load
+		final Entity6 entity6 = new Entity6();
+		entity6.setAttr20("attr20");
+		dataModel.save(entity6);
+		beforeListLoad = () -> {
+			try {
+				Thread.sleep(100);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		final ExecutionResult asyncResult = handleErrors(
+				createAsyncExecutor(createMetaModel(false)).execute(role2ExecutionContext, query));
+		Assert.assertTrue(asyncResult.getData().toString().contains("attr20"));
+	}
+
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
 	// PRIVATE METHODS
 	// *-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-
@@ -587,6 +700,19 @@ public class SchemaBuildTest extends AbstractTestSuite {
 				IntrospectionResult.class);
 	}
 
+	private IntrospectionResult getIntrospection(final GQLExecutor executor,
+			final GQLExecutionContext executionContext) {
+		return MAPPER.convertValue(GQLIntrospection.getAllTypes(query -> executor.execute(executionContext, query))
+				.toSpecification(), IntrospectionResult.class);
+	}
+
+	private List<String> getFieldNames(final IntrospectionFullType fullType) {
+		return fullType.getFields() != null
+				? fullType.getFields().stream().map(IntrospectionTypeField::getName).collect(Collectors.toList())
+				: fullType.getInputFields().stream().map(IntrospectionInputValue::getName)
+						.collect(Collectors.toList());
+	}
+
 	// FullTypes
 
 	private IntrospectionFullType getFullType(final IntrospectionResult introspection, final Class<?> entityClass) {
@@ -204,14 +204,6 @@ public class DataModel {
 		final List<?> all = database.get(entityClass);
 		Stream<?> stream = all.stream();
 
-		// Handle paging
-		if (listLoadConfig.getOffset() > 0) {
-			stream = stream.skip(listLoadConfig.getOffset());
-		}
-		if (listLoadConfig.getLimit() > 0) {
-			stream = stream.limit(listLoadConfig.getLimit());
-		}
-
 		// Handle sorting
 		if (!listLoadConfig.getOrderBy().isEmpty()) {
 			final List<Comparator<Object>> comparators = listLoadConfig.getOrderBy().stream()
@@ -241,6 +233,20 @@ public class DataModel {
 				});
 			}
 		}
+
+		// Handle cursor paging
+		if (!listLoadConfig.getAfter().isEmpty()) {
+			stream = stream.filter(entity -> isAfter(entity, listLoadConfig));
+		}
+
+		// Handle paging
+		if (listLoadConfig.getOffset() > 0) {
+			stream = stream.skip(listLoadConfig.getOffset());
+		}
+		if (listLoadConfig.getLimit() > 0) {
+			stream = stream.limit(listLoadConfig.getLimit());
+		}
+
 		final GQLListLoadResult result = new GQLListLoadResult();
 		result.setData(stream.collect(Collectors.toList()));
 		if (listLoadConfig.isPaged()) {
@@ -252,6 +258,24 @@ public class DataModel {
 		return result;
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private boolean isAfter(final Object entity, final GQLListLoadConfig listLoadConfig) {
+		for (final GQLOrderByEntry orderBy : listLoadConfig.getOrderBy()) {
+			final Object value;
+			try {
+				value = FieldUtils.readField(entity, orderBy.getField(), true);
+			} catch (final IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
+			final int comparison = (GQLOrderByDirectionEnum.DESC.equals(orderBy.getDirection()) ? -1 : 1)
+					* ((Comparable) value).compareTo(listLoadConfig.getAfter().get(orderBy.getField()));
+			if (comparison != 0) {
+				return comparison > 0;
+			}
+		}
+		return false;
+	}
+
 	private Comparator<Object> createEntityComparator(final GQLOrderByEntry orderBy) {
 		return new Comparator<Object>() {
 			@SuppressWarnings({"rawtypes", "unchecked"})
@@ -327,7 +351,7 @@ public class DataModel {
 					break;
 			}
 		} else if (Integer.class.isAssignableFrom(propertyType) || int.class.isAssignableFrom(propertyType)) {
-			final Integer propertyValue = (Integer) FieldUtils.readField(entity, filterEntry.getFieldName());
+			final Integer propertyValue = (Integer) FieldUtils.readField(entity, filterEntry.getFieldName(), true);
 			switch (filterEntry.getOperator()) {
 				case EQUAL :
 					matching = propertyValue.intValue() == ((Integer) filterEntry.getValue()).intValue();